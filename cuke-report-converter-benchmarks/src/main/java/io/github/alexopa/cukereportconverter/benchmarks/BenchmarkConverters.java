@@ -0,0 +1,54 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.benchmarks;
+
+import java.util.Map;
+
+import io.github.alexopa.cukereportconverter.config.CukeConverterProperties;
+import io.github.alexopa.cukereportconverter.config.CukeConverterPropertyHandler;
+import io.github.alexopa.cukereportconverter.service.CukeConverter;
+
+/**
+ * Creates the {@link CukeConverter}s of the benchmarks. The properties of the
+ * converter are passed as system properties, which are read once when the
+ * converter is created, and are restored right after.
+ */
+final class BenchmarkConverters {
+
+	private BenchmarkConverters() {
+	}
+
+	/**
+	 * Creates a {@link CukeConverter} with the default properties, except for the
+	 * given ones
+	 *
+	 * @param properties A {@link Map} with the values of the properties to set
+	 * @return A new {@link CukeConverter}
+	 */
+	static CukeConverter create(Map<CukeConverterProperties, String> properties) {
+		for (CukeConverterProperties prop : CukeConverterProperties.values()) {
+			System.setProperty(prop.getPropertyName(), properties.getOrDefault(prop, prop.getDefaultValue()));
+		}
+		try {
+			return new CukeConverter(new CukeConverterPropertyHandler());
+		} finally {
+			for (CukeConverterProperties prop : CukeConverterProperties.values()) {
+				System.clearProperty(prop.getPropertyName());
+			}
+		}
+	}
+}
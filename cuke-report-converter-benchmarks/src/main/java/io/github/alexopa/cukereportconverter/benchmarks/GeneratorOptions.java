@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.benchmarks;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The options of a {@link ReportGenerator}. They define the number and the size
+ * of the generated reports, along with the ratios of the different kinds of
+ * scenarios. Reports generated with the same options are identical.
+ */
+@Getter
+@Builder(toBuilder = true)
+@ToString
+public class GeneratorOptions {
+
+	/**
+	 * The seed of the random values of the reports
+	 */
+	@Builder.Default
+	private long seed = 42;
+	/**
+	 * The number of report files
+	 */
+	@Builder.Default
+	private int files = 1;
+	/**
+	 * The number of features of each report file
+	 */
+	@Builder.Default
+	private int featuresPerFile = 4;
+	/**
+	 * The number of scenarios of each feature
+	 */
+	@Builder.Default
+	private int scenariosPerFeature = 25;
+	/**
+	 * The number of steps of each scenario
+	 */
+	@Builder.Default
+	private int stepsPerScenario = 8;
+	/**
+	 * The ratio of the features that have a background
+	 */
+	@Builder.Default
+	private double backgroundRatio = 0.0;
+	/**
+	 * The number of steps of a background
+	 */
+	@Builder.Default
+	private int backgroundSteps = 3;
+	/**
+	 * The ratio of the scenarios that are examples of a scenario outline
+	 */
+	@Builder.Default
+	private double outlineRatio = 0.0;
+	/**
+	 * The ratio of the scenarios that fail. A failing scenario has a failed step
+	 * and the steps after it are skipped
+	 */
+	@Builder.Default
+	private double failureRate = 0.0;
+	/**
+	 * The number of embeddings of each step
+	 */
+	@Builder.Default
+	private int embeddingsPerStep = 0;
+	/**
+	 * The size of the payload of each embedding, in bytes
+	 */
+	@Builder.Default
+	private int embeddingSize = 0;
+	/**
+	 * The number of distinct scenario tags of the reports
+	 */
+	@Builder.Default
+	private int tagCardinality = 16;
+	/**
+	 * The number of tags of each scenario, chosen from the distinct tags
+	 */
+	@Builder.Default
+	private int tagsPerScenario = 2;
+	/**
+	 * The ratio of the features of each file that have the same name in all the
+	 * files, so they are merged by the converter. These are the first features of
+	 * each file
+	 */
+	@Builder.Default
+	private double duplicateFeatureRatio = 0.0;
+	/**
+	 * The depth of the before and after hooks nested under each step
+	 */
+	@Builder.Default
+	private int hookDepth = 0;
+}
@@ -0,0 +1,107 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.benchmarks;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alexopa.cukereportconverter.config.CukeConverterProperties;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
+import io.github.alexopa.cukereportconverter.service.CukeConverter;
+
+/**
+ * Measures the merging of the features of multiple report files, that repeat
+ * the same feature names, with and without
+ * {@link CukeConverterProperties#CONVERTER_MERGE_FEATURES}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MergeBenchmark {
+
+	@Param({ "1000", "10000" })
+	private int scenarios;
+
+	@Param({ "2", "16" })
+	private int files;
+
+	@Param({ "true", "false" })
+	private String mergeFeatures;
+
+	private List<File> reportFiles;
+	private CukeConverter converter;
+	private List<List<CukeFeature>> convertedFiles;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		reportFiles = ReportFixtures.writeReports(ReportFixtures.options(files, scenarios).build());
+		converter = BenchmarkConverters
+				.create(Map.of(CukeConverterProperties.CONVERTER_MERGE_FEATURES, mergeFeatures));
+	}
+
+	/**
+	 * Converts each report file on its own before every invocation of
+	 * {@link #merge()}, since merging moves the scenarios to the merged features.
+	 */
+	@Setup(Level.Invocation)
+	public void convertFiles() {
+		convertedFiles = new ArrayList<>();
+		for (File file : reportFiles) {
+			convertedFiles.add(converter.convertToCukeFeature(converter.convertCucumberJsonFiles(List.of(file))));
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		ReportFixtures.deleteReports(reportFiles);
+	}
+
+	@Benchmark
+	public List<CukeFeature> merge() {
+		List<CukeFeature> features = new ArrayList<>();
+		for (List<CukeFeature> fileFeatures : convertedFiles) {
+			converter.mergeCukeFeatures(features, fileFeatures);
+		}
+		return features;
+	}
+
+	@Benchmark
+	public CukeTestRun convertToTestRun() {
+		return converter.convertToTestRun(reportFiles);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.benchmarks;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
+import io.github.alexopa.cukereportconverter.service.CukeConverter;
+
+/**
+ * Measures the conversion of reports whose steps have before and after hooks,
+ * nested to a given depth.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NestedHooksBenchmark {
+
+	@Param({ "100", "1000" })
+	private int scenarios;
+
+	@Param({ "1", "4", "8" })
+	private int hookDepth;
+
+	private List<File> files;
+	private CukeConverter converter;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		files = ReportFixtures.writeReports(ReportFixtures.options(1, scenarios).hookDepth(hookDepth).build());
+		converter = BenchmarkConverters.create(Map.of());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		ReportFixtures.deleteReports(files);
+	}
+
+	@Benchmark
+	public CukeTestRun convertToTestRun() {
+		return converter.convertToTestRun(files);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes the cucumber json reports that are used by the benchmarks with a
+ * {@link ReportGenerator}. The reports are written to temporary files, so the
+ * benchmarks read them from disk as the converter does in a real test-run.
+ */
+final class ReportFixtures {
+
+	private ReportFixtures() {
+	}
+
+	/**
+	 * Returns a builder of the {@link GeneratorOptions} of a report with the given
+	 * number of files and scenarios in total, that are spread over 4 features per
+	 * file. The features have the same names in all the files, a quarter of them
+	 * have a background, and a fifth of the scenarios are outline examples and
+	 * one in twenty fails.
+	 *
+	 * @param files     The number of report files
+	 * @param scenarios The total number of scenarios
+	 * @return A builder of the {@link GeneratorOptions} of the report
+	 */
+	static GeneratorOptions.GeneratorOptionsBuilder options(int files, int scenarios) {
+		return GeneratorOptions.builder().files(files).featuresPerFile(4)
+				.scenariosPerFeature(Math.max(1, scenarios / (4 * files))).duplicateFeatureRatio(1.0)
+				.backgroundRatio(0.25).outlineRatio(0.2).failureRate(0.05);
+	}
+
+	/**
+	 * Writes the reports of a {@link GeneratorOptions} to a temporary directory
+	 *
+	 * @param options The {@link GeneratorOptions} of the reports
+	 * @return A {@link List} with the written report {@link File}s
+	 */
+	static List<File> writeReports(GeneratorOptions options) {
+		try {
+			Path dir = Files.createTempDirectory("cuke-benchmark-");
+			return new ReportGenerator(options).generate(dir).stream().map(Path::toFile).toList();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Deletes the report files written by {@link #writeReports(GeneratorOptions)}
+	 *
+	 * @param files The {@link List} of report {@link File}s
+	 */
+	static void deleteReports(List<File> files) {
+		for (File file : files) {
+			file.delete();
+		}
+		if (!files.isEmpty()) {
+			files.get(0).getParentFile().delete();
+		}
+	}
+}
@@ -0,0 +1,338 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Generates synthetic cucumber json reports, that follow the schema of the
+ * {@link io.github.alexopa.cukereportconverter.model.jsonreport report model}.
+ * The reports are written token by token, so their size is not limited by the
+ * available memory. Each report file is generated from its own seed, derived
+ * from {@link GeneratorOptions#getSeed()}, so a file is the same regardless of
+ * the other files or the order they are written.
+ */
+@RequiredArgsConstructor
+public class ReportGenerator {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+	private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter
+			.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+	private static final LocalDateTime START = LocalDateTime.of(2024, 8, 23, 14, 24, 54);
+	private static final String[] KEYWORDS = { "Given ", "When ", "Then ", "And " };
+	private static final String[] MIME_TYPES = { "image/png", "text/plain", "application/json" };
+
+	@Getter
+	private final GeneratorOptions options;
+
+	/**
+	 * Writes all the report files to a directory, named
+	 * <code>report_&lt;index&gt;.json</code>
+	 *
+	 * @param dir The {@link Path} of the directory. It is created if it does not
+	 *            exist
+	 * @return A {@link List} with the {@link Path}s of the written files
+	 * @throws IOException In case a file cannot be written
+	 */
+	public List<Path> generate(Path dir) throws IOException {
+		Files.createDirectories(dir);
+		List<Path> files = new ArrayList<>();
+		for (int i = 0; i < options.getFiles(); i++) {
+			Path file = dir.resolve("report_" + i + ".json");
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+				writeReport(i, out);
+			}
+			files.add(file);
+		}
+		return files;
+	}
+
+	/**
+	 * Writes a single report file to an {@link OutputStream}. The stream is not
+	 * closed.
+	 *
+	 * @param fileIndex The index of the file, between <code>0</code> and
+	 *                  {@link GeneratorOptions#getFiles()}
+	 * @param out       The {@link OutputStream} to write to
+	 * @throws IOException In case the report cannot be written
+	 */
+	public void writeReport(int fileIndex, OutputStream out) throws IOException {
+		SplittableRandom random = new SplittableRandom(options.getSeed() * 31 + fileIndex);
+		try (JsonGenerator gen = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+			gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			FileState state = new FileState(random, START.plusHours(fileIndex));
+			gen.writeStartArray();
+			for (int f = 0; f < options.getFeaturesPerFile(); f++) {
+				writeFeature(gen, state, fileIndex, f);
+			}
+			gen.writeEndArray();
+		}
+	}
+
+	private void writeFeature(JsonGenerator gen, FileState state, int fileIndex, int featureIndex)
+			throws IOException {
+		boolean duplicate = featureIndex < Math.round(options.getDuplicateFeatureRatio() * options.getFeaturesPerFile());
+		String name = duplicate ? "Shared feature " + featureIndex : "Feature " + fileIndex + "-" + featureIndex;
+		String id = name.toLowerCase().replace(' ', '-');
+		boolean hasBackground = state.random.nextDouble() < options.getBackgroundRatio();
+
+		gen.writeStartObject();
+		gen.writeNumberField("line", 1);
+		gen.writeArrayFieldStart("elements");
+		int line = 3;
+		int outlineExample = 0;
+		for (int s = 0; s < options.getScenariosPerFeature(); s++) {
+			if (hasBackground) {
+				writeBackground(gen, state);
+			}
+			boolean outline = state.random.nextDouble() < options.getOutlineRatio();
+			outlineExample = outline ? outlineExample + 1 : 0;
+			writeScenario(gen, state, id, s, line, outline ? outlineExample : 0);
+			line += options.getStepsPerScenario() + 2;
+		}
+		gen.writeEndArray();
+		gen.writeStringField("name", name);
+		gen.writeStringField("description", "");
+		gen.writeStringField("id", id);
+		gen.writeStringField("keyword", "Feature");
+		gen.writeStringField("uri", "classpath:features/" + id + ".feature");
+		gen.writeArrayFieldStart("tags");
+		writeTag(gen, "@generated");
+		writeTag(gen, "@" + id);
+		gen.writeEndArray();
+		gen.writeEndObject();
+	}
+
+	private void writeBackground(JsonGenerator gen, FileState state) throws IOException {
+		gen.writeStartObject();
+		gen.writeNumberField("line", 2);
+		gen.writeStringField("name", "Common setup");
+		gen.writeStringField("description", "");
+		gen.writeStringField("type", "background");
+		gen.writeStringField("keyword", "Background");
+		gen.writeArrayFieldStart("steps");
+		for (int i = 0; i < options.getBackgroundSteps(); i++) {
+			writeStep(gen, state, i, 2 + i, "passed");
+		}
+		gen.writeEndArray();
+		gen.writeEndObject();
+	}
+
+	private void writeScenario(JsonGenerator gen, FileState state, String featureId, int index, int line,
+			int outlineExample) throws IOException {
+		int steps = options.getStepsPerScenario();
+		boolean failed = steps > 0 && state.random.nextDouble() < options.getFailureRate();
+		int failedStep = failed ? state.random.nextInt(steps) : steps;
+
+		gen.writeStartObject();
+		gen.writeStringField("start_timestamp", TIMESTAMP_FORMATTER.format(state.clock));
+		gen.writeArrayFieldStart("before");
+		writeHook(gen, state, "Hooks.initializeScenario(io.cucumber.java.Scenario)", 0, false);
+		gen.writeEndArray();
+		gen.writeNumberField("line", line);
+		gen.writeStringField("name", "Scenario " + index);
+		gen.writeStringField("description", "");
+		gen.writeStringField("id", featureId + ";scenario-" + index + (outlineExample > 0 ? ";;" + outlineExample : ""));
+		gen.writeArrayFieldStart("after");
+		writeHook(gen, state, "Hooks.cleanUpScenario(io.cucumber.java.Scenario)", 0, false);
+		gen.writeEndArray();
+		gen.writeStringField("type", "scenario");
+		gen.writeStringField("keyword", outlineExample > 0 ? "Scenario Outline" : "Scenario");
+		gen.writeArrayFieldStart("steps");
+		for (int i = 0; i < steps; i++) {
+			String status = i < failedStep ? "passed" : i == failedStep ? "failed" : "skipped";
+			writeStep(gen, state, i, line + 1 + i, status);
+		}
+		gen.writeEndArray();
+		gen.writeArrayFieldStart("tags");
+		writeTag(gen, "@generated");
+		for (int i = 0; i < options.getTagsPerScenario() && options.getTagCardinality() > 0; i++) {
+			writeTag(gen, "@tag-" + state.random.nextInt(options.getTagCardinality()));
+		}
+		gen.writeEndArray();
+		gen.writeEndObject();
+	}
+
+	private void writeStep(JsonGenerator gen, FileState state, int index, int line, String status)
+			throws IOException {
+		gen.writeStartObject();
+		writeResult(gen, state, status);
+		if (options.getHookDepth() > 0) {
+			gen.writeArrayFieldStart("before");
+			writeHook(gen, state, "Hooks.beforeStep()", options.getHookDepth() - 1, true);
+			gen.writeEndArray();
+		}
+		gen.writeNumberField("line", line);
+		gen.writeStringField("name", "I perform action number " + index);
+		gen.writeObjectFieldStart("match");
+		gen.writeArrayFieldStart("arguments");
+		gen.writeStartObject();
+		gen.writeStringField("val", Integer.toString(index));
+		gen.writeNumberField("offset", 24);
+		gen.writeEndObject();
+		gen.writeEndArray();
+		gen.writeStringField("location", "StepDefinitions.action_number(int)");
+		gen.writeEndObject();
+		if (options.getHookDepth() > 0) {
+			gen.writeArrayFieldStart("after");
+			writeHook(gen, state, "Hooks.afterStep()", options.getHookDepth() - 1, false);
+			gen.writeEndArray();
+		}
+		if (options.getEmbeddingsPerStep() > 0) {
+			gen.writeArrayFieldStart("embeddings");
+			for (int e = 0; e < options.getEmbeddingsPerStep(); e++) {
+				writeEmbedding(gen, state, e);
+			}
+			gen.writeEndArray();
+		}
+		gen.writeStringField("keyword", KEYWORDS[Math.min(index, KEYWORDS.length - 1)]);
+		gen.writeEndObject();
+	}
+
+	private void writeHook(JsonGenerator gen, FileState state, String location, int nestedHooks, boolean before)
+			throws IOException {
+		gen.writeStartObject();
+		writeResult(gen, state, "passed");
+		gen.writeObjectFieldStart("match");
+		gen.writeStringField("location", location);
+		gen.writeEndObject();
+		if (nestedHooks > 0) {
+			gen.writeArrayFieldStart(before ? "before" : "after");
+			writeHook(gen, state, location, nestedHooks - 1, before);
+			gen.writeEndArray();
+		}
+		gen.writeEndObject();
+	}
+
+	private void writeResult(JsonGenerator gen, FileState state, String status) throws IOException {
+		long duration = "skipped".equals(status) ? 0 : 100_000L + state.random.nextLong(50_000_000L);
+		state.clock = state.clock.plusNanos(duration);
+
+		gen.writeObjectFieldStart("result");
+		gen.writeNumberField("duration", duration);
+		gen.writeStringField("status", status);
+		if ("failed".equals(status)) {
+			gen.writeStringField("error_message", "java.lang.AssertionError: expected [true] but found [false]");
+		}
+		gen.writeEndObject();
+	}
+
+	private void writeEmbedding(JsonGenerator gen, FileState state, int index) throws IOException {
+		if (state.payload.length != options.getEmbeddingSize()) {
+			state.payload = new byte[options.getEmbeddingSize()];
+		}
+		state.random.nextBytes(state.payload);
+
+		gen.writeStartObject();
+		gen.writeFieldName("data");
+		gen.writeBinary(state.payload);
+		gen.writeStringField("mime_type", MIME_TYPES[index % MIME_TYPES.length]);
+		gen.writeStringField("name", "embedding-" + index);
+		gen.writeEndObject();
+	}
+
+	private void writeTag(JsonGenerator gen, String name) throws IOException {
+		gen.writeStartObject();
+		gen.writeStringField("name", name);
+		gen.writeStringField("type", "Tag");
+		gen.writeEndObject();
+	}
+
+	/**
+	 * Generates report files from the command line. The first argument is the
+	 * output directory and the rest are options in the form
+	 * <code>name=value</code>, where name is a property of
+	 * {@link GeneratorOptions}, ie: <code>target/reports files=8
+	 * scenariosPerFeature=1000 embeddingsPerStep=1 embeddingSize=65536</code>
+	 *
+	 * @param args The output directory, followed by the options
+	 * @throws IOException In case a file cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length == 0) {
+			System.err.println("Usage: ReportGenerator <output-dir> [option=value ...]");
+			System.exit(1);
+		}
+		GeneratorOptions.GeneratorOptionsBuilder builder = GeneratorOptions.builder();
+		for (int i = 1; i < args.length; i++) {
+			String[] option = args[i].split("=", 2);
+			if (option.length != 2) {
+				throw new IllegalArgumentException("Invalid option: " + args[i]);
+			}
+			setOption(builder, option[0], option[1]);
+		}
+		GeneratorOptions options = builder.build();
+
+		long totalBytes = 0;
+		for (Path file : new ReportGenerator(options).generate(Path.of(args[0]))) {
+			totalBytes += Files.size(file);
+		}
+		System.out.printf("Generated %d report files, %d bytes, with %s%n", options.getFiles(), totalBytes, options);
+	}
+
+	private static void setOption(GeneratorOptions.GeneratorOptionsBuilder builder, String name, String value) {
+		switch (name) {
+		case "seed" -> builder.seed(Long.parseLong(value));
+		case "files" -> builder.files(Integer.parseInt(value));
+		case "featuresPerFile" -> builder.featuresPerFile(Integer.parseInt(value));
+		case "scenariosPerFeature" -> builder.scenariosPerFeature(Integer.parseInt(value));
+		case "stepsPerScenario" -> builder.stepsPerScenario(Integer.parseInt(value));
+		case "backgroundRatio" -> builder.backgroundRatio(Double.parseDouble(value));
+		case "backgroundSteps" -> builder.backgroundSteps(Integer.parseInt(value));
+		case "outlineRatio" -> builder.outlineRatio(Double.parseDouble(value));
+		case "failureRate" -> builder.failureRate(Double.parseDouble(value));
+		case "embeddingsPerStep" -> builder.embeddingsPerStep(Integer.parseInt(value));
+		case "embeddingSize" -> builder.embeddingSize(Integer.parseInt(value));
+		case "tagCardinality" -> builder.tagCardinality(Integer.parseInt(value));
+		case "tagsPerScenario" -> builder.tagsPerScenario(Integer.parseInt(value));
+		case "duplicateFeatureRatio" -> builder.duplicateFeatureRatio(Double.parseDouble(value));
+		case "hookDepth" -> builder.hookDepth(Integer.parseInt(value));
+		default -> throw new IllegalArgumentException("Unknown option: " + name);
+		}
+	}
+
+	/**
+	 * The state of the file that is currently generated
+	 */
+	private static class FileState {
+
+		private final SplittableRandom random;
+		private LocalDateTime clock;
+		private byte[] payload = new byte[0];
+
+		FileState(SplittableRandom random, LocalDateTime clock) {
+			this.random = random;
+			this.clock = clock;
+		}
+	}
+}
@@ -34,4 +34,89 @@ public class CukeConverterDefaultValues {
 	 */
 	protected static final boolean DEFAULT_CONVERTER_MERGE_FEATURES = true;
 
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_STREAMING_PARSE} property
+	 */
+	protected static final boolean DEFAULT_CONVERTER_STREAMING_PARSE = false;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_PARALLEL_PARSE} property
+	 */
+	protected static final boolean DEFAULT_CONVERTER_PARALLEL_PARSE = false;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_PARALLELISM} property
+	 */
+	protected static final int DEFAULT_CONVERTER_PARALLELISM = 0;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_MEMORY_MAPPED_READ} property
+	 */
+	protected static final boolean DEFAULT_CONVERTER_MEMORY_MAPPED_READ = false;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_EMBEDDING_STORAGE} property
+	 */
+	protected static final EmbeddingStorageType DEFAULT_CONVERTER_EMBEDDING_STORAGE = EmbeddingStorageType.HEAP;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_EMBEDDING_SPILL_DIR} property
+	 */
+	protected static final String DEFAULT_CONVERTER_EMBEDDING_SPILL_DIR = "";
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_STEP_FIELDS} property
+	 */
+	protected static final String DEFAULT_CONVERTER_STEP_FIELDS = "";
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_ELEMENT_FIELDS} property
+	 */
+	protected static final String DEFAULT_CONVERTER_ELEMENT_FIELDS = "";
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_JSON_PARSER} property
+	 */
+	protected static final JsonParserType DEFAULT_CONVERTER_JSON_PARSER = JsonParserType.DATABIND;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_FUSED_CONVERSION} property
+	 */
+	protected static final boolean DEFAULT_CONVERTER_FUSED_CONVERSION = false;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_STRING_POOL_SIZE} property
+	 */
+	protected static final int DEFAULT_CONVERTER_STRING_POOL_SIZE = 0;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_MERGE_KEY} property
+	 */
+	protected static final FeatureMergeKey DEFAULT_CONVERTER_MERGE_KEY = FeatureMergeKey.NAME;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_PARALLEL_CONVERSION} property
+	 */
+	protected static final boolean DEFAULT_CONVERTER_PARALLEL_CONVERSION = false;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_COLUMNAR_STEPS} property
+	 */
+	protected static final boolean DEFAULT_CONVERTER_COLUMNAR_STEPS = false;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_PARSE_CACHE_DIR} property
+	 */
+	protected static final String DEFAULT_CONVERTER_PARSE_CACHE_DIR = "";
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_PARSE_CACHE_MAX_SIZE} property
+	 */
+	protected static final int DEFAULT_CONVERTER_PARSE_CACHE_MAX_SIZE = 512;
+
+	/**
+	 * The default value of {@link CukeConverterProperties#CONVERTER_TAG_INDEX} property
+	 */
+	protected static final boolean DEFAULT_CONVERTER_TAG_INDEX = false;
+
 }
@@ -39,7 +39,120 @@ public enum CukeConverterProperties {
 	 * (even if they are from different files/reports) are added in the same feature
 	 */
 	CONVERTER_MERGE_FEATURES("cuke-converter.mergeFeatures",
-			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_MERGE_FEATURES));
+			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_MERGE_FEATURES)),
+	/**
+	 * Property that defines if the cucumber json files should be parsed in
+	 * streaming mode while converting them to a test-run. In this mode, the
+	 * features of a report are read one at a time and are converted immediately,
+	 * so a report file is never fully loaded in memory
+	 */
+	CONVERTER_STREAMING_PARSE("cuke-converter.streamingParse",
+			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_STREAMING_PARSE)),
+	/**
+	 * Property that defines if multiple cucumber json files should be parsed in
+	 * parallel. The files are still returned in the order they were given
+	 */
+	CONVERTER_PARALLEL_PARSE("cuke-converter.parallelParse",
+			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_PARALLEL_PARSE)),
+	/**
+	 * Property that defines the number of threads used when files are parsed in
+	 * parallel. A value less than or equal to zero means that the number of
+	 * available processors is used
+	 */
+	CONVERTER_PARALLELISM("cuke-converter.parallelism",
+			Integer.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_PARALLELISM)),
+	/**
+	 * Property that defines if cucumber json files should be read through a
+	 * memory-mapped {@link java.nio.channels.FileChannel} instead of a plain file
+	 * stream
+	 */
+	CONVERTER_MEMORY_MAPPED_READ("cuke-converter.memoryMappedRead",
+			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_MEMORY_MAPPED_READ)),
+	/**
+	 * Property that defines where the payload of the embeddings is kept after
+	 * conversion. One of the values of {@link EmbeddingStorageType}
+	 */
+	CONVERTER_EMBEDDING_STORAGE("cuke-converter.embeddingStorage",
+			CukeConverterDefaultValues.DEFAULT_CONVERTER_EMBEDDING_STORAGE.name()),
+	/**
+	 * Property that defines the directory where embedding spill files are
+	 * created, when {@link EmbeddingStorageType#SPILL_FILE} is used. If empty, the
+	 * default temporary directory is used
+	 */
+	CONVERTER_EMBEDDING_SPILL_DIR("cuke-converter.embeddingSpillDir",
+			CukeConverterDefaultValues.DEFAULT_CONVERTER_EMBEDDING_SPILL_DIR),
+	/**
+	 * Property that defines a comma separated list with the json fields of the
+	 * steps that should be parsed. The rest of the fields are skipped. If empty,
+	 * all fields are parsed
+	 */
+	CONVERTER_STEP_FIELDS("cuke-converter.stepFields", CukeConverterDefaultValues.DEFAULT_CONVERTER_STEP_FIELDS),
+	/**
+	 * Property that defines a comma separated list with the json fields of the
+	 * elements (scenarios and backgrounds) that should be parsed. The rest of the
+	 * fields are skipped. If empty, all fields are parsed
+	 */
+	CONVERTER_ELEMENT_FIELDS("cuke-converter.elementFields",
+			CukeConverterDefaultValues.DEFAULT_CONVERTER_ELEMENT_FIELDS),
+	/**
+	 * Property that defines the parser used to read the cucumber json reports.
+	 * Possible values are the ones of {@link JsonParserType}
+	 */
+	CONVERTER_JSON_PARSER("cuke-converter.jsonParser", CukeConverterDefaultValues.DEFAULT_CONVERTER_JSON_PARSER.name()),
+	/**
+	 * Property that defines if the json tokens of the reports are converted
+	 * straight to the cuke model while converting them to a test-run, without
+	 * building the objects of the cucumber report model first
+	 */
+	CONVERTER_FUSED_CONVERSION("cuke-converter.fusedConversion",
+			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_FUSED_CONVERSION)),
+	/**
+	 * Property that defines the number of slots of the pool that canonicalizes
+	 * the repeated strings of the converted test-run, like step keywords, names,
+	 * tags, match locations and error messages. A value less than or equal to zero
+	 * disables the pool
+	 */
+	CONVERTER_STRING_POOL_SIZE("cuke-converter.stringPoolSize",
+			Integer.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_STRING_POOL_SIZE)),
+	/**
+	 * Property that defines the key that identifies the features that are merged,
+	 * when {@link #CONVERTER_MERGE_FEATURES} is enabled. Possible values are the
+	 * ones of {@link FeatureMergeKey}
+	 */
+	CONVERTER_MERGE_KEY("cuke-converter.mergeKey",
+			CukeConverterDefaultValues.DEFAULT_CONVERTER_MERGE_KEY.name()),
+	/**
+	 * Property that defines if the parsed features should be converted to the
+	 * cuke model in parallel, on a fork/join pool with
+	 * {@link #CONVERTER_PARALLELISM} threads
+	 */
+	CONVERTER_PARALLEL_CONVERSION("cuke-converter.parallelConversion",
+			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_PARALLEL_CONVERSION)),
+	/**
+	 * Property that defines if the steps of the converted scenarios should be
+	 * kept in columnar step lists, instead of a {@code CukeStep} object per step
+	 */
+	CONVERTER_COLUMNAR_STEPS("cuke-converter.columnarSteps",
+			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_COLUMNAR_STEPS)),
+	/**
+	 * Property that defines the directory of the on-disk cache of converted
+	 * report files. If empty, the cache is disabled
+	 */
+	CONVERTER_PARSE_CACHE_DIR("cuke-converter.parseCacheDir",
+			CukeConverterDefaultValues.DEFAULT_CONVERTER_PARSE_CACHE_DIR),
+	/**
+	 * Property that defines the maximum size, in megabytes, of the on-disk cache
+	 * of converted report files. The least recently used entries are evicted
+	 * when the cache grows beyond it
+	 */
+	CONVERTER_PARSE_CACHE_MAX_SIZE("cuke-converter.parseCacheMaxSize",
+			Integer.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_PARSE_CACHE_MAX_SIZE)),
+	/**
+	 * Property that defines if a bitmap index of the tags of the scenarios
+	 * should be built for each converted test-run
+	 */
+	CONVERTER_TAG_INDEX("cuke-converter.tagIndex",
+			Boolean.toString(CukeConverterDefaultValues.DEFAULT_CONVERTER_TAG_INDEX));
 
 	private final String propertyName;
 	private final String defaultValue;
@@ -22,9 +22,13 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
@@ -134,9 +138,212 @@ public class CukeConverterPropertyHandler {
 		return getPropertyAsBoolean(CukeConverterProperties.CONVERTER_MERGE_FEATURES);
 	}
 
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_STREAMING_PARSE} property
+	 * 
+	 * @return a <code>boolean</code> with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_STREAMING_PARSE} property
+	 */
+	public boolean isStreamingParse() {
+		return getPropertyAsBoolean(CukeConverterProperties.CONVERTER_STREAMING_PARSE);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_PARALLEL_PARSE} property
+	 * 
+	 * @return a <code>boolean</code> with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_PARALLEL_PARSE} property
+	 */
+	public boolean isParallelParse() {
+		return getPropertyAsBoolean(CukeConverterProperties.CONVERTER_PARALLEL_PARSE);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_PARALLELISM}
+	 * property. In case the property is not a positive number, the number of
+	 * available processors is returned.
+	 * 
+	 * @return an <code>int</code> with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_PARALLELISM} property
+	 */
+	public int getParallelism() {
+		int parallelism = getPropertyAsInt(CukeConverterProperties.CONVERTER_PARALLELISM);
+		return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_MEMORY_MAPPED_READ} property
+	 * 
+	 * @return a <code>boolean</code> with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_MEMORY_MAPPED_READ} property
+	 */
+	public boolean isMemoryMappedRead() {
+		return getPropertyAsBoolean(CukeConverterProperties.CONVERTER_MEMORY_MAPPED_READ);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_EMBEDDING_STORAGE} property
+	 * 
+	 * @return an {@link EmbeddingStorageType} with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_EMBEDDING_STORAGE} property
+	 */
+	public EmbeddingStorageType getEmbeddingStorage() {
+		return getPropertyAsEnum(CukeConverterProperties.CONVERTER_EMBEDDING_STORAGE, EmbeddingStorageType.class);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_EMBEDDING_SPILL_DIR} property
+	 * 
+	 * @return a {@link String} with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_EMBEDDING_SPILL_DIR} property
+	 */
+	public String getEmbeddingSpillDir() {
+		return getPropertyAsString(CukeConverterProperties.CONVERTER_EMBEDDING_SPILL_DIR);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_STEP_FIELDS} property
+	 * 
+	 * @return a {@link Set} with the values of
+	 *         {@link CukeConverterProperties#CONVERTER_STEP_FIELDS} property
+	 */
+	public Set<String> getStepFields() {
+		return getPropertyAsSet(CukeConverterProperties.CONVERTER_STEP_FIELDS);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_ELEMENT_FIELDS} property
+	 * 
+	 * @return a {@link Set} with the values of
+	 *         {@link CukeConverterProperties#CONVERTER_ELEMENT_FIELDS} property
+	 */
+	public Set<String> getElementFields() {
+		return getPropertyAsSet(CukeConverterProperties.CONVERTER_ELEMENT_FIELDS);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_JSON_PARSER} property
+	 * 
+	 * @return a {@link JsonParserType} with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_JSON_PARSER} property
+	 */
+	public JsonParserType getJsonParser() {
+		return getPropertyAsEnum(CukeConverterProperties.CONVERTER_JSON_PARSER, JsonParserType.class);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_FUSED_CONVERSION} property
+	 * 
+	 * @return a boolean with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_FUSED_CONVERSION} property
+	 */
+	public boolean isFusedConversion() {
+		return getPropertyAsBoolean(CukeConverterProperties.CONVERTER_FUSED_CONVERSION);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_STRING_POOL_SIZE} property
+	 * 
+	 * @return an <code>int</code> with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_STRING_POOL_SIZE} property
+	 */
+	public int getStringPoolSize() {
+		return getPropertyAsInt(CukeConverterProperties.CONVERTER_STRING_POOL_SIZE);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_MERGE_KEY} property
+	 * 
+	 * @return a {@link FeatureMergeKey} with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_MERGE_KEY} property
+	 */
+	public FeatureMergeKey getMergeKey() {
+		return getPropertyAsEnum(CukeConverterProperties.CONVERTER_MERGE_KEY, FeatureMergeKey.class);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_PARALLEL_CONVERSION} property
+	 * 
+	 * @return a boolean with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_PARALLEL_CONVERSION} property
+	 */
+	public boolean isParallelConversion() {
+		return getPropertyAsBoolean(CukeConverterProperties.CONVERTER_PARALLEL_CONVERSION);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_COLUMNAR_STEPS} property
+	 * 
+	 * @return a boolean with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_COLUMNAR_STEPS} property
+	 */
+	public boolean isColumnarSteps() {
+		return getPropertyAsBoolean(CukeConverterProperties.CONVERTER_COLUMNAR_STEPS);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_PARSE_CACHE_DIR} property
+	 * 
+	 * @return a {@link String} with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_PARSE_CACHE_DIR} property
+	 */
+	public String getParseCacheDir() {
+		return getPropertyAsString(CukeConverterProperties.CONVERTER_PARSE_CACHE_DIR);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_PARSE_CACHE_MAX_SIZE} property
+	 * 
+	 * @return an <code>int</code> with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_PARSE_CACHE_MAX_SIZE} property
+	 */
+	public int getParseCacheMaxSize() {
+		return getPropertyAsInt(CukeConverterProperties.CONVERTER_PARSE_CACHE_MAX_SIZE);
+	}
+
+	/**
+	 * Returns value of {@link CukeConverterProperties#CONVERTER_TAG_INDEX} property
+	 * 
+	 * @return a boolean with the value of
+	 *         {@link CukeConverterProperties#CONVERTER_TAG_INDEX} property
+	 */
+	public boolean isTagIndex() {
+		return getPropertyAsBoolean(CukeConverterProperties.CONVERTER_TAG_INDEX);
+	}
+
 	private boolean getPropertyAsBoolean(CukeConverterProperties prop) {
 		String value = props.getProperty(prop.getPropertyName());
 		return null != value ? Boolean.parseBoolean(value) : Boolean.parseBoolean(prop.getDefaultValue());
 	}
 
+	private int getPropertyAsInt(CukeConverterProperties prop) {
+		String value = props.getProperty(prop.getPropertyName());
+		try {
+			return Integer.parseInt(null != value ? value.trim() : prop.getDefaultValue());
+		} catch (NumberFormatException e) {
+			throw new CukeConverterException(
+					String.format("Invalid value %s for property %s", value, prop.getPropertyName()), e);
+		}
+	}
+
+	private String getPropertyAsString(CukeConverterProperties prop) {
+		String value = props.getProperty(prop.getPropertyName());
+		return null != value ? value.trim() : prop.getDefaultValue();
+	}
+
+	private Set<String> getPropertyAsSet(CukeConverterProperties prop) {
+		return Stream.of(getPropertyAsString(prop).split(",")).map(String::trim).filter(v -> !v.isEmpty())
+				.collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	private <E extends Enum<E>> E getPropertyAsEnum(CukeConverterProperties prop, Class<E> enumClass) {
+		String value = getPropertyAsString(prop);
+		try {
+			return Enum.valueOf(enumClass, value.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new CukeConverterException(
+					String.format("Invalid value %s for property %s", value, prop.getPropertyName()), e);
+		}
+	}
+
 }
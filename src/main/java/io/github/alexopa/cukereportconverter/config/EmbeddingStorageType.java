@@ -0,0 +1,37 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.config;
+
+/**
+ * An enum with the available storage types for the payload of embeddings
+ */
+public enum EmbeddingStorageType {
+	/**
+	 * Indicates that the payload is kept as a {@link String} in the java heap
+	 */
+	HEAP,
+	/**
+	 * Indicates that the payload is kept in a direct buffer, outside of the java
+	 * heap
+	 */
+	DIRECT,
+	/**
+	 * Indicates that the payload is written to a temporary spill file and it is
+	 * read back with a positional read of the file when it is requested
+	 */
+	SPILL_FILE;
+}
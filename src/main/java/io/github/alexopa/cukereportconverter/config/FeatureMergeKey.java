@@ -0,0 +1,37 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.config;
+
+/**
+ * An enum with the keys that identify the features that are merged, when
+ * {@link CukeConverterProperties#CONVERTER_MERGE_FEATURES} is enabled
+ */
+public enum FeatureMergeKey {
+	/**
+	 * Indicates that features with the same name are merged
+	 */
+	NAME,
+	/**
+	 * Indicates that features with the same uri (code reference) are merged
+	 */
+	URI,
+	/**
+	 * Indicates that features with the same name and the same uri (code
+	 * reference) are merged
+	 */
+	NAME_AND_URI;
+}
@@ -0,0 +1,34 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.config;
+
+/**
+ * An enum with the available parsers for cucumber json reports
+ */
+public enum JsonParserType {
+	/**
+	 * Indicates that the reports are parsed with the general-purpose bean
+	 * binding of jackson-databind
+	 */
+	DATABIND,
+	/**
+	 * Indicates that the reports are parsed with a hand-written parser for the
+	 * cucumber json schema, that reads the json tokens directly to the report
+	 * model, without reflection
+	 */
+	SCHEMA;
+}
@@ -16,30 +16,64 @@
  */
 package io.github.alexopa.cukereportconverter.model.cuke;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 import io.github.alexopa.cukereportconverter.model.jsonreport.Embedding;
+import io.github.alexopa.cukereportconverter.storage.EmbeddingHandle;
+import io.github.alexopa.cukereportconverter.storage.EmbeddingStore;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 /**
- * Class that models an embedded element to a cucumber report
+ * Class that models an embedded element to a cucumber report. The (base64
+ * encoded) data of the element are either kept in {@link #data}, or outside of
+ * the java heap in an {@link EmbeddingStore}, in which case only a
+ * {@link #dataHandle} is kept and the data are loaded when they are requested.
  */
 @Data
 @NoArgsConstructor
 public class CukeEmbedding {
 
 	private String data;
+	@EqualsAndHashCode.Exclude
+	private EmbeddingHandle dataHandle;
 	private String mimeType;
 	private String name;
 
+	/**
+	 * Returns the element's (base64 encoded) data. In case the data are kept in
+	 * an {@link EmbeddingStore}, they are loaded from the store.
+	 * 
+	 * @return A {@link String} with the element's data
+	 */
+	public String getData() {
+		if (data == null && dataHandle != null) {
+			return new String(dataHandle.getBytes(), StandardCharsets.UTF_8);
+		}
+		return data;
+	}
+
 	/**
 	 * Method that gets the element's data as a decoded {@link String}
 	 * 
 	 * @return A {@link String} with the element's data decoded
 	 */
 	public String getDataAsString() {
-		return new String(Base64.getDecoder().decode(data.getBytes()));
+		return new String(getDataAsBytes());
+	}
+
+	/**
+	 * Method that gets the element's data as decoded bytes
+	 * 
+	 * @return A <code>byte[]</code> with the element's data decoded
+	 */
+	public byte[] getDataAsBytes() {
+		if (data == null && dataHandle != null) {
+			return Base64.getDecoder().decode(dataHandle.getBytes());
+		}
+		return Base64.getDecoder().decode(data.getBytes());
 	}
 
 	/**
@@ -59,6 +93,28 @@ public class CukeEmbedding {
 		return embedding;
 	}
 
+	/**
+	 * Method that creates an {@link CukeEmbedding} object from an {@link Embedding}
+	 * object, keeping its data in the given {@link EmbeddingStore}
+	 * 
+	 * @param jsonEmbedding  The {@link Embedding} instance to convert
+	 * @param embeddingStore The {@link EmbeddingStore} to keep the data in. If
+	 *                       <code>null</code>, the data are kept in the java heap
+	 * @return A new {@link CukeEmbedding} object from the given {@link Embedding}
+	 *         object
+	 */
+	public static CukeEmbedding from(Embedding jsonEmbedding, EmbeddingStore embeddingStore) {
+		if (embeddingStore == null || jsonEmbedding.getData() == null) {
+			return from(jsonEmbedding);
+		}
+		CukeEmbedding embedding = new CukeEmbedding();
+		embedding.setDataHandle(embeddingStore.store(jsonEmbedding.getData().getBytes(StandardCharsets.UTF_8)));
+		embedding.setMimeType(jsonEmbedding.getMimeType());
+		embedding.setName(jsonEmbedding.getName());
+
+		return embedding;
+	}
+
 	@Override
 	public String toString() {
 		return "Embedding [mimeType=" + mimeType + ", name=" + name + "]";
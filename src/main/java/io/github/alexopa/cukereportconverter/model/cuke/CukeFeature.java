@@ -18,12 +18,14 @@ package io.github.alexopa.cukereportconverter.model.cuke;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
 
 import lombok.Builder;
@@ -51,7 +53,7 @@ public class CukeFeature {
 	@Builder.Default
 	private int numOfFailedScenarios = 0;
 	@Builder.Default
-	private Map<CukeStepResult, Integer> stepResultCounter = new HashMap<>();
+	private CukeStepResultCounter stepResultCounter = new CukeStepResultCounter();
 	@Builder.Default
 	private LocalDateTime minScenarioStartTime = null;
 	@Builder.Default
@@ -61,33 +63,108 @@ public class CukeFeature {
 	private String codeRef;
 
 	/**
-	 * Calculates and returns the minimum startTime of the {@link CukeScenario}s that
-	 * belong to this {@link CukeFeature}
+	 * Adds a scenario to this {@link CukeFeature} and updates all the aggregates
+	 * of the feature: the scenario counters, the step result counters, the total
+	 * duration, the total tags and the minimum startTime and maximum endTime of
+	 * the scenarios. Each aggregate is updated in constant time, so adding the
+	 * scenarios of a feature one by one takes linear time.
+	 * 
+	 * @param scenario A completed {@link CukeScenario}, with its result, durations
+	 *                 and step result counters
+	 */
+	public void addScenario(CukeScenario scenario) {
+		scenario.setParent(this);
+		scenarios.add(scenario);
+		totalTags.addAll(scenario.getTags());
+		if (scenario.isSuccess()) {
+			increaseNumOfPassedScenarios();
+		} else {
+			increaseNumOfFailedScenarios();
+		}
+		totalDuration += scenario.getTotalDuration();
+		stepResultCounter.addAll(scenario.getStepResultCounter());
+		LocalDateTime startTimestamp = scenario.getStartTimestamp();
+		if (startTimestamp != null && (minScenarioStartTime == null || startTimestamp.isBefore(minScenarioStartTime))) {
+			minScenarioStartTime = startTimestamp;
+		}
+		LocalDateTime endTimestamp = scenario.getEndTimestamp();
+		if (endTimestamp != null && (maxScenarioEndTime == null || endTimestamp.isAfter(maxScenarioEndTime))) {
+			maxScenarioEndTime = endTimestamp;
+		}
+	}
+
+	/**
+	 * Removes scenarios from this {@link CukeFeature} and updates all the
+	 * aggregates that {@link #addScenario(CukeScenario)} maintains. The scenarios
+	 * of the feature are gone over once to remove the given ones, and once more
+	 * to collect the distinct tags again from the remaining scenarios, while the
+	 * counters are decreased by the removed scenarios. The minimum startTime and
+	 * maximum endTime are calculated again on their next access, in case a
+	 * removed scenario defined them.
+	 * 
+	 * @param removedScenarios The {@link CukeScenario}s to remove. They are
+	 *                         matched by reference, and the ones that do not
+	 *                         belong to this feature are ignored.
+	 */
+	public void removeScenarios(Collection<CukeScenario> removedScenarios) {
+		Set<CukeScenario> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+		toRemove.addAll(removedScenarios);
+		List<CukeScenario> removed = new ArrayList<>();
+		scenarios.removeIf(scenario -> toRemove.contains(scenario) && removed.add(scenario));
+		if (removed.isEmpty()) {
+			return;
+		}
+		for (CukeScenario scenario : removed) {
+			if (scenario.isSuccess()) {
+				--numOfPassedScenarios;
+			} else {
+				--numOfFailedScenarios;
+			}
+			totalDuration -= scenario.getTotalDuration();
+			stepResultCounter.subtractAll(scenario.getStepResultCounter());
+			if (scenario.getStartTimestamp() != null && scenario.getStartTimestamp().equals(minScenarioStartTime)) {
+				minScenarioStartTime = null;
+			}
+			if (scenario.getEndTimestamp() != null && scenario.getEndTimestamp().equals(maxScenarioEndTime)) {
+				maxScenarioEndTime = null;
+			}
+		}
+		totalTags.clear();
+		for (CukeScenario scenario : scenarios) {
+			totalTags.addAll(scenario.getTags());
+		}
+	}
+
+	/**
+	 * Returns the minimum startTime of the {@link CukeScenario}s that belong to
+	 * this {@link CukeFeature}. It is maintained by {@link #addScenario(CukeScenario)},
+	 * and calculated from the scenarios in case they were added otherwise.
 	 * 
 	 * @return A {@link LocalDateTime} with the minimum startTime of the
-	 *         {@link CukeScenario}s that belong to this {@link CukeFeature}
+	 *         {@link CukeScenario}s that belong to this {@link CukeFeature}, or
+	 *         <code>null</code> if there is none
 	 */
 	public LocalDateTime getScenarioMinStartTime() {
 		if (minScenarioStartTime == null) {
-			minScenarioStartTime = scenarios.stream().min(Comparator.comparing(CukeScenario::getStartTimestamp)).get()
-					.getStartTimestamp();
-
+			minScenarioStartTime = scenarios.stream().map(CukeScenario::getStartTimestamp).filter(Objects::nonNull)
+					.min(Comparator.naturalOrder()).orElse(null);
 		}
 		return minScenarioStartTime;
 	}
 
 	/**
-	 * Calculates and returns the maximum endTime of the {@link CukeScenario}s that
-	 * belong to this {@link CukeFeature}
+	 * Returns the maximum endTime of the {@link CukeScenario}s that belong to this
+	 * {@link CukeFeature}. It is maintained by {@link #addScenario(CukeScenario)},
+	 * and calculated from the scenarios in case they were added otherwise.
 	 * 
 	 * @return A {@link LocalDateTime} with the maximum endTime of the
-	 *         {@link CukeScenario}s that belong to this {@link CukeFeature}
+	 *         {@link CukeScenario}s that belong to this {@link CukeFeature}, or
+	 *         <code>null</code> if there is none
 	 */
 	public LocalDateTime getScenarioMaxEndTime() {
 		if (maxScenarioEndTime == null) {
-			maxScenarioEndTime = scenarios.stream().max(Comparator.comparing(CukeScenario::getEndTimestamp)).get()
-					.getEndTimestamp();
-
+			maxScenarioEndTime = scenarios.stream().map(CukeScenario::getEndTimestamp).filter(Objects::nonNull)
+					.max(Comparator.naturalOrder()).orElse(null);
 		}
 		return maxScenarioEndTime;
 	}
@@ -118,20 +195,19 @@ public class CukeFeature {
 	}
 
 	/**
-	 * Method that calculates and increases the counters for each step of the
-	 * scenarios that belong to this feature. Those counters will count each
-	 * {@link CukeStepResult} separately.
+	 * Method that recalculates the counters for each step of the scenarios that
+	 * belong to this feature. Those counters will count each
+	 * {@link CukeStepResult} separately. Calling it more than once does not
+	 * change the counters.
+	 * 
+	 * @deprecated The counters are updated by {@link #addScenario(CukeScenario)},
+	 *             so this method is only needed in case scenarios were added to
+	 *             <code>getScenarios()</code> directly
 	 */
+	@Deprecated
 	public void increaseStepResultCounter() {
-		scenarios.stream().forEach(s -> {
-			Map<CukeStepResult, Integer> scenarioStepResultCounter = s.getStepResultCounter();
-			for (Map.Entry<CukeStepResult, Integer> entry : scenarioStepResultCounter.entrySet()) {
-				CukeStepResult stepResult = entry.getKey();
-				int count = Optional.ofNullable(entry.getValue()).orElse(0);
-				int currentValue = stepResultCounter.getOrDefault(stepResult, 0);
-				stepResultCounter.put(stepResult, currentValue + count);
-			}
-		});
+		stepResultCounter.clear();
+		scenarios.stream().forEach(s -> stepResultCounter.addAll(s.getStepResultCounter()));
 	}
 
 	/**
@@ -141,7 +217,7 @@ public class CukeFeature {
 	 *         feature
 	 */
 	public int getTotalPassedSteps() {
-		return stepResultCounter.getOrDefault(CukeStepResult.PASSED, 0);
+		return stepResultCounter.getCount(CukeStepResult.PASSED);
 	}
 
 	/**
@@ -151,7 +227,7 @@ public class CukeFeature {
 	 *         feature
 	 */
 	public int getTotalFailedSteps() {
-		return stepResultCounter.getOrDefault(CukeStepResult.FAILED, 0);
+		return stepResultCounter.getCount(CukeStepResult.FAILED);
 	}
 
 	/**
@@ -161,7 +237,7 @@ public class CukeFeature {
 	 *         feature
 	 */
 	public int getTotalSkippedSteps() {
-		return stepResultCounter.getOrDefault(CukeStepResult.SKIPPED, 0);
+		return stepResultCounter.getCount(CukeStepResult.SKIPPED);
 	}
 
 	/**
@@ -171,7 +247,7 @@ public class CukeFeature {
 	 *         feature
 	 */
 	public int getTotalPendingSteps() {
-		return stepResultCounter.getOrDefault(CukeStepResult.PENDING, 0);
+		return stepResultCounter.getCount(CukeStepResult.PENDING);
 	}
 
 	/**
@@ -181,7 +257,7 @@ public class CukeFeature {
 	 *         feature
 	 */
 	public int getTotalUndefinedSteps() {
-		return stepResultCounter.getOrDefault(CukeStepResult.UNDEFINED, 0);
+		return stepResultCounter.getCount(CukeStepResult.UNDEFINED);
 	}
 
 	/**
@@ -201,9 +277,41 @@ public class CukeFeature {
 				.numOfFailedScenarios(other.getNumOfFailedScenarios())
 				.stepResultCounter(other.getStepResultCounter())
 				.minScenarioStartTime(other.getMinScenarioStartTime())
+				.maxScenarioEndTime(other.getMaxScenarioEndTime())
 				.totalDuration(other.totalDuration)
 				.codeRef(other.getCodeRef())
 				.build();
 	}
 
+	/**
+	 * Sets the step result counter of the feature. A plain {@link Map} is
+	 * copied to a new {@link CukeStepResultCounter}.
+	 * 
+	 * @param stepResultCounter A {@link Map} with the count of each
+	 *                          {@link CukeStepResult}
+	 */
+	public void setStepResultCounter(Map<CukeStepResult, Integer> stepResultCounter) {
+		this.stepResultCounter = CukeStepResultCounter.of(stepResultCounter);
+	}
+
+	/**
+	 * The builder of a {@link CukeFeature}
+	 */
+	public static class CukeFeatureBuilder {
+
+		/**
+		 * Sets the step result counter of the feature. A plain {@link Map} is
+		 * copied to a new {@link CukeStepResultCounter}.
+		 * 
+		 * @param stepResultCounter A {@link Map} with the count of each
+		 *                          {@link CukeStepResult}
+		 * @return This builder
+		 */
+		public CukeFeatureBuilder stepResultCounter(Map<CukeStepResult, Integer> stepResultCounter) {
+			this.stepResultCounter$value = CukeStepResultCounter.of(stepResultCounter);
+			this.stepResultCounter$set = true;
+			return this;
+		}
+	}
+
 }
@@ -18,10 +18,8 @@ package io.github.alexopa.cukereportconverter.model.cuke;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 
 import io.github.alexopa.cukereportconverter.util.Utils;
 import lombok.AllArgsConstructor;
@@ -31,7 +29,9 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 /**
- * Class that models a cucumber scenario.
+ * Class that models a cucumber scenario. The <code>sourceFile</code> is the
+ * path of the report file that the scenario was converted from, if it was
+ * converted from a file.
  */
 @Data
 @NoArgsConstructor
@@ -46,6 +46,7 @@ public class CukeScenario {
 	private String name;
 	private CukeScenarioType type;
 	private String description;
+	private String sourceFile;
 	
 	@Builder.Default
 	private List<String> tags = new ArrayList<>();
@@ -76,7 +77,7 @@ public class CukeScenario {
 	private long totalDuration = 0;
 	
 	@Builder.Default
-	private Map<CukeStepResult, Integer> stepResultCounter = new HashMap<>(); 
+	private CukeStepResultCounter stepResultCounter = new CukeStepResultCounter();
 
 	/**
 	 * Returns a boolean indicating if scenario has before hook steps
@@ -125,26 +126,53 @@ public class CukeScenario {
 	
 	/**
 	 * Method that initializes {@link #stepResultCounter}. It can be called once to
-	 * initialize this map that contains a counter for each {@link CukeStepResult} for
-	 * this scenario.
+	 * initialize this counter that contains a count for each {@link CukeStepResult}
+	 * for this scenario.
 	 */
 	public void countStepResults() {
-		if (hasBeforeSteps()) {
-			beforeSteps.stream().forEach(countStepResults::accept);
-		}
-		if (hasAfterSteps()) {
-			afterSteps.stream().forEach(countStepResults::accept);
+		countStepResults(beforeSteps);
+		countStepResults(afterSteps);
+		countStepResults(backgroundSteps);
+		countStepResults(scenarioSteps);
+	}
+
+	private void countStepResults(List<CukeStep> steps) {
+		if (steps != null) {
+			for (CukeStep step : steps) {
+				stepResultCounter.increment(step.getResult());
+			}
 		}
-		if (hasBackground()) {
-			backgroundSteps.stream().forEach(countStepResults::accept);
+	}
+
+	/**
+	 * Sets the step result counter of the scenario. A plain {@link Map} is
+	 * copied to a new {@link CukeStepResultCounter}.
+	 * 
+	 * @param stepResultCounter A {@link Map} with the count of each
+	 *                          {@link CukeStepResult}
+	 */
+	public void setStepResultCounter(Map<CukeStepResult, Integer> stepResultCounter) {
+		this.stepResultCounter = CukeStepResultCounter.of(stepResultCounter);
+	}
+
+	/**
+	 * The builder of a {@link CukeScenario}
+	 */
+	public static class CukeScenarioBuilder {
+
+		/**
+		 * Sets the step result counter of the scenario. A plain {@link Map} is
+		 * copied to a new {@link CukeStepResultCounter}.
+		 * 
+		 * @param stepResultCounter A {@link Map} with the count of each
+		 *                          {@link CukeStepResult}
+		 * @return This builder
+		 */
+		public CukeScenarioBuilder stepResultCounter(Map<CukeStepResult, Integer> stepResultCounter) {
+			this.stepResultCounter$value = CukeStepResultCounter.of(stepResultCounter);
+			this.stepResultCounter$set = true;
+			return this;
 		}
-		scenarioSteps.stream().forEach(countStepResults::accept);
 	}
-	
-	private final Consumer<CukeStep> countStepResults = (CukeStep s) -> {
-		CukeStepResult stepResult = s.getResult();
-		int counter = stepResultCounter.getOrDefault(stepResult, 0);
-		stepResultCounter.put(stepResult, counter + 1);
-	};
-	
+
 }
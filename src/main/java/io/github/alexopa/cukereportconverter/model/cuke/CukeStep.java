@@ -53,4 +53,17 @@ public class CukeStep {
 	@Builder.Default
 	private List<CukeStep> afterSteps = new ArrayList<>();
 
+	/**
+	 * Creates a step with only its parent and section set, for the steps of a
+	 * {@link CukeStepColumns}, that read the rest of their fields from the
+	 * columns. The lists of the nested hooks are not created.
+	 * 
+	 * @param parent      The {@link CukeScenario} of the step
+	 * @param stepSection The {@link CukeStepSection} of the step
+	 */
+	CukeStep(CukeScenario parent, CukeStepSection stepSection) {
+		this.parent = parent;
+		this.stepSection = stepSection;
+	}
+
 }
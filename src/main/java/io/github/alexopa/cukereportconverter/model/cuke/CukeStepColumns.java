@@ -0,0 +1,655 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.model.cuke;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A read-only list with the {@link CukeStep}s of a section of a scenario, that
+ * keeps the fields of the steps in columns. All the steps of a scenario,
+ * including the nested hooks of its steps, are kept in a single set of columns
+ * that is shared by the sections of the scenario: primitive arrays for the
+ * durations, lines and results, and arrays of references for the keywords,
+ * names and match locations, which are shared through the string pool of the
+ * converter. The optional fields, like error messages, embeddings or nested
+ * hooks, have a column only when at least one step of the scenario has a value
+ * for them. A section is a range of the columns, and the empty sections are the
+ * shared {@link #EMPTY} list.
+ * <p>
+ * The columns are written by a {@link Builder} while a scenario is converted,
+ * so no {@link CukeStep} objects are created for the steps. The elements of the
+ * list are views that read the columns through the getters of
+ * {@link CukeStep}. A view is created on each access and is not kept by the
+ * list, so views should be compared with {@link Object#equals} and not by
+ * reference. The setters of a view throw
+ * {@link UnsupportedOperationException}.
+ */
+public final class CukeStepColumns extends AbstractList<CukeStep> implements RandomAccess {
+
+	/**
+	 * The empty list of steps, that is shared by all the empty sections
+	 */
+	public static final CukeStepColumns EMPTY = new CukeStepColumns(null, 0, 0, null);
+
+	private static final CukeStepResult[] RESULTS = CukeStepResult.values();
+	private static final byte RESULT_MASK = 0x0f;
+	private static final byte HAS_MATCH = 0x10;
+
+	private final Columns columns;
+	private final int from;
+	private final int size;
+	private final CukeStepSection section;
+
+	private CukeStepColumns(Columns columns, int from, int size, CukeStepSection section) {
+		this.columns = columns;
+		this.from = from;
+		this.size = size;
+		this.section = section;
+	}
+
+	/**
+	 * Creates a new {@link Builder} for the steps of a scenario
+	 *
+	 * @return A new empty {@link Builder}
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	@Override
+	public CukeStep get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return new StepView(from + index);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the sum of the durations of the steps, without their nested hooks
+	 *
+	 * @return A <code>long</code> with the sum of the durations of the steps
+	 */
+	public long getTotalDuration() {
+		long total = 0;
+		for (int i = from; i < from + size; i++) {
+			total += columns.durations[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Adds the results of the steps, without their nested hooks, to a
+	 * {@link CukeStepResultCounter}
+	 *
+	 * @param counter The {@link CukeStepResultCounter} to add the results to
+	 */
+	public void countResults(CukeStepResultCounter counter) {
+		for (int i = from; i < from + size; i++) {
+			counter.increment(resultOf(columns.flags[i]));
+		}
+	}
+
+	private static CukeStepResult resultOf(byte flags) {
+		int result = flags & RESULT_MASK;
+		return result == 0 ? null : RESULTS[result - 1];
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T valueAt(Object[] column, int index) {
+		return column == null ? null : (T) column[index];
+	}
+
+	private static Object[] setValue(Object[] column, int capacity, int index, Object value) {
+		if (value == null) {
+			return column;
+		}
+		Object[] values = column != null ? column : new Object[capacity];
+		values[index] = value;
+		return values;
+	}
+
+	/**
+	 * The columns with the steps of a scenario, in their final order: the steps
+	 * of the before, background, scenario and after sections, followed by the
+	 * nested hooks, that are grouped by the step they belong to. The nested
+	 * hooks of step <code>i</code> are the range from
+	 * <code>hookStarts[i]</code> to <code>hookStarts[i + 1]</code>, with the
+	 * after hooks starting at <code>afterHookStarts[i]</code>.
+	 */
+	private static final class Columns {
+
+		private final CukeScenario parent;
+		private final long[] durations;
+		private final int[] lines;
+		private final byte[] flags;
+		private final String[] keywords;
+		private final String[] names;
+		private final String[] locations;
+		private final Object[] errorMessages;
+		private final Object[] matchArguments;
+		private final Object[] embeddings;
+		private final Object[] tableData;
+		private final Object[] docStrings;
+		private final int[] hookStarts;
+		private final int[] afterHookStarts;
+
+		private Columns(CukeScenario parent, Builder builder, int[] order, int size, int[] hookStarts,
+				int[] afterHookStarts) {
+			this.parent = parent;
+			this.durations = new long[size];
+			this.lines = new int[size];
+			this.flags = new byte[size];
+			this.keywords = new String[size];
+			this.names = new String[size];
+			this.locations = new String[size];
+			for (int i = 0; i < size; i++) {
+				int row = order[i];
+				durations[i] = builder.durations[row];
+				lines[i] = builder.lines[row];
+				flags[i] = builder.flags[row];
+				keywords[i] = builder.keywords[row];
+				names[i] = builder.names[row];
+				locations[i] = builder.locations[row];
+			}
+			this.errorMessages = reorder(builder.errorMessages, order, size);
+			this.matchArguments = reorder(builder.matchArguments, order, size);
+			this.embeddings = reorder(builder.embeddings, order, size);
+			this.tableData = reorder(builder.tableData, order, size);
+			this.docStrings = reorder(builder.docStrings, order, size);
+			this.hookStarts = hookStarts;
+			this.afterHookStarts = afterHookStarts;
+		}
+
+		private static Object[] reorder(Object[] column, int[] order, int size) {
+			if (column == null) {
+				return null;
+			}
+			Object[] values = null;
+			for (int i = 0; i < size; i++) {
+				values = setValue(values, size, i, column[order[i]]);
+			}
+			return values;
+		}
+
+		private List<CukeStep> beforeHooks(int index) {
+			if (afterHookStarts == null || index >= afterHookStarts.length) {
+				return EMPTY;
+			}
+			return range(hookStarts[index], afterHookStarts[index], CukeStepSection.BEFORE_STEP);
+		}
+
+		private List<CukeStep> afterHooks(int index) {
+			if (afterHookStarts == null || index >= afterHookStarts.length) {
+				return EMPTY;
+			}
+			return range(afterHookStarts[index], hookStarts[index + 1], CukeStepSection.AFTER_STEP);
+		}
+
+		private CukeStepColumns range(int from, int to, CukeStepSection section) {
+			return from == to ? EMPTY : new CukeStepColumns(this, from, to - from, section);
+		}
+	}
+
+	/**
+	 * A builder that writes the fields of the steps of a scenario to growing
+	 * columns, while the scenario is converted. Each step is a row, that is
+	 * added with {@link #addStep(int, CukeStepSection)} and is then filled with
+	 * the setters of the builder. The steps may be added in any order, ie: the
+	 * nested hooks of a step while its other fields are still being read, and
+	 * {@link #build(CukeScenario)} sorts them to the final columns of the
+	 * scenario.
+	 */
+	public static final class Builder {
+
+		private static final int INITIAL_CAPACITY = 8;
+		private static final CukeStepSection[] SCENARIO_SECTIONS = { CukeStepSection.BEFORE_SCENARIO,
+				CukeStepSection.BACKGROUND, CukeStepSection.SCENARIO, CukeStepSection.AFTER_SCENARIO };
+
+		private int size;
+		private int capacity = INITIAL_CAPACITY;
+		private int[] owners = new int[INITIAL_CAPACITY];
+		private CukeStepSection[] sections = new CukeStepSection[INITIAL_CAPACITY];
+		private long[] durations = new long[INITIAL_CAPACITY];
+		private int[] lines = new int[INITIAL_CAPACITY];
+		private byte[] flags = new byte[INITIAL_CAPACITY];
+		private String[] keywords = new String[INITIAL_CAPACITY];
+		private String[] names = new String[INITIAL_CAPACITY];
+		private String[] locations = new String[INITIAL_CAPACITY];
+		private Object[] errorMessages;
+		private Object[] matchArguments;
+		private Object[] embeddings;
+		private Object[] tableData;
+		private Object[] docStrings;
+
+		private Builder() {
+		}
+
+		/**
+		 * Adds a new step, with no fields set
+		 *
+		 * @param owner   The row of the step that the new step is a nested hook
+		 *                of, or <code>-1</code> for a step of a section of the
+		 *                scenario
+		 * @param section The {@link CukeStepSection} of the step. It may be
+		 *                <code>null</code> and set later with
+		 *                {@link #setStepSection(int, int, CukeStepSection)}
+		 * @return The row of the new step
+		 */
+		public int addStep(int owner, CukeStepSection section) {
+			if (size == capacity) {
+				grow();
+			}
+			owners[size] = owner;
+			sections[size] = section;
+			return size++;
+		}
+
+		/**
+		 * Returns the number of steps that have been added
+		 *
+		 * @return The number of steps, that is also the row of the next step
+		 */
+		public int size() {
+			return size;
+		}
+
+		/**
+		 * Sets the section of the steps of a range of rows. The nested hooks of
+		 * the range are not affected.
+		 *
+		 * @param fromRow The first row of the range, inclusive
+		 * @param toRow   The last row of the range, exclusive
+		 * @param section The {@link CukeStepSection} of the steps
+		 */
+		public void setStepSection(int fromRow, int toRow, CukeStepSection section) {
+			for (int row = fromRow; row < toRow; row++) {
+				if (owners[row] < 0) {
+					sections[row] = section;
+				}
+			}
+		}
+
+		/**
+		 * Sets the keyword of a step
+		 *
+		 * @param row     The row of the step
+		 * @param keyword The keyword of the step
+		 */
+		public void setKeyword(int row, String keyword) {
+			keywords[row] = keyword;
+		}
+
+		/**
+		 * Sets the name of a step
+		 *
+		 * @param row  The row of the step
+		 * @param name The name of the step
+		 */
+		public void setName(int row, String name) {
+			names[row] = name;
+		}
+
+		/**
+		 * Sets the line of a step
+		 *
+		 * @param row  The row of the step
+		 * @param line The line of the step
+		 */
+		public void setLine(int row, int line) {
+			lines[row] = line;
+		}
+
+		/**
+		 * Sets the result of a step
+		 *
+		 * @param row    The row of the step
+		 * @param result The {@link CukeStepResult} of the step
+		 */
+		public void setResult(int row, CukeStepResult result) {
+			flags[row] = (byte) ((flags[row] & ~RESULT_MASK) | (result == null ? 0 : result.ordinal() + 1));
+		}
+
+		/**
+		 * Sets the duration of a step
+		 *
+		 * @param row      The row of the step
+		 * @param duration The duration of the step, in nanoseconds
+		 */
+		public void setDuration(int row, long duration) {
+			durations[row] = duration;
+		}
+
+		/**
+		 * Sets the error message of a step
+		 *
+		 * @param row          The row of the step
+		 * @param errorMessage The error message of the step
+		 */
+		public void setErrorMessage(int row, String errorMessage) {
+			errorMessages = setValue(errorMessages, capacity, row, errorMessage);
+		}
+
+		/**
+		 * Sets the match of a step. The location and the arguments of the match
+		 * are kept in columns, and a new {@link CukeStepMatch} is returned by
+		 * <code>CukeStep.getMatch()</code>.
+		 *
+		 * @param row   The row of the step
+		 * @param match The {@link CukeStepMatch} of the step
+		 */
+		public void setMatch(int row, CukeStepMatch match) {
+			if (match != null) {
+				flags[row] |= HAS_MATCH;
+				locations[row] = match.getLocation();
+				matchArguments = setValue(matchArguments, capacity, row, match.getArguments());
+			}
+		}
+
+		/**
+		 * Sets the embeddings of a step
+		 *
+		 * @param row        The row of the step
+		 * @param embeddings The {@link List} of {@link CukeEmbedding}s of the step
+		 */
+		public void setEmbeddings(int row, List<CukeEmbedding> embeddings) {
+			this.embeddings = setValue(this.embeddings, capacity, row, embeddings);
+		}
+
+		/**
+		 * Sets the table data of a step
+		 *
+		 * @param row       The row of the step
+		 * @param tableData The rows of the data table of the step
+		 */
+		public void setTableData(int row, List<List<String>> tableData) {
+			this.tableData = setValue(this.tableData, capacity, row, tableData);
+		}
+
+		/**
+		 * Sets the doc string of a step
+		 *
+		 * @param row       The row of the step
+		 * @param docString The doc string of the step
+		 */
+		public void setDocString(int row, String docString) {
+			docStrings = setValue(docStrings, capacity, row, docString);
+		}
+
+		/**
+		 * Sorts the added steps to the columns of a scenario and sets its before,
+		 * background, scenario and after steps. The steps without a section of the
+		 * scenario, and their nested hooks, are left out.
+		 *
+		 * @param scenario The {@link CukeScenario} that the steps belong to
+		 */
+		public void build(CukeScenario scenario) {
+			int[] order = new int[size];
+			int count = 0;
+			int[] sectionStarts = new int[SCENARIO_SECTIONS.length + 1];
+			for (int s = 0; s < SCENARIO_SECTIONS.length; s++) {
+				sectionStarts[s] = count;
+				for (int row = 0; row < size; row++) {
+					if (owners[row] < 0 && sections[row] == SCENARIO_SECTIONS[s]) {
+						order[count++] = row;
+					}
+				}
+			}
+			sectionStarts[SCENARIO_SECTIONS.length] = count;
+
+			int[] hookStarts = null;
+			int[] afterHookStarts = null;
+			if (count < size) {
+				int[] firstHooks = new int[size];
+				int[] nextHooks = new int[size];
+				Arrays.fill(firstHooks, -1);
+				for (int row = size - 1; row >= 0; row--) {
+					if (owners[row] >= 0) {
+						nextHooks[row] = firstHooks[owners[row]];
+						firstHooks[owners[row]] = row;
+					}
+				}
+				hookStarts = new int[size + 1];
+				afterHookStarts = new int[size];
+				int lastWithHooks = -1;
+				for (int i = 0; i < count; i++) {
+					int row = order[i];
+					hookStarts[i] = count;
+					count = addHooks(order, count, firstHooks, nextHooks, row, CukeStepSection.BEFORE_STEP);
+					afterHookStarts[i] = count;
+					count = addHooks(order, count, firstHooks, nextHooks, row, CukeStepSection.AFTER_STEP);
+					if (count > hookStarts[i]) {
+						lastWithHooks = i;
+						hookStarts[i + 1] = count;
+					}
+				}
+				if (lastWithHooks < 0) {
+					hookStarts = null;
+					afterHookStarts = null;
+				} else {
+					hookStarts = Arrays.copyOf(hookStarts, lastWithHooks + 2);
+					afterHookStarts = Arrays.copyOf(afterHookStarts, lastWithHooks + 1);
+				}
+			}
+
+			Columns columns = new Columns(scenario, this, order, count, hookStarts, afterHookStarts);
+			scenario.setBeforeSteps(columns.range(sectionStarts[0], sectionStarts[1], SCENARIO_SECTIONS[0]));
+			scenario.setBackgroundSteps(columns.range(sectionStarts[1], sectionStarts[2], SCENARIO_SECTIONS[1]));
+			scenario.setScenarioSteps(columns.range(sectionStarts[2], sectionStarts[3], SCENARIO_SECTIONS[2]));
+			scenario.setAfterSteps(columns.range(sectionStarts[3], sectionStarts[4], SCENARIO_SECTIONS[3]));
+		}
+
+		private int addHooks(int[] order, int count, int[] firstHooks, int[] nextHooks, int row,
+				CukeStepSection section) {
+			int next = count;
+			for (int hook = firstHooks[row]; hook >= 0; hook = nextHooks[hook]) {
+				if (sections[hook] == section) {
+					order[next++] = hook;
+				}
+			}
+			return next;
+		}
+
+		private void grow() {
+			capacity *= 2;
+			owners = Arrays.copyOf(owners, capacity);
+			sections = Arrays.copyOf(sections, capacity);
+			durations = Arrays.copyOf(durations, capacity);
+			lines = Arrays.copyOf(lines, capacity);
+			flags = Arrays.copyOf(flags, capacity);
+			keywords = Arrays.copyOf(keywords, capacity);
+			names = Arrays.copyOf(names, capacity);
+			locations = Arrays.copyOf(locations, capacity);
+			errorMessages = errorMessages == null ? null : Arrays.copyOf(errorMessages, capacity);
+			matchArguments = matchArguments == null ? null : Arrays.copyOf(matchArguments, capacity);
+			embeddings = embeddings == null ? null : Arrays.copyOf(embeddings, capacity);
+			tableData = tableData == null ? null : Arrays.copyOf(tableData, capacity);
+			docStrings = docStrings == null ? null : Arrays.copyOf(docStrings, capacity);
+		}
+	}
+
+	/**
+	 * A {@link CukeStep} that reads its fields from the columns of the enclosing
+	 * {@link CukeStepColumns}. Only the parent and the section of the step are
+	 * set on the {@link CukeStep} itself.
+	 */
+	private final class StepView extends CukeStep {
+
+		private final int index;
+
+		private StepView(int index) {
+			super(columns.parent, section);
+			this.index = index;
+		}
+
+		@Override
+		public String getKeyword() {
+			return columns.keywords[index];
+		}
+
+		@Override
+		public String getName() {
+			return columns.names[index];
+		}
+
+		@Override
+		public int getLine() {
+			return columns.lines[index];
+		}
+
+		@Override
+		public CukeStepResult getResult() {
+			return resultOf(columns.flags[index]);
+		}
+
+		@Override
+		public long getDuration() {
+			return columns.durations[index];
+		}
+
+		@Override
+		public String getErrorMessage() {
+			return valueAt(columns.errorMessages, index);
+		}
+
+		@Override
+		public CukeStepMatch getMatch() {
+			if ((columns.flags[index] & HAS_MATCH) == 0) {
+				return null;
+			}
+			CukeStepMatch match = new CukeStepMatch();
+			match.setLocation(columns.locations[index]);
+			match.setArguments(valueAt(columns.matchArguments, index));
+			return match;
+		}
+
+		@Override
+		public List<CukeEmbedding> getEmbeddings() {
+			return valueAt(columns.embeddings, index);
+		}
+
+		@Override
+		public List<List<String>> getTableData() {
+			return valueAt(columns.tableData, index);
+		}
+
+		@Override
+		public String getDocString() {
+			return valueAt(columns.docStrings, index);
+		}
+
+		@Override
+		public List<CukeStep> getBeforeSteps() {
+			return columns.beforeHooks(index);
+		}
+
+		@Override
+		public List<CukeStep> getAfterSteps() {
+			return columns.afterHooks(index);
+		}
+
+		@Override
+		public void setParent(CukeScenario parent) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setStepSection(CukeStepSection stepSection) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setKeyword(String keyword) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setName(String name) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setLine(int line) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setResult(CukeStepResult result) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setDuration(long duration) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setErrorMessage(String errorMessage) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setMatch(CukeStepMatch match) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setEmbeddings(List<CukeEmbedding> embeddings) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setTableData(List<List<String>> tableData) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setDocString(String docString) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setBeforeSteps(List<CukeStep> beforeSteps) {
+			throw readOnly();
+		}
+
+		@Override
+		public void setAfterSteps(List<CukeStep> afterSteps) {
+			throw readOnly();
+		}
+
+		@Override
+		public String toString() {
+			return "CukeStep(stepSection=" + getStepSection() + ", keyword=" + getKeyword() + ", name=" + getName()
+					+ ", line=" + getLine() + ", result=" + getResult() + ", duration=" + getDuration()
+					+ ", errorMessage=" + getErrorMessage() + ", match=" + getMatch() + ", embeddings="
+					+ getEmbeddings() + ", tableData=" + getTableData() + ", docString=" + getDocString()
+					+ ", beforeSteps=" + getBeforeSteps() + ", afterSteps=" + getAfterSteps() + ")";
+		}
+
+		private UnsupportedOperationException readOnly() {
+			return new UnsupportedOperationException("The steps of a CukeStepColumns are read-only");
+		}
+	}
+}
@@ -19,6 +19,7 @@ package io.github.alexopa.cukereportconverter.model.cuke;
 import java.util.List;
 
 import io.github.alexopa.cukereportconverter.model.jsonreport.StepMatch;
+import io.github.alexopa.cukereportconverter.util.StringPool;
 import io.github.alexopa.cukereportconverter.util.Utils;
 import lombok.Data;
 
@@ -40,11 +41,24 @@ public class CukeStepMatch {
 	 *         object
 	 */
 	public static CukeStepMatch from(StepMatch jsonStepMatch) {
+		return from(jsonStepMatch, StringPool.NONE);
+	}
+
+	/**
+	 * Method that creates a {@link CukeStepMatch} object from a {@link StepMatch}
+	 * object, canonicalizing its location with the given {@link StringPool}
+	 * 
+	 * @param jsonStepMatch The {@link StepMatch} instance to convert
+	 * @param stringPool    The {@link StringPool} used for the location
+	 * @return A new {@link CukeStepMatch} object from the given {@link StepMatch}
+	 *         object
+	 */
+	public static CukeStepMatch from(StepMatch jsonStepMatch, StringPool stringPool) {
 		CukeStepMatch stepMatch = new CukeStepMatch();
 		if (!Utils.isListNullOrEmpty(jsonStepMatch.getArguments())) {
 			stepMatch.setArguments(jsonStepMatch.getArguments().stream().map(CukeMatchArgument::from).toList());
 		}
-		stepMatch.setLocation(jsonStepMatch.getLocation());
+		stepMatch.setLocation(stringPool.intern(jsonStepMatch.getLocation()));
 
 		return stepMatch;
 	}
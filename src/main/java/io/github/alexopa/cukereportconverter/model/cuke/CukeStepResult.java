@@ -16,7 +16,9 @@
  */
 package io.github.alexopa.cukereportconverter.model.cuke;
 
-import java.util.stream.Stream;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * An enum that models the step result
@@ -49,15 +51,31 @@ public enum CukeStepResult {
 	 */
 	UNKNOWN_RESULT;
 
+	private static final Map<String, CukeStepResult> BY_TEXT = new HashMap<>();
+
+	static {
+		for (CukeStepResult result : values()) {
+			BY_TEXT.put(result.name(), result);
+			BY_TEXT.put(result.name().toLowerCase(Locale.ROOT), result);
+		}
+	}
+
 	/**
-	 * Method to return a {@link CukeStepResult} from a text
+	 * Method to return a {@link CukeStepResult} from a text. The statuses of the
+	 * cucumber reports, that are lower case, are found with a single lookup.
 	 * 
 	 * @param text A {@link String} that should be returned as {@link CukeStepResult}
 	 * @return a {@link CukeStepResult} that matches the given text, or
 	 *         {@link #UNKNOWN_RESULT} if nothing matches
 	 */
 	public static CukeStepResult fromText(String text) {
-		return Stream.of(values()).filter(v -> v.name().equalsIgnoreCase(text.trim())).findFirst()
-				.orElse(CukeStepResult.UNKNOWN_RESULT);
+		if (text == null) {
+			return UNKNOWN_RESULT;
+		}
+		CukeStepResult result = BY_TEXT.get(text);
+		if (result == null) {
+			result = BY_TEXT.getOrDefault(text.trim().toUpperCase(Locale.ROOT), UNKNOWN_RESULT);
+		}
+		return result;
 	}
 }
@@ -0,0 +1,256 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.model.cuke;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A counter of steps per {@link CukeStepResult}. The counts are kept in an
+ * <code>int</code> array indexed by the ordinal of the result, with an extra
+ * slot for the steps without a result, so counting a step does not box or
+ * hash. It is also a {@link Map} from a {@link CukeStepResult} to its count,
+ * that contains only the results with a non-zero count.
+ */
+public class CukeStepResultCounter extends AbstractMap<CukeStepResult, Integer> {
+
+	private static final CukeStepResult[] RESULTS = CukeStepResult.values();
+	private static final int NO_RESULT_SLOT = RESULTS.length;
+
+	private final int[] counts = new int[RESULTS.length + 1];
+
+	/**
+	 * Creates a new empty {@link CukeStepResultCounter}
+	 */
+	public CukeStepResultCounter() {
+	}
+
+	/**
+	 * Creates a new {@link CukeStepResultCounter} with the counts of the given map
+	 * 
+	 * @param counts A {@link Map} with the count of each {@link CukeStepResult}
+	 */
+	public CukeStepResultCounter(Map<CukeStepResult, Integer> counts) {
+		counts.forEach(this::put);
+	}
+
+	/**
+	 * Returns a {@link CukeStepResultCounter} with the counts of the given map.
+	 * The map itself is returned if it already is a {@link CukeStepResultCounter}.
+	 * 
+	 * @param counts A {@link Map} with the count of each {@link CukeStepResult},
+	 *               or <code>null</code> for an empty counter
+	 * @return A {@link CukeStepResultCounter} with the given counts
+	 */
+	public static CukeStepResultCounter of(Map<CukeStepResult, Integer> counts) {
+		if (counts instanceof CukeStepResultCounter counter) {
+			return counter;
+		}
+		return counts != null ? new CukeStepResultCounter(counts) : new CukeStepResultCounter();
+	}
+
+	/**
+	 * Returns the count of the given result
+	 * 
+	 * @param result The {@link CukeStepResult}, or <code>null</code> for the steps
+	 *               without a result
+	 * @return The number of steps with the given result
+	 */
+	public int getCount(CukeStepResult result) {
+		return counts[slot(result)];
+	}
+
+	/**
+	 * Returns the total number of counted steps
+	 * 
+	 * @return The sum of the counts of all results
+	 */
+	public int getTotal() {
+		int total = 0;
+		for (int count : counts) {
+			total += count;
+		}
+		return total;
+	}
+
+	/**
+	 * Increases the count of the given result by one
+	 * 
+	 * @param result The {@link CukeStepResult}, or <code>null</code> for a step
+	 *               without a result
+	 */
+	public void increment(CukeStepResult result) {
+		counts[slot(result)]++;
+	}
+
+	/**
+	 * Increases the count of the given result
+	 * 
+	 * @param result The {@link CukeStepResult}, or <code>null</code> for the steps
+	 *               without a result
+	 * @param count  The number to add to the count
+	 */
+	public void add(CukeStepResult result, int count) {
+		counts[slot(result)] += count;
+	}
+
+	/**
+	 * Adds the counts of another counter to this counter
+	 * 
+	 * @param other The {@link CukeStepResultCounter} to add
+	 */
+	public void addAll(CukeStepResultCounter other) {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] += other.counts[i];
+		}
+	}
+
+	/**
+	 * Subtracts the counts of another counter from this counter
+	 * 
+	 * @param other The {@link CukeStepResultCounter} to subtract
+	 */
+	public void subtractAll(CukeStepResultCounter other) {
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] -= other.counts[i];
+		}
+	}
+
+	@Override
+	public Integer get(Object key) {
+		if (key != null && !(key instanceof CukeStepResult)) {
+			return null;
+		}
+		int count = counts[slot((CukeStepResult) key)];
+		return count != 0 ? count : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public Integer put(CukeStepResult key, Integer value) {
+		int slot = slot(key);
+		int previous = counts[slot];
+		counts[slot] = value != null ? value : 0;
+		return previous != 0 ? previous : null;
+	}
+
+	@Override
+	public Integer remove(Object key) {
+		Integer previous = get(key);
+		if (previous != null) {
+			counts[slot((CukeStepResult) key)] = 0;
+		}
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(counts, 0);
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (int count : counts) {
+			if (count != 0) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public Set<Entry<CukeStepResult, Integer>> entrySet() {
+		return new AbstractSet<>() {
+
+			@Override
+			public Iterator<Entry<CukeStepResult, Integer>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return CukeStepResultCounter.this.size();
+			}
+		};
+	}
+
+	private static int slot(CukeStepResult result) {
+		return result != null ? result.ordinal() : NO_RESULT_SLOT;
+	}
+
+	private static CukeStepResult resultOf(int slot) {
+		return slot < NO_RESULT_SLOT ? RESULTS[slot] : null;
+	}
+
+	private class EntryIterator implements Iterator<Entry<CukeStepResult, Integer>> {
+
+		private int next = advance(0);
+		private int last = -1;
+
+		@Override
+		public boolean hasNext() {
+			return next < counts.length;
+		}
+
+		@Override
+		public Entry<CukeStepResult, Integer> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			last = next;
+			next = advance(next + 1);
+			int slot = last;
+			return new SimpleEntry<>(resultOf(slot), counts[slot]) {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				public Integer setValue(Integer value) {
+					super.setValue(value);
+					return put(resultOf(slot), value);
+				}
+			};
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0) {
+				throw new IllegalStateException();
+			}
+			counts[last] = 0;
+			last = -1;
+		}
+
+		private int advance(int from) {
+			int slot = from;
+			while (slot < counts.length && counts[slot] == 0) {
+				slot++;
+			}
+			return slot;
+		}
+	}
+}
@@ -16,14 +16,26 @@
  */
 package io.github.alexopa.cukereportconverter.model.cuke;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import io.github.alexopa.cukereportconverter.query.CukeTagIndex;
 import io.github.alexopa.cukereportconverter.util.Utils;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.ToString;
 
 /**
@@ -42,6 +54,43 @@ public class CukeTestRun {
 	private CukeMetadata metadata = new CukeMetadata();
 	private LocalDateTime startTime;
 	private LocalDateTime endTime;
+	@Builder.Default
+	private int numOfPassedScenarios = 0;
+	@Builder.Default
+	private int numOfFailedScenarios = 0;
+	@Builder.Default
+	private CukeStepResultCounter stepResultCounter = new CukeStepResultCounter();
+	@Builder.Default
+	private long totalDuration = 0;
+	@Builder.Default
+	private Set<String> totalTags = new HashSet<>();
+
+	/**
+	 * The {@link CukeTagIndex} of the scenarios of the test-run, in case it has
+	 * been built. It is kept up to date with the scenarios that are added
+	 * through {@link #addScenarioStatistics(CukeScenario)} and removed through
+	 * {@link #removeScenarios(Collection)}, and is dropped when the features are
+	 * replaced.
+	 */
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private CukeTagIndex tagIndex;
+
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private final SourceFileIndex sourceFileIndex = new SourceFileIndex();
+
+	/**
+	 * Sets the {@link CukeFeature}s of the test-run
+	 * 
+	 * @param features The {@link List} of {@link CukeFeature}s
+	 */
+	public void setFeatures(List<CukeFeature> features) {
+		this.features = features;
+		sourceFileIndex.invalidate();
+		tagIndex = null;
+	}
 
 	/**
 	 * Calculates that startTime of the test-run. As startTime, we consider the
@@ -49,8 +98,8 @@ public class CukeTestRun {
 	 */
 	public void calculateStartTime() {
 		if (!Utils.isListNullOrEmpty(features)) {
-			startTime = features.stream().min(Comparator.comparing(CukeFeature::getScenarioMinStartTime)).get()
-					.getScenarioMinStartTime();
+			startTime = features.stream().map(CukeFeature::getScenarioMinStartTime).filter(Objects::nonNull)
+					.min(Comparator.naturalOrder()).orElse(null);
 		}
 	}
 
@@ -60,9 +109,236 @@ public class CukeTestRun {
 	 */
 	public void calculateEndTime() {
 		if (!Utils.isListNullOrEmpty(features)) {
-			endTime = features.stream().max(Comparator.comparing(CukeFeature::getScenarioMaxEndTime)).get()
-					.getScenarioMaxEndTime();
+			endTime = features.stream().map(CukeFeature::getScenarioMaxEndTime).filter(Objects::nonNull)
+					.max(Comparator.naturalOrder()).orElse(null);
+		}
+	}
+
+	/**
+	 * Calculates the statistics of the test-run from the aggregates of its
+	 * {@link CukeFeature}s: the passed and failed scenarios, the steps per
+	 * {@link CukeStepResult}, the total duration and the distinct tags. It does
+	 * not iterate over the scenarios and steps of the features.
+	 */
+	public void calculateStatistics() {
+		sourceFileIndex.invalidate();
+		numOfPassedScenarios = 0;
+		numOfFailedScenarios = 0;
+		stepResultCounter.clear();
+		totalDuration = 0;
+		totalTags.clear();
+		if (features != null) {
+			for (CukeFeature feature : features) {
+				numOfPassedScenarios += feature.getNumOfPassedScenarios();
+				numOfFailedScenarios += feature.getNumOfFailedScenarios();
+				stepResultCounter.addAll(feature.getStepResultCounter());
+				totalDuration += feature.getTotalDuration();
+				totalTags.addAll(feature.getTotalTags());
+			}
+		}
+	}
+
+	/**
+	 * Updates the statistics and the start and end time of the test-run with a
+	 * scenario that has been added to one of its {@link CukeFeature}s
+	 * 
+	 * @param scenario The {@link CukeScenario} that has been added
+	 */
+	public void addScenarioStatistics(CukeScenario scenario) {
+		if (scenario.isSuccess()) {
+			++numOfPassedScenarios;
+		} else {
+			++numOfFailedScenarios;
+		}
+		stepResultCounter.addAll(scenario.getStepResultCounter());
+		totalDuration += scenario.getTotalDuration();
+		totalTags.addAll(scenario.getTags());
+		LocalDateTime startTimestamp = scenario.getStartTimestamp();
+		if (startTimestamp != null && (startTime == null || startTimestamp.isBefore(startTime))) {
+			startTime = startTimestamp;
+		}
+		LocalDateTime endTimestamp = scenario.getEndTimestamp();
+		if (endTimestamp != null && (endTime == null || endTimestamp.isAfter(endTime))) {
+			endTime = endTimestamp;
+		}
+		sourceFileIndex.add(scenario);
+		if (tagIndex != null) {
+			tagIndex.add(scenario);
+		}
+	}
+
+	/**
+	 * Removes the {@link CukeScenario}s that were converted from the given report
+	 * files from their {@link CukeFeature}s, and updates the aggregates of the
+	 * features and the statistics and the start and end time of the test-run.
+	 * The scenarios are looked up by their <code>sourceFile</code> in an index
+	 * that is built on the first call. The counters and durations are decreased
+	 * by the removed scenarios, while the affected features are updated as
+	 * described in {@link CukeFeature#removeScenarios(Collection)}, which goes
+	 * over all the scenarios of each affected feature. The distinct tags of the
+	 * test-run are collected again from its features, and the start and end
+	 * time are calculated again from the features only in case a removed
+	 * scenario defined them. Features that are left
+	 * without scenarios are kept, so they can be removed with
+	 * {@link #removeEmptyFeatures()} once the replacing scenarios, if any, have
+	 * been added.
+	 * 
+	 * @param sourceFiles The paths of the report files, as kept by
+	 *                    <code>CukeScenario.getSourceFile()</code>
+	 * @return A {@link List} with the removed {@link CukeScenario}s
+	 */
+	public List<CukeScenario> removeScenarios(Collection<String> sourceFiles) {
+		List<CukeScenario> removed = new ArrayList<>();
+		for (String sourceFile : sourceFiles) {
+			removed.addAll(sourceFileIndex.remove(sourceFile, features));
+		}
+		if (removed.isEmpty()) {
+			return removed;
+		}
+		if (tagIndex != null) {
+			tagIndex.removeSourceFiles(sourceFiles);
+		}
+
+		Map<CukeFeature, List<CukeScenario>> featureScenarios = new IdentityHashMap<>();
+		for (CukeScenario scenario : removed) {
+			featureScenarios.computeIfAbsent(scenario.getParent(), f -> new ArrayList<>()).add(scenario);
+			if (scenario.isSuccess()) {
+				--numOfPassedScenarios;
+			} else {
+				--numOfFailedScenarios;
+			}
+			stepResultCounter.subtractAll(scenario.getStepResultCounter());
+			totalDuration -= scenario.getTotalDuration();
+		}
+		featureScenarios.forEach(CukeFeature::removeScenarios);
+
+		totalTags.clear();
+		for (CukeFeature feature : features) {
+			totalTags.addAll(feature.getTotalTags());
+		}
+		if (removed.stream().anyMatch(s -> s.getStartTimestamp() != null && s.getStartTimestamp().equals(startTime))) {
+			startTime = null;
+			calculateStartTime();
+		}
+		if (removed.stream().anyMatch(s -> s.getEndTimestamp() != null && s.getEndTimestamp().equals(endTime))) {
+			endTime = null;
+			calculateEndTime();
+		}
+		return removed;
+	}
+
+	/**
+	 * Removes the {@link CukeFeature}s that have no scenarios from the test-run
+	 */
+	public void removeEmptyFeatures() {
+		if (features != null) {
+			features.removeIf(feature -> feature.getScenarios().isEmpty());
 		}
 	}
 
+	/**
+	 * Returns the number of scenarios of the test-run
+	 * 
+	 * @return An <code>int</code> with the number of scenarios of the test-run
+	 */
+	public int getNumOfScenarios() {
+		return numOfPassedScenarios + numOfFailedScenarios;
+	}
+
+	/**
+	 * Returns the wall-clock duration of the test-run, from its startTime to its
+	 * endTime. Unlike <code>getTotalDuration()</code>, scenarios that run in parallel
+	 * are not counted more than once.
+	 * 
+	 * @return A {@link Duration} from the startTime to the endTime, or
+	 *         {@link Duration#ZERO} if they are not available
+	 */
+	public Duration getWallClockDuration() {
+		return startTime != null && endTime != null ? Duration.between(startTime, endTime) : Duration.ZERO;
+	}
+
+	/**
+	 * Returns the total number of passed steps for this test-run
+	 * 
+	 * @return An <code>int</code> with the total number of passed steps for this
+	 *         test-run
+	 */
+	public int getTotalPassedSteps() {
+		return stepResultCounter.getCount(CukeStepResult.PASSED);
+	}
+
+	/**
+	 * Returns the total number of failed steps for this test-run
+	 * 
+	 * @return An <code>int</code> with the total number of failed steps for this
+	 *         test-run
+	 */
+	public int getTotalFailedSteps() {
+		return stepResultCounter.getCount(CukeStepResult.FAILED);
+	}
+
+	/**
+	 * Returns the total number of skipped steps for this test-run
+	 * 
+	 * @return An <code>int</code> with the total number of skipped steps for this
+	 *         test-run
+	 */
+	public int getTotalSkippedSteps() {
+		return stepResultCounter.getCount(CukeStepResult.SKIPPED);
+	}
+
+	/**
+	 * Returns the total number of pending steps for this test-run
+	 * 
+	 * @return An <code>int</code> with the total number of pending steps for this
+	 *         test-run
+	 */
+	public int getTotalPendingSteps() {
+		return stepResultCounter.getCount(CukeStepResult.PENDING);
+	}
+
+	/**
+	 * Returns the total number of undefined steps for this test-run
+	 * 
+	 * @return An <code>int</code> with the total number of undefined steps for this
+	 *         test-run
+	 */
+	public int getTotalUndefinedSteps() {
+		return stepResultCounter.getCount(CukeStepResult.UNDEFINED);
+	}
+
+	/**
+	 * An index of the scenarios of the test-run by their source file. It is built
+	 * from the features the first time it is needed and is then kept up to date
+	 * with the scenarios that are added through
+	 * {@link CukeTestRun#addScenarioStatistics(CukeScenario)}, until the features
+	 * are replaced or the statistics are calculated again.
+	 */
+	private static class SourceFileIndex {
+
+		private Map<String, List<CukeScenario>> scenarios;
+
+		private void invalidate() {
+			scenarios = null;
+		}
+
+		private void add(CukeScenario scenario) {
+			if (scenarios != null) {
+				scenarios.computeIfAbsent(scenario.getSourceFile(), f -> new ArrayList<>()).add(scenario);
+			}
+		}
+
+		private List<CukeScenario> remove(String sourceFile, List<CukeFeature> features) {
+			if (scenarios == null) {
+				scenarios = new HashMap<>();
+				if (features != null) {
+					for (CukeFeature feature : features) {
+						feature.getScenarios().forEach(this::add);
+					}
+				}
+			}
+			List<CukeScenario> removed = scenarios.remove(sourceFile);
+			return removed != null ? removed : List.of();
+		}
+	}
 }
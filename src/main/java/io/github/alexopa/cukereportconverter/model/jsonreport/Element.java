@@ -25,7 +25,9 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
+import io.github.alexopa.cukereportconverter.util.CukeTimestampDeserializer;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -40,6 +42,7 @@ import lombok.NoArgsConstructor;
 public class Element {
 
 	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+	@JsonDeserialize(using = CukeTimestampDeserializer.class)
 	@JsonProperty("start_timestamp")
 	private LocalDateTime startTimestamp;
 
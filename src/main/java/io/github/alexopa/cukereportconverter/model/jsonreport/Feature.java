@@ -19,16 +19,21 @@ package io.github.alexopa.cukereportconverter.model.jsonreport;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
 /**
  * Class that models the feature element (an element of the top-level array), of
- * the json cucumber report file.
+ * the json cucumber report file. The <code>sourceFile</code> is not part of
+ * the report: it is the path of the report file that the feature was parsed
+ * from, if it was parsed from a file, and it is not compared by
+ * {@link #equals(Object)}.
  */
 @Data
 @NoArgsConstructor
@@ -44,4 +49,7 @@ public class Feature {
 	private String uri;
 	private List<Tag> tags = new ArrayList<>();
 	private List<Element> elements = new ArrayList<>();
+	@JsonIgnore
+	@EqualsAndHashCode.Exclude
+	private String sourceFile;
 }
@@ -0,0 +1,448 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.query;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenario;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenarioResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStep;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepSection;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
+import lombok.Getter;
+
+/**
+ * A reusable query over the features, scenarios and steps of a
+ * {@link CukeTestRun}. The conditions of a query are given to its
+ * {@link Builder} and are compiled to predicates once, when the query is built,
+ * so the same query can be run over many test-runs, ie:
+ *
+ * <pre>
+ * CukeQuery query = CukeQuery.builder()
+ * 		.tags("&#64;smoke and not &#64;wip")
+ * 		.result(CukeScenarioResult.FAILED)
+ * 		.minDuration(Duration.ofSeconds(5))
+ * 		.featureName("Checkout")
+ * 		.build();
+ * List&lt;CukeScenario&gt; scenarios = query.findScenarios(testRun);
+ * </pre>
+ *
+ * A scenario matches the query when its feature matches the feature
+ * conditions, it matches the scenario conditions and, in case step conditions
+ * are given, it has at least one step that matches them. The tag expression is
+ * evaluated against the tags of the scenario along with the tags of its
+ * feature. The results are returned in the order of the test-run, even when the
+ * query is evaluated in parallel.
+ * <p>
+ * In case the test-run has a {@link CukeTagIndex}, the tag expression is
+ * evaluated on the index and only the scenarios it selects are visited. The
+ * results are then returned in the order of the index, that is the order of
+ * the test-run, with the scenarios that were added by later updates at the
+ * end.
+ */
+public final class CukeQuery {
+
+	private final Predicate<CukeFeature> featurePredicate;
+	private final Predicate<CukeScenario> scenarioPredicate;
+	private final Predicate<CukeScenario> untaggedScenarioPredicate;
+	private final Predicate<CukeStep> stepPredicate;
+	private final Set<CukeStepSection> stepSections;
+	@Getter
+	private final TagExpression tagExpression;
+	@Getter
+	private final boolean parallel;
+
+	private CukeQuery(Builder builder) {
+		this.featurePredicate = and(builder.featurePredicates);
+		this.stepSections = builder.stepSections.isEmpty() ? null : EnumSet.copyOf(builder.stepSections);
+		this.stepPredicate = builder.stepPredicates.isEmpty() && stepSections == null ? null
+				: and(builder.stepPredicates);
+		this.tagExpression = builder.tagExpression;
+		this.parallel = builder.parallel;
+
+		List<Predicate<CukeScenario>> scenarioPredicates = new ArrayList<>(builder.scenarioPredicates);
+		if (stepPredicate != null) {
+			scenarioPredicates.add(scenario -> scenarioSteps(scenario).anyMatch(this::matchesStep));
+		}
+		this.untaggedScenarioPredicate = and(scenarioPredicates);
+		if (tagExpression != null) {
+			scenarioPredicates.add(0, scenario -> tagExpression.evaluate(tag -> hasTag(scenario, tag)));
+		}
+		this.scenarioPredicate = and(scenarioPredicates);
+	}
+
+	/**
+	 * Creates a new {@link Builder} of a query without conditions, that matches
+	 * all the scenarios of a test-run
+	 *
+	 * @return A new {@link Builder}
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the scenarios of a test-run that match the query
+	 *
+	 * @param testRun The {@link CukeTestRun} to query
+	 * @return A {@link List} with the matching {@link CukeScenario}s
+	 */
+	public List<CukeScenario> findScenarios(CukeTestRun testRun) {
+		return scenarios(testRun).toList();
+	}
+
+	/**
+	 * Returns the steps of the scenarios of a test-run that match the query. In
+	 * case step conditions are given, only the steps that match them are
+	 * returned, otherwise all the steps of the matching scenarios, including
+	 * their nested hooks.
+	 *
+	 * @param testRun The {@link CukeTestRun} to query
+	 * @return A {@link List} with the matching {@link CukeStep}s
+	 */
+	public List<CukeStep> findSteps(CukeTestRun testRun) {
+		return scenarios(testRun).flatMap(CukeQuery::scenarioSteps).filter(this::matchesStep).toList();
+	}
+
+	/**
+	 * Returns the number of the scenarios of a test-run that match the query
+	 *
+	 * @param testRun The {@link CukeTestRun} to query
+	 * @return A <code>long</code> with the number of matching scenarios
+	 */
+	public long countScenarios(CukeTestRun testRun) {
+		return scenarios(testRun).count();
+	}
+
+	/**
+	 * Returns a {@link Stream} of the scenarios of a test-run that match the
+	 * query. The stream is parallel in case <code>isParallel()</code> is enabled.
+	 *
+	 * @param testRun The {@link CukeTestRun} to query
+	 * @return A {@link Stream} of the matching {@link CukeScenario}s
+	 */
+	public Stream<CukeScenario> scenarios(CukeTestRun testRun) {
+		CukeTagIndex tagIndex = testRun.getTagIndex();
+		if (tagExpression != null && tagIndex != null) {
+			List<CukeScenario> selected = tagIndex.findScenarios(tagExpression);
+			return (parallel ? selected.parallelStream() : selected.stream())
+					.filter(scenario -> scenario.getParent() == null || featurePredicate.test(scenario.getParent()))
+					.filter(untaggedScenarioPredicate);
+		}
+
+		Stream<CukeScenario> candidates = testRun.getFeatures().stream().filter(featurePredicate)
+				.flatMap(feature -> feature.getScenarios().stream());
+		if (parallel) {
+			candidates = candidates.toList().parallelStream();
+		}
+		return candidates.filter(scenarioPredicate);
+	}
+
+	/**
+	 * Tests if a scenario matches the feature, scenario and step conditions of
+	 * the query
+	 *
+	 * @param scenario The {@link CukeScenario} to test
+	 * @return <code>true</code> if the scenario matches the query
+	 */
+	public boolean matches(CukeScenario scenario) {
+		return (scenario.getParent() == null || featurePredicate.test(scenario.getParent()))
+				&& scenarioPredicate.test(scenario);
+	}
+
+	private boolean matchesStep(CukeStep step) {
+		if (stepPredicate == null) {
+			return true;
+		}
+		return (stepSections == null || stepSections.contains(step.getStepSection())) && stepPredicate.test(step);
+	}
+
+	private static boolean hasTag(CukeScenario scenario, String tag) {
+		if (scenario.getTags() != null && scenario.getTags().contains(tag)) {
+			return true;
+		}
+		CukeFeature feature = scenario.getParent();
+		return feature != null && feature.getTags() != null && feature.getTags().contains(tag);
+	}
+
+	private static Stream<CukeStep> scenarioSteps(CukeScenario scenario) {
+		return Stream.of(scenario.getBeforeSteps(), scenario.getBackgroundSteps(), scenario.getScenarioSteps(),
+				scenario.getAfterSteps()).filter(Objects::nonNull).flatMap(CukeQuery::withNestedHooks);
+	}
+
+	private static Stream<CukeStep> withNestedHooks(List<CukeStep> steps) {
+		return steps.stream().flatMap(step -> {
+			boolean hasHooks = step.getBeforeSteps() != null && !step.getBeforeSteps().isEmpty()
+					|| step.getAfterSteps() != null && !step.getAfterSteps().isEmpty();
+			if (!hasHooks) {
+				return Stream.of(step);
+			}
+			return Stream.of(withNestedHooks(step.getBeforeSteps()), Stream.of(step),
+					withNestedHooks(step.getAfterSteps())).flatMap(s -> s);
+		});
+	}
+
+	private static <T> Predicate<T> and(List<Predicate<T>> predicates) {
+		return switch (predicates.size()) {
+		case 0 -> t -> true;
+		case 1 -> predicates.get(0);
+		default -> {
+			List<Predicate<T>> all = List.copyOf(predicates);
+			yield t -> {
+				for (Predicate<T> predicate : all) {
+					if (!predicate.test(t)) {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+		};
+	}
+
+	/**
+	 * The builder of a {@link CukeQuery}. All the given conditions must match.
+	 */
+	public static final class Builder {
+
+		private final List<Predicate<CukeFeature>> featurePredicates = new ArrayList<>();
+		private final List<Predicate<CukeScenario>> scenarioPredicates = new ArrayList<>();
+		private final List<Predicate<CukeStep>> stepPredicates = new ArrayList<>();
+		private final Set<CukeStepSection> stepSections = EnumSet.noneOf(CukeStepSection.class);
+		private TagExpression tagExpression;
+		private boolean parallel;
+
+		private Builder() {
+		}
+
+		/**
+		 * Matches the scenarios whose tags, along with the tags of their feature,
+		 * match a cucumber tag expression
+		 *
+		 * @param expression The tag expression, ie: <code>@smoke and not @wip</code>
+		 * @return This {@link Builder}
+		 * @throws io.github.alexopa.cukereportconverter.exception.CukeConverterException
+		 *         In case the expression is not valid
+		 */
+		public Builder tags(String expression) {
+			return tags(TagExpression.parse(expression));
+		}
+
+		/**
+		 * Matches the scenarios whose tags, along with the tags of their feature,
+		 * match a parsed tag expression. It replaces any tag expression given
+		 * before.
+		 *
+		 * @param expression The {@link TagExpression}
+		 * @return This {@link Builder}
+		 */
+		public Builder tags(TagExpression expression) {
+			this.tagExpression = expression;
+			return this;
+		}
+
+		/**
+		 * Matches the features with the given name
+		 *
+		 * @param name The name of the feature
+		 * @return This {@link Builder}
+		 */
+		public Builder featureName(String name) {
+			featurePredicates.add(feature -> name.equals(feature.getName()));
+			return this;
+		}
+
+		/**
+		 * Matches the features whose name contains a match of a regular expression
+		 *
+		 * @param regex The regular expression
+		 * @return This {@link Builder}
+		 */
+		public Builder featureNameMatching(String regex) {
+			Pattern pattern = Pattern.compile(regex);
+			featurePredicates.add(feature -> feature.getName() != null && pattern.matcher(feature.getName()).find());
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios with the given name
+		 *
+		 * @param name The name of the scenario
+		 * @return This {@link Builder}
+		 */
+		public Builder scenarioName(String name) {
+			scenarioPredicates.add(scenario -> name.equals(scenario.getName()));
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios whose name contains a match of a regular
+		 * expression
+		 *
+		 * @param regex The regular expression
+		 * @return This {@link Builder}
+		 */
+		public Builder scenarioNameMatching(String regex) {
+			Pattern pattern = Pattern.compile(regex);
+			scenarioPredicates
+					.add(scenario -> scenario.getName() != null && pattern.matcher(scenario.getName()).find());
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios with any of the given results
+		 *
+		 * @param results The {@link CukeScenarioResult}s
+		 * @return This {@link Builder}
+		 */
+		public Builder result(CukeScenarioResult... results) {
+			Set<CukeScenarioResult> resultSet = EnumSet.noneOf(CukeScenarioResult.class);
+			resultSet.addAll(List.of(results));
+			scenarioPredicates.add(scenario -> resultSet.contains(scenario.getResult()));
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios whose total duration is at least the given one
+		 *
+		 * @param duration The minimum {@link Duration}
+		 * @return This {@link Builder}
+		 */
+		public Builder minDuration(Duration duration) {
+			long nanos = duration.toNanos();
+			scenarioPredicates.add(scenario -> scenario.getTotalDuration() >= nanos);
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios whose total duration is at most the given one
+		 *
+		 * @param duration The maximum {@link Duration}
+		 * @return This {@link Builder}
+		 */
+		public Builder maxDuration(Duration duration) {
+			long nanos = duration.toNanos();
+			scenarioPredicates.add(scenario -> scenario.getTotalDuration() <= nanos);
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios that match a custom predicate
+		 *
+		 * @param predicate The {@link Predicate} of the scenarios
+		 * @return This {@link Builder}
+		 */
+		public Builder where(Predicate<CukeScenario> predicate) {
+			scenarioPredicates.add(predicate);
+			return this;
+		}
+
+		/**
+		 * Restricts the step conditions to the steps of the given sections. It can
+		 * be used on its own, to match the scenarios that have steps in any of the
+		 * sections.
+		 *
+		 * @param sections The {@link CukeStepSection}s
+		 * @return This {@link Builder}
+		 */
+		public Builder stepSection(CukeStepSection... sections) {
+			stepSections.addAll(List.of(sections));
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios with a step with any of the given results
+		 *
+		 * @param results The {@link CukeStepResult}s
+		 * @return This {@link Builder}
+		 */
+		public Builder stepResult(CukeStepResult... results) {
+			Set<CukeStepResult> resultSet = EnumSet.noneOf(CukeStepResult.class);
+			resultSet.addAll(List.of(results));
+			stepPredicates.add(step -> resultSet.contains(step.getResult()));
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios with a step whose name contains a match of a
+		 * regular expression
+		 *
+		 * @param regex The regular expression
+		 * @return This {@link Builder}
+		 */
+		public Builder stepNameMatching(String regex) {
+			Pattern pattern = Pattern.compile(regex);
+			stepPredicates.add(step -> step.getName() != null && pattern.matcher(step.getName()).find());
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios with a step whose duration is at least the given
+		 * one
+		 *
+		 * @param duration The minimum {@link Duration}
+		 * @return This {@link Builder}
+		 */
+		public Builder minStepDuration(Duration duration) {
+			long nanos = duration.toNanos();
+			stepPredicates.add(step -> step.getDuration() >= nanos);
+			return this;
+		}
+
+		/**
+		 * Matches the scenarios with a step that matches a custom predicate
+		 *
+		 * @param predicate The {@link Predicate} of the steps
+		 * @return This {@link Builder}
+		 */
+		public Builder whereStep(Predicate<CukeStep> predicate) {
+			stepPredicates.add(predicate);
+			return this;
+		}
+
+		/**
+		 * Defines if the scenarios are evaluated in parallel, on the common
+		 * fork/join pool. The results are the same as the sequential evaluation.
+		 *
+		 * @param parallel <code>true</code> to evaluate the scenarios in parallel
+		 * @return This {@link Builder}
+		 */
+		public Builder parallel(boolean parallel) {
+			this.parallel = parallel;
+			return this;
+		}
+
+		/**
+		 * Compiles the conditions to a {@link CukeQuery}
+		 *
+		 * @return A new {@link CukeQuery}
+		 */
+		public CukeQuery build() {
+			return new CukeQuery(this);
+		}
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenario;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
+
+/**
+ * A bitmap index of the tags of the scenarios of a {@link CukeTestRun}. Each
+ * scenario is given an ordinal, in the order it was added to the index, and
+ * each distinct tag keeps a compressed bitmap with the ordinals of the
+ * scenarios that have it, either on the scenario itself or on its feature. A
+ * {@link TagExpression} is evaluated with bitmap operations over these
+ * bitmaps, without visiting the scenarios, and the number of scenarios of each
+ * tag is the cardinality of its bitmap.
+ * <p>
+ * The index of a test-run is kept up to date by
+ * {@link CukeTestRun#addScenarioStatistics(CukeScenario)} and
+ * {@link CukeTestRun#removeScenarios(Collection)}. The scenarios that are
+ * removed leave a gap in the ordinals, so an index that is updated many times
+ * can be compacted by building it again. It is not safe to query the index
+ * while it is being updated.
+ */
+public class CukeTagIndex {
+
+	private final Map<String, RoaringBitmap> tagBitmaps = new HashMap<>();
+	private final Map<String, RoaringBitmap> sourceFileBitmaps = new HashMap<>();
+	private final RoaringBitmap allScenarios = new RoaringBitmap();
+	private final List<CukeScenario> scenarios = new ArrayList<>();
+
+	/**
+	 * Builds the index of the scenarios of a test-run, in the order of its
+	 * features
+	 *
+	 * @param testRun The {@link CukeTestRun} to index
+	 * @return A new {@link CukeTagIndex}
+	 */
+	public static CukeTagIndex build(CukeTestRun testRun) {
+		CukeTagIndex index = new CukeTagIndex();
+		if (testRun.getFeatures() != null) {
+			for (CukeFeature feature : testRun.getFeatures()) {
+				feature.getScenarios().forEach(index::add);
+			}
+		}
+		index.runOptimize();
+		return index;
+	}
+
+	/**
+	 * Adds a scenario to the index, with the next ordinal. The tags of its
+	 * feature are indexed as tags of the scenario.
+	 *
+	 * @param scenario The {@link CukeScenario} to add
+	 */
+	public void add(CukeScenario scenario) {
+		int ordinal = scenarios.size();
+		scenarios.add(scenario);
+		allScenarios.add(ordinal);
+		if (scenario.getTags() != null) {
+			for (String tag : scenario.getTags()) {
+				tagBitmaps.computeIfAbsent(tag, t -> new RoaringBitmap()).add(ordinal);
+			}
+		}
+		CukeFeature feature = scenario.getParent();
+		if (feature != null && feature.getTags() != null) {
+			for (String tag : feature.getTags()) {
+				tagBitmaps.computeIfAbsent(tag, t -> new RoaringBitmap()).add(ordinal);
+			}
+		}
+		sourceFileBitmaps.computeIfAbsent(scenario.getSourceFile(), f -> new RoaringBitmap()).add(ordinal);
+	}
+
+	/**
+	 * Removes the scenarios that were converted from the given report files
+	 * from the index
+	 *
+	 * @param sourceFiles The paths of the report files, as kept by
+	 *                    <code>CukeScenario.getSourceFile()</code>
+	 */
+	public void removeSourceFiles(Collection<String> sourceFiles) {
+		RoaringBitmap removed = new RoaringBitmap();
+		for (String sourceFile : sourceFiles) {
+			RoaringBitmap bitmap = sourceFileBitmaps.remove(sourceFile);
+			if (bitmap != null) {
+				removed.or(bitmap);
+			}
+		}
+		if (removed.isEmpty()) {
+			return;
+		}
+		allScenarios.andNot(removed);
+		removed.forEach((int ordinal) -> scenarios.set(ordinal, null));
+		tagBitmaps.values().removeIf(bitmap -> {
+			bitmap.andNot(removed);
+			return bitmap.isEmpty();
+		});
+	}
+
+	/**
+	 * Returns the ordinals of the scenarios that match a tag expression
+	 *
+	 * @param expression The {@link TagExpression} to evaluate
+	 * @return A new {@link RoaringBitmap} with the ordinals of the matching
+	 *         scenarios
+	 */
+	public RoaringBitmap select(TagExpression expression) {
+		RoaringBitmap selected = evaluate(expression);
+		return expression instanceof TagExpression.Tag || expression instanceof TagExpression.True ? selected.clone()
+				: selected;
+	}
+
+	/**
+	 * Returns the scenarios that match a tag expression, in the order of their
+	 * ordinals
+	 *
+	 * @param expression The {@link TagExpression} to evaluate
+	 * @return A {@link List} with the matching {@link CukeScenario}s
+	 */
+	public List<CukeScenario> findScenarios(TagExpression expression) {
+		return getScenarios(evaluate(expression));
+	}
+
+	/**
+	 * Returns the scenarios with the given ordinals
+	 *
+	 * @param ordinals A {@link RoaringBitmap} with the ordinals of the scenarios
+	 * @return A {@link List} with the {@link CukeScenario}s, in the order of
+	 *         their ordinals
+	 */
+	public List<CukeScenario> getScenarios(RoaringBitmap ordinals) {
+		List<CukeScenario> selected = new ArrayList<>(ordinals.getCardinality());
+		ordinals.forEach((int ordinal) -> selected.add(scenarios.get(ordinal)));
+		return selected;
+	}
+
+	/**
+	 * Returns the number of scenarios that match a tag expression
+	 *
+	 * @param expression The {@link TagExpression} to evaluate
+	 * @return An <code>int</code> with the number of matching scenarios
+	 */
+	public int count(TagExpression expression) {
+		return evaluate(expression).getCardinality();
+	}
+
+	/**
+	 * Returns the number of scenarios that have a tag, on the scenario itself
+	 * or on its feature
+	 *
+	 * @param tag The tag, ie: <code>@smoke</code>
+	 * @return An <code>int</code> with the number of scenarios with the tag
+	 */
+	public int count(String tag) {
+		RoaringBitmap bitmap = tagBitmaps.get(tag);
+		return bitmap == null ? 0 : bitmap.getCardinality();
+	}
+
+	/**
+	 * Returns the number of scenarios of each tag of the index
+	 *
+	 * @return A {@link Map} from each tag to its number of scenarios, sorted by
+	 *         the tags
+	 */
+	public Map<String, Integer> getTagCounts() {
+		Map<String, Integer> counts = new LinkedHashMap<>();
+		tagBitmaps.keySet().stream().sorted().forEach(tag -> counts.put(tag, tagBitmaps.get(tag).getCardinality()));
+		return counts;
+	}
+
+	/**
+	 * Returns the distinct tags of the index
+	 *
+	 * @return An unmodifiable {@link Set} with the tags
+	 */
+	public Set<String> getTags() {
+		return Collections.unmodifiableSet(tagBitmaps.keySet());
+	}
+
+	/**
+	 * Returns the number of scenarios of the index
+	 *
+	 * @return An <code>int</code> with the number of indexed scenarios
+	 */
+	public int size() {
+		return allScenarios.getCardinality();
+	}
+
+	/**
+	 * Converts the bitmaps of the index to their most compact representation,
+	 * ie: the ordinals of the scenarios of a feature tag to runs. It is called
+	 * when an index is built, and can be called again after many updates.
+	 */
+	public void runOptimize() {
+		allScenarios.runOptimize();
+		tagBitmaps.values().forEach(RoaringBitmap::runOptimize);
+		sourceFileBitmaps.values().forEach(RoaringBitmap::runOptimize);
+	}
+
+	/**
+	 * Evaluates an expression to a bitmap. The bitmaps of the index may be
+	 * returned as they are, so the result must not be modified.
+	 */
+	private RoaringBitmap evaluate(TagExpression expression) {
+		if (expression instanceof TagExpression.Tag tag) {
+			RoaringBitmap bitmap = tagBitmaps.get(tag.name());
+			return bitmap == null ? new RoaringBitmap() : bitmap;
+		} else if (expression instanceof TagExpression.And and) {
+			return RoaringBitmap.and(evaluate(and.left()), evaluate(and.right()));
+		} else if (expression instanceof TagExpression.Or or) {
+			return RoaringBitmap.or(evaluate(or.left()), evaluate(or.right()));
+		} else if (expression instanceof TagExpression.Not not) {
+			return RoaringBitmap.andNot(allScenarios, evaluate(not.operand()));
+		}
+		return allScenarios;
+	}
+}
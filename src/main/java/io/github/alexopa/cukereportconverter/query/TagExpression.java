@@ -0,0 +1,154 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.query;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+
+/**
+ * A parsed cucumber tag expression, ie: <code>@smoke and not @wip</code>. The
+ * expression is a tree of {@link Tag}, {@link And}, {@link Or} and {@link Not}
+ * nodes, that is evaluated against the tags of a scenario. An empty expression
+ * is parsed to {@link True}, that matches any tags.
+ */
+public sealed interface TagExpression
+		permits TagExpression.True, TagExpression.Tag, TagExpression.And, TagExpression.Or, TagExpression.Not {
+
+	/**
+	 * Parses a cucumber tag expression. The operators are, in order of
+	 * precedence, <code>not</code>, <code>and</code> and <code>or</code>, and
+	 * parentheses can be used for grouping. A backslash escapes a parenthesis, a
+	 * whitespace or a backslash in a tag.
+	 *
+	 * @param expression The tag expression to parse
+	 * @return The parsed {@link TagExpression}
+	 * @throws CukeConverterException In case the expression is not valid
+	 */
+	static TagExpression parse(String expression) {
+		return new TagExpressionParser(expression).parse();
+	}
+
+	/**
+	 * Evaluates the expression against a set of tags
+	 *
+	 * @param hasTag A {@link Predicate} that tests if a tag is present
+	 * @return <code>true</code> if the tags match the expression
+	 */
+	boolean evaluate(Predicate<String> hasTag);
+
+	/**
+	 * Evaluates the expression against a collection of tags
+	 *
+	 * @param tags The {@link Collection} of tags
+	 * @return <code>true</code> if the tags match the expression
+	 */
+	default boolean evaluate(Collection<String> tags) {
+		return evaluate(tags::contains);
+	}
+
+	/**
+	 * The empty expression, that matches any tags
+	 */
+	record True() implements TagExpression {
+
+		@Override
+		public boolean evaluate(Predicate<String> hasTag) {
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "true";
+		}
+	}
+
+	/**
+	 * An expression that matches the tags that contain a single tag
+	 *
+	 * @param name The tag, ie: <code>@smoke</code>
+	 */
+	record Tag(String name) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Predicate<String> hasTag) {
+			return hasTag.test(name);
+		}
+
+		@Override
+		public String toString() {
+			return name.replace("\\", "\\\\").replace("(", "\\(").replace(")", "\\)").replaceAll("\\s", "\\\\ ");
+		}
+	}
+
+	/**
+	 * An expression that matches the tags that match both of its operands
+	 *
+	 * @param left  The left operand
+	 * @param right The right operand
+	 */
+	record And(TagExpression left, TagExpression right) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Predicate<String> hasTag) {
+			return left.evaluate(hasTag) && right.evaluate(hasTag);
+		}
+
+		@Override
+		public String toString() {
+			return "( " + left + " and " + right + " )";
+		}
+	}
+
+	/**
+	 * An expression that matches the tags that match any of its operands
+	 *
+	 * @param left  The left operand
+	 * @param right The right operand
+	 */
+	record Or(TagExpression left, TagExpression right) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Predicate<String> hasTag) {
+			return left.evaluate(hasTag) || right.evaluate(hasTag);
+		}
+
+		@Override
+		public String toString() {
+			return "( " + left + " or " + right + " )";
+		}
+	}
+
+	/**
+	 * An expression that matches the tags that do not match its operand
+	 *
+	 * @param operand The negated operand
+	 */
+	record Not(TagExpression operand) implements TagExpression {
+
+		@Override
+		public boolean evaluate(Predicate<String> hasTag) {
+			return !operand.evaluate(hasTag);
+		}
+
+		@Override
+		public String toString() {
+			return operand instanceof And || operand instanceof Or ? "not " + operand : "not ( " + operand + " )";
+		}
+	}
+}
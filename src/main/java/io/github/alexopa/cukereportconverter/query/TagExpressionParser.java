@@ -0,0 +1,190 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.query;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+
+/**
+ * Parses a cucumber tag expression to a {@link TagExpression}, with the
+ * shunting-yard algorithm that the cucumber implementations use, so the same
+ * expressions are accepted and rejected.
+ */
+class TagExpressionParser {
+
+	private static final String NOT = "not";
+	private static final String AND = "and";
+	private static final String OR = "or";
+
+	private final String expression;
+
+	private final Deque<Token> operators = new ArrayDeque<>();
+	private final Deque<TagExpression> operands = new ArrayDeque<>();
+
+	TagExpressionParser(String expression) {
+		this.expression = expression == null ? "" : expression;
+	}
+
+	TagExpression parse() {
+		List<Token> tokens = tokenize();
+		if (tokens.isEmpty()) {
+			return new TagExpression.True();
+		}
+
+		boolean expectOperand = true;
+		for (Token token : tokens) {
+			if (token.is(NOT)) {
+				expect(expectOperand, true);
+				operators.push(token);
+			} else if (token.is(AND) || token.is(OR)) {
+				expect(expectOperand, false);
+				while (!operators.isEmpty() && operators.peek().isOperator()
+						&& precedence(token) <= precedence(operators.peek())) {
+					reduce(operators.pop());
+				}
+				operators.push(token);
+				expectOperand = true;
+			} else if (token.isOpenParenthesis()) {
+				expect(expectOperand, true);
+				operators.push(token);
+			} else if (token.isCloseParenthesis()) {
+				expect(expectOperand, false);
+				while (!operators.isEmpty() && !operators.peek().isOpenParenthesis()) {
+					reduce(operators.pop());
+				}
+				if (operators.isEmpty()) {
+					throw syntaxError("Unmatched ).");
+				}
+				operators.pop();
+			} else {
+				expect(expectOperand, true);
+				operands.push(new TagExpression.Tag(token.text()));
+				expectOperand = false;
+			}
+		}
+
+		while (!operators.isEmpty()) {
+			Token operator = operators.pop();
+			if (operator.isOpenParenthesis()) {
+				throw syntaxError("Unmatched (.");
+			}
+			reduce(operator);
+		}
+		if (operands.size() != 1) {
+			throw syntaxError("Expected operator.");
+		}
+		return operands.pop();
+	}
+
+	private List<Token> tokenize() {
+		List<Token> tokens = new ArrayList<>();
+		StringBuilder text = new StringBuilder();
+		boolean escaped = false;
+		for (int i = 0; i < expression.length(); i++) {
+			char c = expression.charAt(i);
+			if (escaped) {
+				if (c != '(' && c != ')' && c != '\\' && !Character.isWhitespace(c)) {
+					throw syntaxError(String.format("Illegal escape before \"%s\".", c));
+				}
+				text.append(c);
+				escaped = false;
+			} else if (c == '\\') {
+				escaped = true;
+			} else if (c == '(' || c == ')' || Character.isWhitespace(c)) {
+				if (!text.isEmpty()) {
+					tokens.add(new Token(text.toString(), false));
+					text.setLength(0);
+				}
+				if (!Character.isWhitespace(c)) {
+					tokens.add(new Token(String.valueOf(c), true));
+				}
+			} else {
+				text.append(c);
+			}
+		}
+		if (escaped) {
+			throw syntaxError("Expected special character after escape character.");
+		}
+		if (!text.isEmpty()) {
+			tokens.add(new Token(text.toString(), false));
+		}
+		return tokens;
+	}
+
+	private void expect(boolean expectOperand, boolean operand) {
+		if (expectOperand != operand) {
+			throw syntaxError(expectOperand ? "Expected operand." : "Expected operator.");
+		}
+	}
+
+	private void reduce(Token operator) {
+		if (operator.is(NOT)) {
+			operands.push(new TagExpression.Not(popOperand()));
+			return;
+		}
+		TagExpression right = popOperand();
+		TagExpression left = popOperand();
+		operands.push(operator.is(AND) ? new TagExpression.And(left, right) : new TagExpression.Or(left, right));
+	}
+
+	private TagExpression popOperand() {
+		if (operands.isEmpty()) {
+			throw syntaxError("Expected operand.");
+		}
+		return operands.pop();
+	}
+
+	private static int precedence(Token operator) {
+		return switch (operator.text()) {
+		case OR -> 0;
+		case AND -> 1;
+		default -> 2;
+		};
+	}
+
+	private CukeConverterException syntaxError(String reason) {
+		return new CukeConverterException(String.format(
+				"Tag expression \"%s\" could not be parsed because of syntax error: %s", expression, reason));
+	}
+
+	/**
+	 * A token of a tag expression. Parentheses are special tokens, so an escaped
+	 * parenthesis is read as a tag.
+	 */
+	private record Token(String text, boolean special) {
+
+		private boolean is(String keyword) {
+			return !special && text.equals(keyword);
+		}
+
+		private boolean isOperator() {
+			return is(NOT) || is(AND) || is(OR);
+		}
+
+		private boolean isOpenParenthesis() {
+			return special && text.equals("(");
+		}
+
+		private boolean isCloseParenthesis() {
+			return special && text.equals(")");
+		}
+	}
+}
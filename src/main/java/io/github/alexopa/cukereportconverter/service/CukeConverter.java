@@ -16,35 +16,82 @@
  */
 package io.github.alexopa.cukereportconverter.service;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
+import org.apache.commons.io.input.CloseShieldInputStream;
 import org.apache.commons.lang3.StringUtils;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import io.github.alexopa.cukereportconverter.config.CukeConverterPropertyHandler;
+import io.github.alexopa.cukereportconverter.config.JsonParserType;
+import io.github.alexopa.cukereportconverter.service.CukeFusedFeatureReader.ParsedFeature;
 import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeEmbedding;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeScenario;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeScenarioResult;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepColumns;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResultCounter;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeStepMatch;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeScenarioType;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeStep;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeStepSection;
 import io.github.alexopa.cukereportconverter.model.jsonreport.Element;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Embedding;
 import io.github.alexopa.cukereportconverter.model.jsonreport.Feature;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Row;
 import io.github.alexopa.cukereportconverter.model.jsonreport.Step;
 import io.github.alexopa.cukereportconverter.model.jsonreport.Tag;
+import io.github.alexopa.cukereportconverter.query.CukeTagIndex;
+import io.github.alexopa.cukereportconverter.snapshot.CukeParseCache;
+import io.github.alexopa.cukereportconverter.storage.EmbeddingStore;
+import io.github.alexopa.cukereportconverter.util.BoundedStringPool;
+import io.github.alexopa.cukereportconverter.util.StringPool;
+import io.github.alexopa.cukereportconverter.util.CompressionFormat;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -60,6 +107,18 @@ public class CukeConverter {
 
 	private final CukeConverterPropertyHandler propHandler;
 
+	private final ObjectReader featuresReader;
+
+	private final ObjectReader featureReader;
+
+	private final CukeJsonReportParser schemaParser;
+
+	private final CukeFusedFeatureReader fusedFeatureReader;
+
+	private final StringPool stringPool;
+
+	private final CukeParseCache parseCache;
+
 	/**
 	 * Creates a new {@link CukeConverter} instance. The default
 	 * {@link CukeConverterPropertyHandler} is initialized and used.
@@ -75,56 +134,564 @@ public class CukeConverter {
 	 *                               used to initialize the class
 	 */
 	public CukeConverter(CukeConverterPropertyHandler propHandler) {
+		this(propHandler, propHandler.getStringPoolSize() > 0 ? new BoundedStringPool(propHandler.getStringPoolSize())
+				: StringPool.NONE);
+	}
+
+	/**
+	 * Creates a new {@link CukeConverter} instance, that canonicalizes the
+	 * repeated strings of the converted test-run with the given
+	 * {@link StringPool}. The pool may be shared between converters.
+	 * 
+	 * @param propHandler The {@link CukeConverterPropertyHandler} instance used to
+	 *                    initialize the class
+	 * @param stringPool  The {@link StringPool} used to canonicalize step
+	 *                    keywords, names, tags, match locations and error
+	 *                    messages
+	 */
+	public CukeConverter(CukeConverterPropertyHandler propHandler, StringPool stringPool) {
 		objectMapper.registerModule(new JavaTimeModule());
 		this.propHandler = propHandler;
+		this.stringPool = stringPool;
+		CukeFieldProjection fieldProjection = CukeFieldProjection.from(propHandler);
+		fieldProjection.applyTo(objectMapper);
+		this.featuresReader = objectMapper.readerFor(Feature[].class);
+		this.featureReader = objectMapper.readerFor(Feature.class);
+		this.schemaParser = propHandler.getJsonParser() == JsonParserType.SCHEMA
+				? new CukeJsonReportParser(fieldProjection)
+				: null;
+		this.fusedFeatureReader = new CukeFusedFeatureReader(new CukeJsonReportParser(fieldProjection), stringPool,
+				propHandler.isColumnarSteps());
+		this.parseCache = StringUtils.isNotBlank(propHandler.getParseCacheDir())
+				? new CukeParseCache(Path.of(propHandler.getParseCacheDir()),
+						propHandler.getParseCacheMaxSize() * 1024L * 1024L, parseCacheNamespace(),
+						propHandler.isColumnarSteps())
+				: null;
+	}
+
+	/**
+	 * Returns the namespace of the {@link CukeParseCache} entries, made of the
+	 * settings that affect the converted test-run of a report file. The columnar
+	 * steps are left out, since they are applied when an entry is loaded, so a
+	 * loaded test-run has the same shape as a converted one. The parallel
+	 * and memory-mapped reading, the string pool, the tag index and the error
+	 * handling are left out too, since they do not change the converted
+	 * test-run, and files with ignored errors are not cached.
+	 */
+	private String parseCacheNamespace() {
+		return String.join(";", String.join(",", propHandler.getStepFields()),
+				String.join(",", propHandler.getElementFields()), Boolean.toString(propHandler.isMergeFeatures()),
+				propHandler.getMergeKey().name(), propHandler.getJsonParser().name(),
+				Boolean.toString(propHandler.isStreamingParse()), Boolean.toString(propHandler.isFusedConversion()),
+				propHandler.getEmbeddingStorage().name());
+	}
+
+	/**
+	 * Returns the {@link StringPool} that canonicalizes the repeated strings of
+	 * the converted test-runs. Its hit and miss counters can be used to monitor
+	 * the effectiveness of the pool.
+	 * 
+	 * @return The {@link StringPool} of this converter
+	 */
+	public StringPool getStringPool() {
+		return stringPool;
+	}
+
+	/**
+	 * Returns the {@link CukeParseCache} of the converted report files, in case
+	 * {@link CukeConverterPropertyHandler#getParseCacheDir()} is set. Its hit,
+	 * miss and bytes saved counters can be used to monitor the effectiveness of
+	 * the cache.
+	 * 
+	 * @return An {@link Optional} with the {@link CukeParseCache} of this
+	 *         converter, or an empty {@link Optional} if the cache is disabled
+	 */
+	public Optional<CukeParseCache> getParseCache() {
+		return Optional.ofNullable(parseCache);
 	}
 
 	/**
 	 * Method that accepts a list of cucumber json files and converts them to a
-	 * {@link CukeTestRun} instance
+	 * {@link CukeTestRun} instance. In case
+	 * {@link CukeConverterPropertyHandler#getParseCacheDir()} is set, each file is
+	 * converted on its own and the files that are found in the
+	 * {@link CukeParseCache} are loaded from it without being parsed.
 	 * 
 	 * @param jsonFiles The {@link List} of cucumber json {@link File}s
 	 * @return a {@link CukeTestRun} object
 	 */
 	public CukeTestRun convertToTestRun(List<File> jsonFiles) {
-		List<Feature> jsonFeatures = convertCucumberJsonFiles(jsonFiles);
-		CukeTestRun testRun = CukeTestRun.builder().features(convertToCukeFeature(jsonFeatures)).build();
+		return indexTags(buildTestRun(convertFiles(jsonFiles).getFeatures()));
+	}
+
+	/**
+	 * Method that updates a {@link CukeTestRun}, that has been converted by this
+	 * converter, with the report files that have been added, changed or removed
+	 * since. The scenarios that were converted from the changed and removed files
+	 * are retracted from their features, only the changed files are converted,
+	 * and their features are merged to the test-run following the same rules as
+	 * {@link #mergeCukeFeatures(CukeTestRun, List)}. The aggregates are updated
+	 * as described in {@link CukeTestRun#removeScenarios(java.util.Collection)}, and
+	 * features that are left without scenarios are removed. The changed files are converted before the
+	 * test-run is modified, so the test-run is left untouched in case their
+	 * conversion fails.
+	 * <p>
+	 * The files are matched to the scenarios by their path, as kept by
+	 * <code>CukeScenario.getSourceFile()</code>, so they should be given with the same
+	 * paths as the ones they were first converted with.
+	 * 
+	 * @param testRun      The {@link CukeTestRun} to update
+	 * @param changedFiles The {@link List} of cucumber json {@link File}s that
+	 *                     have been added or changed
+	 * @param removedFiles The {@link List} of cucumber json {@link File}s that
+	 *                     have been removed
+	 */
+	public void updateTestRun(CukeTestRun testRun, List<File> changedFiles, List<File> removedFiles) {
+		updateTestRun(testRun, changedFiles, removedFiles, false);
+	}
+
+	/**
+	 * Updates a {@link CukeTestRun} as {@link #updateTestRun(CukeTestRun, List, List)}
+	 * does, and returns the features of the test-run that were modified, including
+	 * the ones that were removed for being left without scenarios. In case
+	 * <code>skipOnReadErrors</code> is set and read errors of the changed files
+	 * were ignored, because {@link CukeConverterPropertyHandler#isFailOnError()} is
+	 * disabled, the test-run is left untouched and an empty {@link Optional} is
+	 * returned.
+	 * 
+	 * @param testRun          The {@link CukeTestRun} to update
+	 * @param changedFiles     The {@link List} of cucumber json {@link File}s that
+	 *                         have been added or changed
+	 * @param removedFiles     The {@link List} of cucumber json {@link File}s that
+	 *                         have been removed
+	 * @param skipOnReadErrors Whether to leave the test-run untouched in case read
+	 *                         errors of the changed files were ignored
+	 * @return The {@link Set} of modified {@link CukeFeature}s, compared by
+	 *         identity, or an empty {@link Optional} if the test-run was left
+	 *         untouched
+	 */
+	Optional<Set<CukeFeature>> updateTestRun(CukeTestRun testRun, List<File> changedFiles, List<File> removedFiles,
+			boolean skipOnReadErrors) {
+		ConvertedFiles converted = changedFiles.isEmpty() ? new ConvertedFiles(List.of(), 0) : convertFiles(changedFiles);
+		if (skipOnReadErrors && converted.getIgnoredReadErrors() > 0) {
+			log.debug("Skipped test-run update. Ignored read errors: {}", converted.getIgnoredReadErrors());
+			return Optional.empty();
+		}
+		List<CukeFeature> newFeatures = converted.getFeatures();
+
+		Set<String> sourceFiles = new LinkedHashSet<>();
+		Stream.concat(changedFiles.stream(), removedFiles.stream()).forEach(f -> sourceFiles.add(f.toPath().toString()));
+		List<CukeScenario> removed = testRun.removeScenarios(sourceFiles);
+		mergeCukeFeatures(testRun, newFeatures);
+		testRun.removeEmptyFeatures();
+		log.debug("Updated test-run. Removed scenarios: {}, changed files: {}, removed files: {}", removed.size(),
+				changedFiles.size(), removedFiles.size());
+
+		Set<CukeFeature> modifiedFeatures = Collections.newSetFromMap(new IdentityHashMap<>());
+		removed.forEach(scenario -> modifiedFeatures.add(scenario.getParent()));
+		newFeatures.forEach(feature -> feature.getScenarios().forEach(scenario -> modifiedFeatures.add(scenario.getParent())));
+		return Optional.of(modifiedFeatures);
+	}
+
+	private ConvertedFiles convertFiles(List<File> jsonFiles) {
+		return parseCache != null ? convertCached(jsonFiles) : convertToCukeFeatures(jsonFiles);
+	}
+
+	private ConvertedFiles convertCached(List<File> jsonFiles) {
+		List<CukeFeature> features = new ArrayList<>();
+		int ignoredReadErrors = 0;
+		for (File jsonFile : jsonFiles) {
+			Path jsonPath = jsonFile.toPath();
+			Optional<CukeTestRun> cached = parseCache.get(jsonPath);
+			List<CukeFeature> fileFeatures;
+			if (cached.isPresent()) {
+				fileFeatures = cached.get().getFeatures();
+			} else {
+				ConvertedFiles converted = convertToCukeFeatures(List.of(jsonFile));
+				fileFeatures = converted.getFeatures();
+				if (converted.getIgnoredReadErrors() == 0) {
+					parseCache.put(jsonPath, buildTestRun(fileFeatures));
+				}
+				ignoredReadErrors += converted.getIgnoredReadErrors();
+			}
+			mergeCukeFeatures(features, fileFeatures);
+		}
+		log.info("Parse cache hits: {}, misses: {}, bytes saved: {}", parseCache.getHitCount(),
+				parseCache.getMissCount(), parseCache.getBytesSaved());
+		return new ConvertedFiles(features, ignoredReadErrors);
+	}
+
+	private ConvertedFiles convertToCukeFeatures(List<File> jsonFiles) {
+		AtomicInteger ignoredReadErrors = new AtomicInteger();
+		List<CukeFeature> features;
+		if (propHandler.isFusedConversion()) {
+			ConversionContext conversionContext = newConversionContext();
+			streamReports(jsonFiles, (parser, sourceFile) -> {
+				ParsedFeature parsedFeature = fusedFeatureReader.readFeature(parser, conversionContext.getEmbeddingStore());
+				return () -> convertFeature(parsedFeature, sourceFile, conversionContext);
+			}, true, ignoredReadErrors);
+			features = conversionContext.getFeatures();
+			log.debug("total number of features: {}", features.size());
+		} else if (propHandler.isStreamingParse()) {
+			ConversionContext conversionContext = newConversionContext();
+			streamReports(jsonFiles, (parser, sourceFile) -> {
+				Feature jsonFeature = readFeature(parser);
+				jsonFeature.setSourceFile(sourceFile);
+				return prepareFeature(jsonFeature, conversionContext);
+			}, true, ignoredReadErrors);
+			features = conversionContext.getFeatures();
+			log.debug("total number of features: {}", features.size());
+		} else {
+			List<Feature> jsonFeatures = parseCucumberJsonFiles(jsonFiles, ignoredReadErrors);
+			features = convertToCukeFeature(jsonFeatures);
+		}
+		return new ConvertedFiles(features, ignoredReadErrors.get());
+	}
+
+	/**
+	 * Method that scans a directory tree for cucumber json files and converts them
+	 * to a {@link CukeTestRun} instance. The files are matched against the given
+	 * glob pattern, relative to the root directory, ie: <code>**.json</code>
+	 * matches all json files of the tree, while <code>*.json</code> matches only
+	 * the json files directly under the root directory. The matched files are
+	 * converted in the order of their paths, through
+	 * {@link #convertToTestRun(List)}, so they are parsed in parallel in case
+	 * {@link CukeConverterPropertyHandler#isParallelParse()} is enabled.
+	 * 
+	 * @param root The root directory to scan
+	 * @param glob The glob pattern that the report files should match
+	 * @return a {@link CukeTestRun} object
+	 */
+	public CukeTestRun convertDirectory(Path root, String glob) {
+		List<Path> reportFiles = new ArrayList<>();
+		findReportFiles(root, glob, reportFiles::add);
+		Collections.sort(reportFiles);
+		return convertToTestRun(reportFiles.stream().map(Path::toFile).toList());
+	}
+
+	private void findReportFiles(Path root, String glob, Consumer<Path> fileConsumer) {
+		PathMatcher matcher = root.getFileSystem().getPathMatcher("glob:" + glob);
+		try (Stream<Path> paths = Files.find(root, Integer.MAX_VALUE,
+				(path, attrs) -> attrs.isRegularFile() && matcher.matches(root.relativize(path)))) {
+			paths.forEach(fileConsumer);
+		} catch (IOException | UncheckedIOException e) {
+			String msg = String.format("Failed to scan directory: %s", root);
+			log.error("{}", msg);
+			throw new CukeConverterException(msg, e);
+		}
+	}
+
+	private CukeTestRun buildTestRun(List<CukeFeature> features) {
+		CukeTestRun testRun = CukeTestRun.builder().features(features).build();
 		testRun.calculateStartTime();
 		testRun.calculateEndTime();
-		
+		testRun.calculateStatistics();
+
+		return testRun;
+	}
+
+	private CukeTestRun indexTags(CukeTestRun testRun) {
+		if (propHandler.isTagIndex()) {
+			testRun.setTagIndex(CukeTagIndex.build(testRun));
+			log.debug("Tag index: scenarios: {}, tags: {}", testRun.getTagIndex().size(),
+					testRun.getTagIndex().getTags().size());
+		}
 		return testRun;
 	}
 
 	/**
 	 * Method that accepts a list of cucumber json files and parses the report to
-	 * the corresponding objects
+	 * the corresponding objects. In case
+	 * {@link CukeConverterPropertyHandler#isParallelParse()} is enabled, the files
+	 * are parsed in parallel, as described in
+	 * {@link #convertCucumberJsonFiles(List, Executor)}.
 	 * 
 	 * @param jsonFiles The {@link List} of cucumber json {@link File}s
 	 * @return A {@link List} of {@link Feature} objects
 	 */
 	public List<Feature> convertCucumberJsonFiles(List<File> jsonFiles) {
+		return parseCucumberJsonFiles(jsonFiles, null);
+	}
+
+	private List<Feature> parseCucumberJsonFiles(List<File> jsonFiles, AtomicInteger ignoredReadErrors) {
+		if (propHandler.isParallelParse()) {
+			ExecutorService executor = newParseExecutor();
+			try {
+				return parseCucumberJsonFiles(jsonFiles, executor, ignoredReadErrors);
+			} finally {
+				executor.shutdownNow();
+			}
+		}
 
 		List<Feature> cucumberJsonFeatures = new ArrayList<>();
 
 		for (File jsonFile : jsonFiles) {
-			log.info("Processing json file: {}", jsonFile.getName());
-			List<Feature> features = null;
-			try {
-				features = Arrays.asList(objectMapper.readValue(jsonFile, Feature[].class));
-			} catch (IOException e) {
-				if (propHandler.isFailOnConvertError()) {
-					String msg = String.format("Failed to process json file: %s", jsonFile);
-					log.error("{}", msg);
-					throw new CukeConverterException(msg, e);
-				} else {
-					log.warn("Failed to process json file: {}. Ignoring error", jsonFile);
+			cucumberJsonFeatures.addAll(parseCucumberJson(jsonFile.toPath(), ignoredReadErrors));
+		}
+		return cucumberJsonFeatures;
+	}
+
+	/**
+	 * Method that accepts a list of cucumber json files and parses them in
+	 * parallel, using the given {@link Executor}. The largest files are scheduled
+	 * first, while the returned features keep the order of the given files, so the
+	 * result is the same as parsing the files one after another. The entries of
+	 * zip archives are parsed in parallel as well. The source file of each
+	 * feature is set to the path of the file it was parsed from.
+	 * 
+	 * @param jsonFiles The {@link List} of cucumber json {@link File}s
+	 * @param executor  The {@link Executor} that parses the files
+	 * @return A {@link List} of {@link Feature} objects
+	 */
+	public List<Feature> convertCucumberJsonFiles(List<File> jsonFiles, Executor executor) {
+		return parseCucumberJsonFiles(jsonFiles, executor, null);
+	}
+
+	private List<Feature> parseCucumberJsonFiles(List<File> jsonFiles, Executor executor,
+			AtomicInteger ignoredReadErrors) {
+		try (ReportSources reportSources = newReportSources()) {
+			List<String> sourceFiles = new ArrayList<>();
+			for (File jsonFile : jsonFiles) {
+				reportSources.add(jsonFile.toPath());
+				while (sourceFiles.size() < reportSources.getSources().size()) {
+					sourceFiles.add(jsonFile.toPath().toString());
 				}
 			}
-			Optional.ofNullable(features).ifPresent(cucumberJsonFeatures::addAll);
+			List<ReportSource> sources = reportSources.getSources();
+
+			List<CompletableFuture<List<Feature>>> parsedSources = new ArrayList<>(
+					Collections.nCopies(sources.size(), null));
+
+			IntStream.range(0, sources.size()).boxed()
+					.sorted(Comparator.comparingLong((Integer i) -> sources.get(i).getSize()).reversed())
+					.forEach(i -> parsedSources.set(i,
+							CompletableFuture.supplyAsync(() -> {
+								List<Feature> features = readFeatures(sources.get(i), ignoredReadErrors);
+								features.forEach(feature -> feature.setSourceFile(sourceFiles.get(i)));
+								return features;
+							}, executor)));
+
+			List<Feature> cucumberJsonFeatures = new ArrayList<>();
+			for (CompletableFuture<List<Feature>> parsedSource : parsedSources) {
+				cucumberJsonFeatures.addAll(awaitResult(parsedSource));
+			}
+			return cucumberJsonFeatures;
+		}
+	}
+
+	/**
+	 * Method that parses a cucumber json report from a {@link Path}. In case
+	 * {@link CukeConverterPropertyHandler#isMemoryMappedRead()} is enabled, the file
+	 * is read through a memory-mapped {@link java.nio.channels.FileChannel}. Gzip
+	 * compressed files and zip archives of json reports are supported as well.
+	 * 
+	 * @param jsonPath The {@link Path} of the cucumber json report
+	 * @return A {@link List} of {@link Feature} objects
+	 */
+	public List<Feature> convertCucumberJson(Path jsonPath) {
+		return parseCucumberJson(jsonPath, null);
+	}
+
+	private List<Feature> parseCucumberJson(Path jsonPath, AtomicInteger ignoredReadErrors) {
+		try (ReportSources reportSources = newReportSources().add(jsonPath)) {
+			List<Feature> cucumberJsonFeatures = new ArrayList<>();
+			for (ReportSource source : reportSources) {
+				cucumberJsonFeatures.addAll(readFeatures(source, ignoredReadErrors));
+			}
+			cucumberJsonFeatures.forEach(feature -> feature.setSourceFile(jsonPath.toString()));
+			return cucumberJsonFeatures;
+		}
+	}
+
+	/**
+	 * Method that parses a cucumber json report from an {@link InputStream}. The
+	 * stream is closed once it has been read. In case the stream contains gzip
+	 * compressed data, they are decompressed while parsing, and in case it
+	 * contains a zip archive, each json entry of the archive is parsed.
+	 * 
+	 * @param jsonStream The {@link InputStream} with the cucumber json report
+	 * @return A {@link List} of {@link Feature} objects
+	 */
+	public List<Feature> convertCucumberJson(InputStream jsonStream) {
+		return readStream("input stream", jsonStream);
+	}
+
+	/**
+	 * Method that parses a cucumber json report that is already available in
+	 * memory. Compressed data are supported, as described in
+	 * {@link #convertCucumberJson(InputStream)}.
+	 * 
+	 * @param json A <code>byte[]</code> with the cucumber json report
+	 * @return A {@link List} of {@link Feature} objects
+	 */
+	public List<Feature> convertCucumberJson(byte[] json) {
+		if (CompressionFormat.detect(json) != CompressionFormat.NONE) {
+			return readStream("byte array", new ByteArrayInputStream(json));
+		}
+		return readFeatures(new ReportSource("byte array", json.length, factory -> factory.createParser(json)), null);
+	}
+
+	/**
+	 * Method that parses a cucumber json report from the remaining bytes of a
+	 * {@link ByteBuffer}. Both heap and direct buffers are supported, and the
+	 * position of the given buffer is not modified. Compressed data are
+	 * supported, as described in {@link #convertCucumberJson(InputStream)}.
+	 * 
+	 * @param json A {@link ByteBuffer} with the cucumber json report
+	 * @return A {@link List} of {@link Feature} objects
+	 */
+	public List<Feature> convertCucumberJson(ByteBuffer json) {
+		if (CompressionFormat.detect(json) != CompressionFormat.NONE || !json.hasArray()) {
+			return readStream("byte buffer", new ByteBufferBackedInputStream(json.duplicate()));
+		}
+		return readFeatures(new ReportSource("byte buffer", json.remaining(), factory -> factory
+				.createParser(json.array(), json.arrayOffset() + json.position(), json.remaining())), null);
+	}
+
+	private List<Feature> readStream(String name, InputStream jsonStream) {
+		List<Feature> cucumberJsonFeatures = new ArrayList<>();
+		try (InputStream in = new BufferedInputStream(jsonStream, ReportSources.BUFFER_SIZE)) {
+			switch (CompressionFormat.detect(in)) {
+			case GZIP -> cucumberJsonFeatures.addAll(readFeatures(new ReportSource(name, 0,
+					factory -> factory.createParser(new GZIPInputStream(in, ReportSources.BUFFER_SIZE))), null));
+			case ZIP -> cucumberJsonFeatures.addAll(readZipStream(name, new ZipInputStream(in)));
+			case NONE -> cucumberJsonFeatures
+					.addAll(readFeatures(new ReportSource(name, 0, factory -> factory.createParser(in)), null));
+			}
+		} catch (IOException e) {
+			handleReadError(name, e, null);
+		}
+		return cucumberJsonFeatures;
+	}
+
+	private List<Feature> readZipStream(String name, ZipInputStream zipStream) throws IOException {
+		List<Feature> cucumberJsonFeatures = new ArrayList<>();
+		ZipEntry entry;
+		while ((entry = zipStream.getNextEntry()) != null) {
+			if (ReportSources.isJsonEntry(entry)) {
+				cucumberJsonFeatures.addAll(readFeatures(new ReportSource(name + "!/" + entry.getName(),
+						entry.getSize(), factory -> factory.createParser(CloseShieldInputStream.wrap(zipStream))), null));
+			}
 		}
 		return cucumberJsonFeatures;
 	}
 
+	private List<Feature> readFeatures(ReportSource source, AtomicInteger ignoredReadErrors) {
+		log.info("Processing json file: {}", source.getName());
+		try (JsonParser parser = source.createParser(objectMapper.getFactory())) {
+			return schemaParser != null ? schemaParser.readFeatures(parser)
+					: Arrays.asList(featuresReader.<Feature[]>readValue(parser));
+		} catch (IOException e) {
+			handleReadError(source.getName(), e, ignoredReadErrors);
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Handles an error while reading a report. In case the error is ignored, it
+	 * is counted by the given counter of the conversion, if there is one.
+	 */
+	private void handleReadError(String source, IOException e, AtomicInteger ignoredReadErrors) {
+		if (propHandler.isFailOnConvertError()) {
+			String msg = String.format("Failed to process json file: %s", source);
+			log.error("{}", msg);
+			throw new CukeConverterException(msg, e);
+		} else {
+			if (ignoredReadErrors != null) {
+				ignoredReadErrors.incrementAndGet();
+			}
+			log.warn("Failed to process json file: {}. Ignoring error", source);
+		}
+	}
+
+	private ExecutorService newParseExecutor() {
+		return Executors.newFixedThreadPool(propHandler.getParallelism(), new ParseThreadFactory());
+	}
+
+	private ReportSources newReportSources() {
+		return new ReportSources(propHandler.isMemoryMappedRead());
+	}
+
+	private <T> T awaitResult(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof CukeConverterException cukeConverterException) {
+				throw cukeConverterException;
+			}
+			throw new CukeConverterException(e.getCause());
+		}
+	}
+
+	/**
+	 * Method that accepts a list of cucumber json files and parses them in
+	 * streaming mode. The top-level array of each report is walked token by token
+	 * and each {@link Feature} is handed to the given consumer as soon as it has
+	 * been read, so only one feature of a report is kept in memory at a time.
+	 * Compressed files are decompressed while they are read. In case a report
+	 * fails to parse and {@link CukeConverterPropertyHandler#isFailOnConvertError()}
+	 * is disabled, the features that were read before the error have already
+	 * been handed to the consumer. The conversions of this converter, unlike
+	 * this method, add the scenarios of a report to the converted features only
+	 * once the whole report has been read, so a report that fails to parse is
+	 * left out entirely in every mode.
+	 * 
+	 * @param jsonFiles       The {@link List} of cucumber json {@link File}s
+	 * @param featureConsumer A {@link Consumer} that accepts each parsed
+	 *                        {@link Feature}
+	 */
+	public void streamCucumberJsonFiles(List<File> jsonFiles, Consumer<Feature> featureConsumer) {
+		streamReports(jsonFiles, (parser, sourceFile) -> {
+			Feature feature = readFeature(parser);
+			feature.setSourceFile(sourceFile);
+			return () -> featureConsumer.accept(feature);
+		}, false, null);
+	}
+
+	private Feature readFeature(JsonParser parser) throws IOException {
+		return schemaParser != null ? schemaParser.readFeature(parser) : featureReader.<Feature>readValue(parser);
+	}
+
+	/**
+	 * Streams the features of the given files to the handler. In case
+	 * <code>wholeReports</code> is set, the actions that the handler returns
+	 * for the features of a report are run only once the whole report has been
+	 * read, so nothing of a report that fails to parse is kept. Otherwise each
+	 * action runs as soon as its feature has been read.
+	 */
+	private void streamReports(List<File> jsonFiles, FeatureHandler featureHandler, boolean wholeReports,
+			AtomicInteger ignoredReadErrors) {
+		for (File jsonFile : jsonFiles) {
+			try (ReportSources reportSources = newReportSources().add(jsonFile.toPath())) {
+				for (ReportSource source : reportSources) {
+					log.info("Streaming json file: {}", source.getName());
+					List<Runnable> featureActions = new ArrayList<>();
+					try (JsonParser parser = source.createParser(objectMapper.getFactory())) {
+						streamFeatures(parser, jsonFile.toPath().toString(), featureHandler,
+								wholeReports ? featureActions::add : Runnable::run);
+						featureActions.forEach(Runnable::run);
+					} catch (IOException e) {
+						handleReadError(source.getName(), e, ignoredReadErrors);
+					}
+				}
+			}
+		}
+	}
+
+	private void streamFeatures(JsonParser parser, String sourceFile, FeatureHandler featureHandler,
+			Consumer<Runnable> featureActions) throws IOException {
+		if (parser.nextToken() != JsonToken.START_ARRAY) {
+			throw new JsonParseException(parser, "Expected a json array of features");
+		}
+		JsonToken token;
+		while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+			featureActions.accept(featureHandler.handle(parser, sourceFile));
+		}
+		if (token != JsonToken.END_ARRAY) {
+			throw new JsonParseException(parser, "Expected a json object or the end of the features array");
+		}
+	}
+
 	/**
 	 * Method that a accepts a list of cucumber report feature objects ( as they
 	 * have been parsed by {@link #convertCucumberJsonFiles(List)} method, and
@@ -134,124 +701,369 @@ public class CukeConverter {
 	 * @return A {@link List} of {@link CukeFeature} objects
 	 */
 	public List<CukeFeature> convertToCukeFeature(List<Feature> jsonFeatures) {
+		if (propHandler.isParallelConversion()) {
+			ForkJoinPool pool = new ForkJoinPool(propHandler.getParallelism());
+			try {
+				return convertToCukeFeature(jsonFeatures, pool);
+			} finally {
+				pool.shutdownNow();
+			}
+		}
+
 		log.info("Starting transformation of features. Size: {}", jsonFeatures.size());
 
-		List<CukeFeature> features = new ArrayList<>();
+		ConversionContext conversionContext = newConversionContext();
 		for (Feature jsonFeature : jsonFeatures) {
+			convertFeature(jsonFeature, conversionContext);
+		}
+		List<CukeFeature> features = conversionContext.getFeatures();
+
+		log.debug("total number of features: {}", features.size());
+		return features;
+	}
+
+	/**
+	 * Method that a accepts a list of cucumber report feature objects and
+	 * converts them to a list of {@link CukeFeature} objects in parallel, on the
+	 * given {@link ForkJoinPool}. The scenarios of all features are split in
+	 * ranges that are converted as separate tasks, while the converted scenarios
+	 * are added to their features on the calling thread, so the result is the
+	 * same as the one of {@link #convertToCukeFeature(List)}, with the features
+	 * and scenarios in the order of the input.
+	 * 
+	 * @param jsonFeatures A {@link List} of {@link Feature} objects
+	 * @param pool         The {@link ForkJoinPool} that converts the scenarios
+	 * @return A {@link List} of {@link CukeFeature} objects
+	 */
+	public List<CukeFeature> convertToCukeFeature(List<Feature> jsonFeatures, ForkJoinPool pool) {
+		log.info("Starting parallel transformation of features. Size: {}", jsonFeatures.size());
 
-			if (!isFeatureConvertable(jsonFeature)) {
+		ConversionContext conversionContext = newConversionContext();
+		List<Feature> convertableFeatures = new ArrayList<>();
+		List<List<ScenarioElements>> featureScenarios = new ArrayList<>();
+		List<ScenarioElements> allScenarios = new ArrayList<>();
+		for (Feature jsonFeature : jsonFeatures) {
+			if (!isFeatureConvertable(jsonFeature.getName())) {
 				log.debug("Cannot convert feature. Skipping...");
 				continue;
 			}
-			
-			boolean mergeFeaturesWithSameName = propHandler.isMergeFeatures();
-
-			Optional<CukeFeature> optionalFeature = features.stream()
-					.filter(f -> f.getName().equals(jsonFeature.getName()))
-					.findFirst();
-			boolean createNewFeature = false;
-			if (optionalFeature.isEmpty()) {
-				createNewFeature = true;
-			} else {
-				if (!mergeFeaturesWithSameName) {
-					createNewFeature = true;
-				}
+			List<ScenarioElements> scenarios = scenarioElements(jsonFeature);
+			convertableFeatures.add(jsonFeature);
+			featureScenarios.add(scenarios);
+			allScenarios.addAll(scenarios);
+		}
+
+		CukeScenario[] convertedScenarios = new CukeScenario[allScenarios.size()];
+		pool.invoke(new ConvertScenariosTask(allScenarios, convertedScenarios, 0, convertedScenarios.length,
+				conversionContext));
+
+		int next = 0;
+		for (int i = 0; i < convertableFeatures.size(); i++) {
+			Feature jsonFeature = convertableFeatures.get(i);
+			CukeFeature feature = conversionContext.getFeatureRegistry().featureFor(jsonFeature.getName(),
+					jsonFeature.getDescription(), tagNames(jsonFeature.getTags()), jsonFeature.getUri());
+			for (int j = 0; j < featureScenarios.get(i).size(); j++) {
+				CukeScenario scenario = convertedScenarios[next++];
+				scenario.setSourceFile(jsonFeature.getSourceFile());
+				feature.addScenario(scenario);
 			}
+		}
+		List<CukeFeature> features = conversionContext.getFeatures();
 
-			CukeFeature feature = null;
-			if (createNewFeature) {
-				feature = CukeFeature.builder().name(jsonFeature.getName()).description(jsonFeature.getDescription())
-						.scenarios(new ArrayList<>())
-						.tags(jsonFeature.getTags().stream().map(Tag::getName).toList())
-						.codeRef(jsonFeature.getUri()).build();
-				features.add(feature);
-			} else {
-				feature = optionalFeature.get();
+		log.debug("total number of features: {}", features.size());
+		return features;
+	}
+
+	/**
+	 * Converts a single cucumber report {@link Feature} and adds its scenarios to
+	 * the {@link CukeFeature}s converted so far, either by merging
+	 * them to an existing feature or by creating a new one.
+	 * 
+	 * @param jsonFeature       The {@link Feature} to convert
+	 * @param conversionContext The {@link ConversionContext} of the current
+	 *                          conversion
+	 */
+	private void convertFeature(Feature jsonFeature, ConversionContext conversionContext) {
+		prepareFeature(jsonFeature, conversionContext).run();
+	}
+
+	/**
+	 * Converts the scenarios of a single cucumber report {@link Feature}, and
+	 * returns the action that adds them to the {@link CukeFeature}s converted so
+	 * far, as {@link #convertFeature(Feature, ConversionContext)} does.
+	 * 
+	 * @param jsonFeature       The {@link Feature} to convert
+	 * @param conversionContext The {@link ConversionContext} of the current
+	 *                          conversion
+	 * @return A {@link Runnable} that adds the converted scenarios
+	 */
+	private Runnable prepareFeature(Feature jsonFeature, ConversionContext conversionContext) {
+		if (!isFeatureConvertable(jsonFeature.getName())) {
+			log.debug("Cannot convert feature. Skipping...");
+			return () -> {
+			};
+		}
+
+		List<CukeScenario> scenarios = new ArrayList<>();
+		for (ScenarioElements scenarioElements : scenarioElements(jsonFeature)) {
+			CukeScenario scenario = convertScenario(scenarioElements, conversionContext);
+			scenario.setSourceFile(jsonFeature.getSourceFile());
+			scenarios.add(scenario);
+		}
+		String name = jsonFeature.getName();
+		String description = jsonFeature.getDescription();
+		List<String> tags = tagNames(jsonFeature.getTags());
+		String uri = jsonFeature.getUri();
+		return () -> {
+			CukeFeature feature = conversionContext.getFeatureRegistry().featureFor(name, description, tags, uri);
+			scenarios.forEach(feature::addScenario);
+		};
+	}
+
+	/**
+	 * Converts a feature that has been read by the {@link CukeFusedFeatureReader}
+	 * and adds its scenarios to the {@link CukeFeature}s converted so far, the
+	 * same way as {@link #convertFeature(Feature, ConversionContext)}.
+	 * 
+	 * @param parsedFeature     The {@link ParsedFeature} to convert
+	 * @param sourceFile        The path of the report file of the feature
+	 * @param conversionContext The {@link ConversionContext} of the current
+	 *                          conversion
+	 */
+	private void convertFeature(ParsedFeature parsedFeature, String sourceFile, ConversionContext conversionContext) {
+		if (!isFeatureConvertable(parsedFeature.getName())) {
+			log.debug("Cannot convert feature. Skipping...");
+			return;
+		}
+
+		CukeFeature feature = conversionContext.getFeatureRegistry().featureFor(parsedFeature.getName(),
+				parsedFeature.getDescription(), parsedFeature.getTags(), parsedFeature.getUri());
+		for (CukeScenario scenario : parsedFeature.getScenarios()) {
+			completeScenario(scenario);
+			scenario.setSourceFile(sourceFile);
+			feature.addScenario(scenario);
+		}
+	}
+
+	/**
+	 * Pairs the elements of a feature to scenarios. A background element belongs
+	 * to the element that follows it.
+	 * 
+	 * @param jsonFeature The {@link Feature} with the elements
+	 * @return A {@link List} with the {@link ScenarioElements} of the feature
+	 */
+	private List<ScenarioElements> scenarioElements(Feature jsonFeature) {
+		List<Element> featureElements = jsonFeature.getElements();
+		List<ScenarioElements> scenarios = new ArrayList<>();
+		int i = 0;
+		while (i < featureElements.size()) {
+			boolean isBackground = featureElements.get(i).getType().equalsIgnoreCase("background");
+
+			Element backgroundElement = null;
+			if (isBackground) {
+				backgroundElement = featureElements.get(i++);
 			}
+			Element scenarioElement = featureElements.get(i++);
+			scenarios.add(new ScenarioElements(backgroundElement, scenarioElement));
+		}
+		return scenarios;
+	}
 
-			List<Element> featureElements = jsonFeature.getElements();
-			int i = 0;
-			while (i < featureElements.size()) {
-				boolean isBackground = featureElements.get(i).getType().equalsIgnoreCase("background");
-				boolean isPassed = true;
+	/**
+	 * Converts the elements of a scenario to a completed {@link CukeScenario},
+	 * that has not been added to a feature yet. It does not modify any shared
+	 * state, so scenarios can be converted in parallel.
+	 * 
+	 * @param scenarioElements  The {@link ScenarioElements} to convert
+	 * @param conversionContext The {@link ConversionContext} of the current
+	 *                          conversion
+	 * @return The converted {@link CukeScenario}
+	 */
+	private CukeScenario convertScenario(ScenarioElements scenarioElements, ConversionContext conversionContext) {
+		Element backgroundElement = scenarioElements.background();
+		Element scenarioElement = scenarioElements.scenario();
 
-				CukeScenario scenario = new CukeScenario();
-				scenario.setParent(feature);
+		CukeScenario scenario = new CukeScenario();
+		scenario.setStartTimestamp(scenarioElement.getStartTimestamp());
+		scenario.setName(scenarioElement.getName());
+		scenario.setLine(scenarioElement.getLine());
+		scenario.setTags(tagNames(scenarioElement.getTags()));
+		scenario.setType(scenarioElement.getKeyword().equalsIgnoreCase("scenario") ? CukeScenarioType.SCENARIO
+				: CukeScenarioType.SCENARIO_OUTLINE);
+		scenario.setDescription(scenarioElement.getDescription());
 
-				Element backgroundElement = null;
-				if (isBackground) {
-					backgroundElement = featureElements.get(i++);
-				}
-				Element scenarioElement = featureElements.get(i++);
-
-				scenario.setStartTimestamp(scenarioElement.getStartTimestamp());
-				scenario.setName(scenarioElement.getName());
-				scenario.setLine(scenarioElement.getLine());
-
-				scenario.setTags(scenarioElement.getTags().stream().map(Tag::getName).toList());
-				feature.getTotalTags().addAll(scenario.getTags());
-
-				scenario.setType(scenarioElement.getKeyword().equalsIgnoreCase("scenario") ? CukeScenarioType.SCENARIO
-						: CukeScenarioType.SCENARIO_OUTLINE);
-				scenario.setDescription(scenarioElement.getDescription());
-
-				List<CukeStep> beforeSteps = scenarioElement.getBefore().stream()
-						.map(s -> convertStepFunction
-								.apply(new ConvertStepContext(s, CukeStepSection.BEFORE_SCENARIO, scenario)))
-						.toList();
-				scenario.setBeforeSteps(beforeSteps);
-				scenario.setBeforeStepsDuration(beforeSteps.stream().mapToLong(CukeStep::getDuration).sum());
-				isPassed = isPassed && beforeSteps.stream().allMatch(s -> CukeStepResult.PASSED.equals(s.getResult()));
-
-				if (isBackground) {
-					List<CukeStep> backgroundSteps = backgroundElement.getSteps().stream()
-							.map(s -> convertStepFunction
-									.apply(new ConvertStepContext(s, CukeStepSection.BACKGROUND, scenario)))
-							.toList();
-					scenario.setBackgroundSteps(backgroundSteps);
-					scenario.setBackgroundStepsDuration(backgroundSteps.stream().mapToLong(CukeStep::getDuration).sum());
-					isPassed = isPassed
-							&& backgroundSteps.stream().allMatch(s -> CukeStepResult.PASSED.equals(s.getResult()));
-				}
+		if (propHandler.isColumnarSteps()) {
+			CukeStepColumns.Builder columns = CukeStepColumns.builder();
+			addSteps(columns, scenarioElement.getBefore(), CukeStepSection.BEFORE_SCENARIO, -1, conversionContext);
+			if (backgroundElement != null) {
+				addSteps(columns, backgroundElement.getSteps(), CukeStepSection.BACKGROUND, -1, conversionContext);
+			}
+			addSteps(columns, scenarioElement.getSteps(), CukeStepSection.SCENARIO, -1, conversionContext);
+			addSteps(columns, scenarioElement.getAfter(), CukeStepSection.AFTER_SCENARIO, -1, conversionContext);
+			columns.build(scenario);
+		} else {
+			scenario.setBeforeSteps(convertSteps(scenarioElement.getBefore(), CukeStepSection.BEFORE_SCENARIO,
+					scenario, conversionContext));
+			if (backgroundElement != null) {
+				scenario.setBackgroundSteps(convertSteps(backgroundElement.getSteps(), CukeStepSection.BACKGROUND,
+						scenario, conversionContext));
+			}
+			scenario.setScenarioSteps(
+					convertSteps(scenarioElement.getSteps(), CukeStepSection.SCENARIO, scenario, conversionContext));
+			scenario.setAfterSteps(convertSteps(scenarioElement.getAfter(), CukeStepSection.AFTER_SCENARIO,
+					scenario, conversionContext));
+		}
 
-				List<CukeStep> scenarioSteps = scenarioElement.getSteps().stream().map(
-						s -> convertStepFunction.apply(new ConvertStepContext(s, CukeStepSection.SCENARIO, scenario)))
-						.toList();
-				scenario.setScenarioSteps(scenarioSteps);
-				scenario.setScenarioStepsDuration(scenarioSteps.stream().mapToLong(CukeStep::getDuration).sum());
-
-				isPassed = isPassed && scenarioSteps.stream().allMatch(s -> CukeStepResult.PASSED.equals(s.getResult()));
-
-				List<CukeStep> afterSteps = scenarioElement.getAfter().stream()
-						.map(s -> convertStepFunction
-								.apply(new ConvertStepContext(s, CukeStepSection.AFTER_SCENARIO, scenario)))
-						.toList();
-				scenario.setAfterSteps(afterSteps);
-				scenario.setAfterStepsDuration(afterSteps.stream().mapToLong(CukeStep::getDuration).sum());
-				isPassed = isPassed && afterSteps.stream().allMatch(s -> CukeStepResult.PASSED.equals(s.getResult()));
-
-				long totalDuration = scenario.getBeforeStepsDuration() + scenario.getAfterStepsDuration()
-						+ scenario.getBackgroundStepsDuration() + scenario.getScenarioStepsDuration();
-				scenario.setTotalDuration(totalDuration);
-				scenario.setEndTimestamp(scenario.getStartTimestamp().plusNanos(totalDuration));
-				if (isPassed) {
-					scenario.setResult(CukeScenarioResult.PASSED);
-					feature.increaseNumOfPassedScenarios();
-				} else {
-					scenario.setResult(CukeScenarioResult.FAILED);
-					feature.increaseNumOfFailedScenarios();
-				}
-				scenario.countStepResults();
+		completeScenario(scenario);
+		return scenario;
+	}
+
+	private List<String> tagNames(List<Tag> tags) {
+		return tags.stream().map(t -> stringPool.intern(t.getName())).toList();
+	}
 
-				feature.getScenarios().add(scenario);
-				feature.setTotalDuration(feature.getTotalDuration() + scenario.getTotalDuration());
+	private List<CukeStep> convertSteps(List<Step> steps, CukeStepSection section, CukeScenario scenario,
+			ConversionContext conversionContext) {
+		return steps.stream()
+				.map(s -> convertStepFunction.apply(new ConvertStepContext(s, section, scenario, conversionContext)))
+				.toList();
+	}
+
+	/**
+	 * Writes the fields of the steps of a section, and of their nested hooks,
+	 * straight to the columns of a scenario, without creating {@link CukeStep}
+	 * objects
+	 */
+	private void addSteps(CukeStepColumns.Builder columns, List<Step> steps, CukeStepSection section, int owner,
+			ConversionContext conversionContext) {
+		if (steps == null) {
+			return;
+		}
+		for (Step s : steps) {
+			int row = columns.addStep(owner, section);
+			columns.setKeyword(row, getStringPool().intern(s.getKeyword()));
+			columns.setName(row, getStringPool().intern(s.getName()));
+			columns.setLine(row, s.getLine());
+			if (s.getResult() != null) {
+				columns.setResult(row, CukeStepResult.fromText(s.getResult().getStatus()));
+				columns.setDuration(row, s.getResult().getDuration());
+				columns.setErrorMessage(row, getStringPool().intern(s.getResult().getErrorMessage()));
 			}
+			if (s.getMatch() != null) {
+				columns.setMatch(row, CukeStepMatch.from(s.getMatch(), getStringPool()));
+			}
+			columns.setEmbeddings(row, convertEmbeddings(s.getEmbeddings(), conversionContext.getEmbeddingStore()));
+			columns.setTableData(row, convertRows(s.getRows()));
+			if (s.getDocString() != null) {
+				columns.setDocString(row, s.getDocString().getValue());
+			}
+			addSteps(columns, s.getBefore(), CukeStepSection.BEFORE_STEP, row, conversionContext);
+			addSteps(columns, s.getAfter(), CukeStepSection.AFTER_STEP, row, conversionContext);
+		}
+	}
+
+	private static List<CukeEmbedding> convertEmbeddings(List<Embedding> embeddings, EmbeddingStore embeddingStore) {
+		if (embeddings == null || embeddings.isEmpty()) {
+			return null;
+		}
+		return embeddings.stream().map(e -> CukeEmbedding.from(e, embeddingStore)).toList();
+	}
 
-			feature.increaseStepResultCounter();
+	private static List<List<String>> convertRows(List<Row> rows) {
+		if (rows == null || rows.isEmpty()) {
+			return null;
 		}
+		return rows.stream().map(row -> {
+			List<String> r = new ArrayList<>();
+			r.addAll(row.getCells());
+			return r;
+		}).toList();
+	}
 
-		log.debug("total number of features: {}", features.size());
-		return features;
+	/**
+	 * Completes a converted scenario, by calculating its durations, its result
+	 * and its step counters. Each section of steps is iterated once, summing the
+	 * durations and counting the results at the same time. The scenario passed
+	 * if all of its steps passed. The sections that are {@link CukeStepColumns}
+	 * are aggregated over their columns.
+	 * 
+	 * @param scenario The {@link CukeScenario} with all of its steps
+	 */
+	private void completeScenario(CukeScenario scenario) {
+		CukeStepResultCounter stepResultCounter = scenario.getStepResultCounter();
+		scenario.setBeforeStepsDuration(aggregateSteps(scenario.getBeforeSteps(), stepResultCounter));
+		scenario.setBackgroundStepsDuration(aggregateSteps(scenario.getBackgroundSteps(), stepResultCounter));
+		scenario.setScenarioStepsDuration(aggregateSteps(scenario.getScenarioSteps(), stepResultCounter));
+		scenario.setAfterStepsDuration(aggregateSteps(scenario.getAfterSteps(), stepResultCounter));
+		boolean isPassed = stepResultCounter.getCount(CukeStepResult.PASSED) == stepResultCounter.getTotal();
+
+		long totalDuration = scenario.getBeforeStepsDuration() + scenario.getAfterStepsDuration()
+				+ scenario.getBackgroundStepsDuration() + scenario.getScenarioStepsDuration();
+		scenario.setTotalDuration(totalDuration);
+		scenario.setEndTimestamp(scenario.getStartTimestamp().plusNanos(totalDuration));
+		scenario.setResult(isPassed ? CukeScenarioResult.PASSED : CukeScenarioResult.FAILED);
+	}
+
+	private static long aggregateSteps(List<CukeStep> steps, CukeStepResultCounter stepResultCounter) {
+		if (steps instanceof CukeStepColumns columns) {
+			columns.countResults(stepResultCounter);
+			return columns.getTotalDuration();
+		}
+		long duration = 0;
+		for (CukeStep step : steps) {
+			duration += step.getDuration();
+			stepResultCounter.increment(step.getResult());
+		}
+		return duration;
+	}
+
+	/**
+	 * Method that merges already converted {@link CukeFeature}s into a list of
+	 * {@link CukeFeature}s, following the same rules as
+	 * {@link #convertToCukeFeature(List)}. In case
+	 * {@link CukeConverterPropertyHandler#isMergeFeatures()} is enabled, the
+	 * scenarios of a feature are added to the feature of the list with the same
+	 * {@link CukeConverterPropertyHandler#getMergeKey() merge key}, otherwise a new
+	 * feature is added to the list. The given features are
+	 * not modified, although their scenarios are moved to the features of the
+	 * list.
+	 * 
+	 * @param features    The {@link List} of {@link CukeFeature}s to merge into
+	 * @param newFeatures The {@link List} of {@link CukeFeature}s to merge
+	 */
+	public void mergeCukeFeatures(List<CukeFeature> features, List<CukeFeature> newFeatures) {
+		CukeFeatureRegistry featureRegistry = newFeatureRegistry(features);
+		for (CukeFeature newFeature : newFeatures) {
+			CukeFeature feature = featureRegistry.featureFor(newFeature.getName(), newFeature.getDescription(),
+					newFeature.getTags(), newFeature.getCodeRef());
+
+			for (CukeScenario scenario : newFeature.getScenarios()) {
+				feature.addScenario(scenario);
+			}
+		}
+	}
+
+	/**
+	 * Method that merges already converted {@link CukeFeature}s into the features
+	 * of a {@link CukeTestRun}, following the same rules as
+	 * {@link #mergeCukeFeatures(List, List)}. The statistics and the start and end
+	 * time of the test-run are updated with each merged scenario, so they do not
+	 * have to be recalculated.
+	 * 
+	 * @param testRun     The {@link CukeTestRun} to merge into
+	 * @param newFeatures The {@link List} of {@link CukeFeature}s to merge
+	 */
+	public void mergeCukeFeatures(CukeTestRun testRun, List<CukeFeature> newFeatures) {
+		CukeFeatureRegistry featureRegistry = newFeatureRegistry(testRun.getFeatures());
+		for (CukeFeature newFeature : newFeatures) {
+			CukeFeature feature = featureRegistry.featureFor(newFeature.getName(), newFeature.getDescription(),
+					newFeature.getTags(), newFeature.getCodeRef());
+
+			for (CukeScenario scenario : newFeature.getScenarios()) {
+				feature.addScenario(scenario);
+				testRun.addScenarioStatistics(scenario);
+			}
+		}
 	}
 
 	private Function<ConvertStepContext, CukeStep> convertStepFunction = (ConvertStepContext ctx) -> {
@@ -261,37 +1073,29 @@ public class CukeConverter {
 
 		CukeStep step = new CukeStep();
 		step.setParent(parent);
-		step.setKeyword(s.getKeyword());
-		step.setName(s.getName());
+		step.setKeyword(getStringPool().intern(s.getKeyword()));
+		step.setName(getStringPool().intern(s.getName()));
 		step.setLine(s.getLine());
 		step.setStepSection(sSection);
 		Optional.ofNullable(s.getResult()).ifPresent(r -> step.setResult(CukeStepResult.fromText(r.getStatus())));
 		Optional.ofNullable(s.getResult()).ifPresent(r -> step.setDuration(r.getDuration()));
-		Optional.ofNullable(s.getResult()).ifPresent(r -> step.setErrorMessage(r.getErrorMessage()));
-		Optional.ofNullable(s.getMatch()).ifPresent(m -> step.setMatch(CukeStepMatch.from(m)));
-		if (s.getEmbeddings() != null && !s.getEmbeddings().isEmpty()) {
-			step.setEmbeddings(s.getEmbeddings().stream().map(CukeEmbedding::from).toList());
-		}
-		if (s.getRows() != null && !s.getRows().isEmpty()) {
-			step.setTableData(s.getRows().stream().map(row -> {
-				List<String> r = new ArrayList<>();
-				r.addAll(row.getCells());
-				return r;
-			}).toList());
-		}
+		Optional.ofNullable(s.getResult()).ifPresent(r -> step.setErrorMessage(getStringPool().intern(r.getErrorMessage())));
+		Optional.ofNullable(s.getMatch()).ifPresent(m -> step.setMatch(CukeStepMatch.from(m, getStringPool())));
+		step.setEmbeddings(convertEmbeddings(s.getEmbeddings(), ctx.getConversionContext().getEmbeddingStore()));
+		step.setTableData(convertRows(s.getRows()));
 		Optional.ofNullable(s.getDocString()).ifPresent(docS -> step.setDocString(docS.getValue()));
 
 		if (s.getBefore() != null) {
 			List<CukeStep> beforeSteps = s.getBefore().stream()
 					.map(ss -> this.convertStepFunction
-							.apply(new ConvertStepContext(ss, CukeStepSection.BEFORE_STEP, parent)))
+							.apply(new ConvertStepContext(ss, CukeStepSection.BEFORE_STEP, parent, ctx.getConversionContext())))
 					.toList();
 			step.setBeforeSteps(beforeSteps);
 		}
 		if (s.getAfter() != null) {
 			List<CukeStep> afterSteps = s.getAfter().stream()
 					.map(ss -> this.convertStepFunction
-							.apply(new ConvertStepContext(ss, CukeStepSection.AFTER_STEP, parent)))
+							.apply(new ConvertStepContext(ss, CukeStepSection.AFTER_STEP, parent, ctx.getConversionContext())))
 					.toList();
 			step.setAfterSteps(afterSteps);
 		}
@@ -299,8 +1103,8 @@ public class CukeConverter {
 		return step;
 	};
 
-	private boolean isFeatureConvertable(Feature jsonFeature) {
-		boolean hasError = StringUtils.isBlank(jsonFeature.getName());
+	private boolean isFeatureConvertable(String featureName) {
+		boolean hasError = StringUtils.isBlank(featureName);
 		
 		if (hasError) {
 			if (propHandler.isFailOnConvertError()) {
@@ -315,11 +1119,108 @@ public class CukeConverter {
 		
 	}
 	
+	private static class ParseThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadCounter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "cuke-converter-parse-" + threadCounter.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+
+	/**
+	 * The elements of a report that make up a single scenario
+	 * 
+	 * @param background The background {@link Element} of the scenario, or
+	 *                   <code>null</code>
+	 * @param scenario   The scenario {@link Element}
+	 */
+	private record ScenarioElements(Element background, Element scenario) {
+	}
+
+	/**
+	 * A task that converts a range of scenarios, splitting it in halves until the
+	 * ranges are small enough
+	 */
+	@RequiredArgsConstructor
+	private class ConvertScenariosTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private static final int THRESHOLD = 16;
+
+		private final transient List<ScenarioElements> scenarios;
+		private final transient CukeScenario[] convertedScenarios;
+		private final int start;
+		private final int end;
+		private final transient ConversionContext conversionContext;
+
+		@Override
+		protected void compute() {
+			if (end - start <= THRESHOLD) {
+				for (int i = start; i < end; i++) {
+					convertedScenarios[i] = convertScenario(scenarios.get(i), conversionContext);
+				}
+				return;
+			}
+			int middle = (start + end) >>> 1;
+			invokeAll(new ConvertScenariosTask(scenarios, convertedScenarios, start, middle, conversionContext),
+					new ConvertScenariosTask(scenarios, convertedScenarios, middle, end, conversionContext));
+		}
+	}
+
+	/**
+	 * Reads a single feature of a report and returns the action that handles
+	 * it. The current token of the parser is the start of the feature object.
+	 */
+	@FunctionalInterface
+	private interface FeatureHandler {
+		Runnable handle(JsonParser parser, String sourceFile) throws IOException;
+	}
+
 	@RequiredArgsConstructor
 	@Getter
 	private class ConvertStepContext {
 		private final Step step;
 		private final CukeStepSection cukeStepSection;
 		private final CukeScenario cukeScenario;
+		private final ConversionContext conversionContext;
+	}
+
+	private ConversionContext newConversionContext() {
+		return new ConversionContext(newFeatureRegistry(new ArrayList<>()),
+				EmbeddingStore.create(propHandler.getEmbeddingStorage(), propHandler.getEmbeddingSpillDir()));
+	}
+
+	private CukeFeatureRegistry newFeatureRegistry(List<CukeFeature> features) {
+		return new CukeFeatureRegistry(features, propHandler.getMergeKey(), propHandler.isMergeFeatures());
+	}
+
+	/**
+	 * The state of a single conversion to the cuke model
+	 */
+	@RequiredArgsConstructor
+	@Getter
+	private static class ConversionContext {
+		private final CukeFeatureRegistry featureRegistry;
+		private final EmbeddingStore embeddingStore;
+
+		private List<CukeFeature> getFeatures() {
+			return featureRegistry.getFeatures();
+		}
+	}
+
+	/**
+	 * The features that a list of report files was converted to, along with the
+	 * number of read errors that were ignored while converting them
+	 */
+	@RequiredArgsConstructor
+	@Getter
+	private static class ConvertedFiles {
+		private final List<CukeFeature> features;
+		private final int ignoredReadErrors;
 	}
 }
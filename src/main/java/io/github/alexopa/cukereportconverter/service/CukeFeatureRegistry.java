@@ -0,0 +1,106 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.alexopa.cukereportconverter.config.FeatureMergeKey;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+
+/**
+ * A registry of the {@link CukeFeature}s of a conversion, that finds the
+ * feature that a converted feature should be merged into through a hash index
+ * on the configured {@link FeatureMergeKey}, instead of scanning all the
+ * features converted so far.
+ */
+class CukeFeatureRegistry {
+
+	private final List<CukeFeature> features;
+	private final FeatureMergeKey mergeKey;
+	private final boolean mergeFeatures;
+	private final Map<Key, CukeFeature> index = new HashMap<>();
+
+	/**
+	 * Creates a new {@link CukeFeatureRegistry}
+	 * 
+	 * @param features      The {@link List} of {@link CukeFeature}s of the
+	 *                      registry. The features already in the list are
+	 *                      indexed, and new features are added to it.
+	 * @param mergeKey      The {@link FeatureMergeKey} that identifies the
+	 *                      features that are merged
+	 * @param mergeFeatures If <code>false</code>, a new feature is always
+	 *                      created
+	 */
+	CukeFeatureRegistry(List<CukeFeature> features, FeatureMergeKey mergeKey, boolean mergeFeatures) {
+		this.features = features;
+		this.mergeKey = mergeKey;
+		this.mergeFeatures = mergeFeatures;
+		if (mergeFeatures) {
+			for (CukeFeature feature : features) {
+				index.putIfAbsent(keyOf(feature.getName(), feature.getCodeRef()), feature);
+			}
+		}
+	}
+
+	/**
+	 * Returns the feature that the scenarios of a converted feature should be
+	 * added to. It is either an existing feature with the same merge key, or a
+	 * new feature that is added to the registry.
+	 * 
+	 * @param name        The name of the feature
+	 * @param description The description of the feature
+	 * @param tags        The tags of the feature
+	 * @param uri         The uri of the feature
+	 * @return The {@link CukeFeature} to add the scenarios to
+	 */
+	CukeFeature featureFor(String name, String description, List<String> tags, String uri) {
+		if (!mergeFeatures) {
+			return newFeature(name, description, tags, uri);
+		}
+		return index.computeIfAbsent(keyOf(name, uri), k -> newFeature(name, description, tags, uri));
+	}
+
+	/**
+	 * Returns the features of the registry, in the order they were added
+	 * 
+	 * @return The {@link List} of {@link CukeFeature}s
+	 */
+	List<CukeFeature> getFeatures() {
+		return features;
+	}
+
+	private CukeFeature newFeature(String name, String description, List<String> tags, String uri) {
+		CukeFeature feature = CukeFeature.builder().name(name).description(description).scenarios(new ArrayList<>())
+				.tags(tags).codeRef(uri).build();
+		features.add(feature);
+		return feature;
+	}
+
+	private Key keyOf(String name, String uri) {
+		return switch (mergeKey) {
+		case NAME -> new Key(name, null);
+		case URI -> new Key(null, uri);
+		case NAME_AND_URI -> new Key(name, uri);
+		};
+	}
+
+	private record Key(String name, String uri) {
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.service;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.alexopa.cukereportconverter.config.CukeConverterProperties;
+import io.github.alexopa.cukereportconverter.config.CukeConverterPropertyHandler;
+import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Element;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Step;
+import io.github.alexopa.cukereportconverter.model.jsonreport.StepMatch;
+import io.github.alexopa.cukereportconverter.model.jsonreport.StepResult;
+
+/**
+ * Class that holds the fields of the steps and elements of a cucumber json
+ * report that should be parsed. The fields that are not part of the projection
+ * are skipped at token level by the parser, without being bound to objects.
+ */
+class CukeFieldProjection {
+
+	static final String RESULT_ERROR_MESSAGE = "result.error_message";
+	static final String MATCH_ARGUMENTS = "match.arguments";
+
+	static final Set<String> STEP_FIELDS = Set.of("embeddings", "result", RESULT_ERROR_MESSAGE, "line", "name",
+			"match", MATCH_ARGUMENTS, "keyword", "rows", "doc_string", "before", "after");
+
+	static final Set<String> ELEMENT_FIELDS = Set.of("start_timestamp", "line", "name", "description", "id",
+			"type", "keyword", "tags", "before", "steps", "after");
+
+	/**
+	 * The element fields that are always parsed, since they are required for the
+	 * conversion to the cuke model
+	 */
+	static final Set<String> REQUIRED_ELEMENT_FIELDS = Set.of("start_timestamp", "type", "keyword");
+
+	private final Set<String> stepFields;
+	private final Set<String> elementFields;
+
+	private CukeFieldProjection(Set<String> stepFields, Set<String> elementFields) {
+		this.stepFields = stepFields;
+		this.elementFields = elementFields;
+	}
+
+	/**
+	 * Creates a {@link CukeFieldProjection} from the
+	 * {@link CukeConverterProperties#CONVERTER_STEP_FIELDS} and
+	 * {@link CukeConverterProperties#CONVERTER_ELEMENT_FIELDS} properties
+	 * 
+	 * @param propHandler The {@link CukeConverterPropertyHandler} to read the
+	 *                    properties from
+	 * @return A new {@link CukeFieldProjection}
+	 */
+	static CukeFieldProjection from(CukeConverterPropertyHandler propHandler) {
+		Set<String> stepFields = propHandler.getStepFields();
+		Set<String> elementFields = propHandler.getElementFields();
+		validate(stepFields, STEP_FIELDS, CukeConverterProperties.CONVERTER_STEP_FIELDS);
+		validate(elementFields, ELEMENT_FIELDS, CukeConverterProperties.CONVERTER_ELEMENT_FIELDS);
+
+		if (!elementFields.isEmpty()) {
+			elementFields = new HashSet<>(elementFields);
+			elementFields.addAll(REQUIRED_ELEMENT_FIELDS);
+		}
+		return new CukeFieldProjection(stepFields, elementFields);
+	}
+
+	private static void validate(Set<String> fields, Set<String> knownFields, CukeConverterProperties prop) {
+		for (String field : fields) {
+			if (!knownFields.contains(field)) {
+				throw new CukeConverterException(String.format("Unknown field %s in property %s. Available fields: %s",
+						field, prop.getPropertyName(), knownFields));
+			}
+		}
+	}
+
+	/**
+	 * Returns if the given step field should be parsed
+	 * 
+	 * @param field The json name of the step field
+	 * @return <code>true</code> if the field should be parsed
+	 */
+	boolean includesStepField(String field) {
+		return stepFields.isEmpty() || stepFields.contains(field);
+	}
+
+	/**
+	 * Returns if the given element field should be parsed
+	 * 
+	 * @param field The json name of the element field
+	 * @return <code>true</code> if the field should be parsed
+	 */
+	boolean includesElementField(String field) {
+		return elementFields.isEmpty() || elementFields.contains(field);
+	}
+
+	/**
+	 * Configures the given {@link ObjectMapper} to skip the fields that are not
+	 * part of this projection
+	 * 
+	 * @param objectMapper The {@link ObjectMapper} to configure
+	 */
+	void applyTo(ObjectMapper objectMapper) {
+		ignoreFields(objectMapper, Step.class, excludedFields(STEP_FIELDS, this::includesStepField));
+		ignoreFields(objectMapper, Element.class, excludedFields(ELEMENT_FIELDS, this::includesElementField));
+		if (!includesStepField(RESULT_ERROR_MESSAGE)) {
+			ignoreFields(objectMapper, StepResult.class, Set.of("error_message"));
+		}
+		if (!includesStepField(MATCH_ARGUMENTS)) {
+			ignoreFields(objectMapper, StepMatch.class, Set.of("arguments"));
+		}
+	}
+
+	private static Set<String> excludedFields(Set<String> knownFields, Predicate<String> included) {
+		Set<String> excluded = new LinkedHashSet<>();
+		knownFields.stream().filter(f -> !f.contains(".")).filter(included.negate()).forEach(excluded::add);
+		return excluded;
+	}
+
+	private static void ignoreFields(ObjectMapper objectMapper, Class<?> type, Set<String> fields) {
+		if (!fields.isEmpty()) {
+			objectMapper.configOverride(type).setIgnorals(JsonIgnoreProperties.Value.forIgnoredProperties(fields));
+		}
+	}
+}
@@ -0,0 +1,388 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import io.github.alexopa.cukereportconverter.model.cuke.CukeEmbedding;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenario;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenarioType;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStep;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepMatch;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepColumns;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepSection;
+import io.github.alexopa.cukereportconverter.model.jsonreport.DocString;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Row;
+import io.github.alexopa.cukereportconverter.model.jsonreport.StepMatch;
+import io.github.alexopa.cukereportconverter.model.jsonreport.StepResult;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Tag;
+import io.github.alexopa.cukereportconverter.storage.EmbeddingStore;
+import io.github.alexopa.cukereportconverter.util.StringPool;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A reader that converts the json tokens of a cucumber report feature straight
+ * to {@link CukeScenario}s and {@link CukeStep}s, without building the
+ * {@link io.github.alexopa.cukereportconverter.model.jsonreport.Element} and
+ * {@link io.github.alexopa.cukereportconverter.model.jsonreport.Step} objects
+ * of the report model first. Only small leaf objects, like the result or the
+ * match of a step, are read to short-lived report model objects. In case
+ * <code>columnarSteps</code> is enabled, the steps are written straight to the
+ * {@link CukeStepColumns} of their scenario.
+ */
+@RequiredArgsConstructor
+class CukeFusedFeatureReader {
+
+	private static final String BACKGROUND_TYPE = "background";
+
+	private final CukeJsonReportParser parser;
+	private final StringPool stringPool;
+	private final boolean columnarSteps;
+
+	/**
+	 * Reads a feature. The current token of the parser should be the start of the
+	 * feature object. The scenarios of the returned feature have their steps
+	 * attached, but no parent feature yet, since the name of the feature may
+	 * follow its elements in the report.
+	 * 
+	 * @param p              The {@link JsonParser} of the report
+	 * @param embeddingStore The {@link EmbeddingStore} that keeps the embedding
+	 *                       payloads, or <code>null</code> to keep them on heap
+	 * @return The {@link ParsedFeature} that has been read
+	 * @throws IOException In case the feature cannot be read
+	 */
+	ParsedFeature readFeature(JsonParser p, EmbeddingStore embeddingStore) throws IOException {
+		parser.expectObject(p);
+		ParsedFeature feature = new ParsedFeature();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "name" -> feature.name = parser.readString(p);
+			case "description" -> feature.description = parser.readString(p);
+			case "uri" -> feature.uri = parser.readString(p);
+			case "tags" -> feature.tags = readTagNames(p);
+			case "elements" -> readElements(p, feature, embeddingStore);
+			default -> p.skipChildren();
+			}
+		}
+		return feature;
+	}
+
+	private void readElements(JsonParser p, ParsedFeature feature, EmbeddingStore embeddingStore) throws IOException {
+		ParsedElement[] background = new ParsedElement[1];
+		parser.readEach(p, ep -> {
+			// a background shares the columns of the element that follows it
+			CukeStepColumns.Builder columns = !columnarSteps ? null
+					: background[0] != null ? background[0].columns : CukeStepColumns.builder();
+			ParsedElement element = readElement(ep, columns, embeddingStore);
+			if (background[0] == null && element.isBackground()) {
+				background[0] = element;
+				return;
+			}
+			feature.scenarios.add(element.toScenario(background[0]));
+			background[0] = null;
+		});
+	}
+
+	private ParsedElement readElement(JsonParser p, CukeStepColumns.Builder columns, EmbeddingStore embeddingStore)
+			throws IOException {
+		parser.expectObject(p);
+		ParsedElement element = new ParsedElement(columns);
+		if (columns != null) {
+			readColumnarElement(p, element, embeddingStore);
+			return element;
+		}
+		CukeScenario scenario = element.scenario;
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			if (!parser.getProjection().includesElementField(field)) {
+				p.skipChildren();
+				continue;
+			}
+			switch (field) {
+			case "start_timestamp" -> scenario.setStartTimestamp(parser.readTimestamp(p));
+			case "line" -> scenario.setLine(parser.readInt(p));
+			case "name" -> scenario.setName(parser.readString(p));
+			case "description" -> scenario.setDescription(parser.readString(p));
+			case "type" -> element.type = parser.readString(p);
+			case "keyword" -> element.keyword = parser.readString(p);
+			case "tags" -> scenario.setTags(readTagNames(p));
+			case "before" -> scenario.setBeforeSteps(readSteps(p, CukeStepSection.BEFORE_SCENARIO, embeddingStore));
+			case "steps" -> element.steps = readSteps(p, null, embeddingStore);
+			case "after" -> scenario.setAfterSteps(readSteps(p, CukeStepSection.AFTER_SCENARIO, embeddingStore));
+			default -> p.skipChildren();
+			}
+		}
+		return element;
+	}
+
+	private void readColumnarElement(JsonParser p, ParsedElement element, EmbeddingStore embeddingStore)
+			throws IOException {
+		CukeScenario scenario = element.scenario;
+		CukeStepColumns.Builder columns = element.columns;
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			if (!parser.getProjection().includesElementField(field)) {
+				p.skipChildren();
+				continue;
+			}
+			switch (field) {
+			case "start_timestamp" -> scenario.setStartTimestamp(parser.readTimestamp(p));
+			case "line" -> scenario.setLine(parser.readInt(p));
+			case "name" -> scenario.setName(parser.readString(p));
+			case "description" -> scenario.setDescription(parser.readString(p));
+			case "type" -> element.type = parser.readString(p);
+			case "keyword" -> element.keyword = parser.readString(p);
+			case "tags" -> scenario.setTags(readTagNames(p));
+			case "before" -> element.before = readColumnarSteps(p, columns, -1, null, embeddingStore);
+			case "steps" -> element.stepRows = readColumnarSteps(p, columns, -1, null, embeddingStore);
+			case "after" -> element.after = readColumnarSteps(p, columns, -1, null, embeddingStore);
+			default -> p.skipChildren();
+			}
+		}
+	}
+
+	/**
+	 * Reads an array of steps to the columns of a scenario. The steps of a
+	 * section of the scenario are added without a section, which is set once
+	 * the element they belong to is known.
+	 * 
+	 * @return The first and the last, exclusive, row of the steps that were
+	 *         added, excluding the rows of their nested hooks that may follow
+	 */
+	private int[] readColumnarSteps(JsonParser p, CukeStepColumns.Builder columns, int owner,
+			CukeStepSection section, EmbeddingStore embeddingStore) throws IOException {
+		int from = columns.size();
+		parser.readEach(p, sp -> readColumnarStep(sp, columns, columns.addStep(owner, section), embeddingStore));
+		return new int[] { from, columns.size() };
+	}
+
+	private void readColumnarStep(JsonParser p, CukeStepColumns.Builder columns, int row,
+			EmbeddingStore embeddingStore) throws IOException {
+		parser.expectObject(p);
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			if (!parser.getProjection().includesStepField(field)) {
+				p.skipChildren();
+				continue;
+			}
+			switch (field) {
+			case "keyword" -> columns.setKeyword(row, stringPool.intern(parser.readString(p)));
+			case "name" -> columns.setName(row, stringPool.intern(parser.readString(p)));
+			case "line" -> columns.setLine(row, parser.readInt(p));
+			case "result" -> {
+				StepResult result = parser.readObject(p, parser::readStepResult);
+				if (result != null) {
+					columns.setResult(row, CukeStepResult.fromText(result.getStatus()));
+					columns.setDuration(row, result.getDuration());
+					columns.setErrorMessage(row, stringPool.intern(result.getErrorMessage()));
+				}
+			}
+			case "match" -> {
+				StepMatch match = parser.readObject(p, parser::readStepMatch);
+				columns.setMatch(row, match != null ? CukeStepMatch.from(match, stringPool) : null);
+			}
+			case "embeddings" -> columns.setEmbeddings(row, readEmbeddings(p, embeddingStore));
+			case "rows" -> columns.setTableData(row, readTableData(p));
+			case "doc_string" -> columns.setDocString(row, readDocString(p));
+			case "before" -> readColumnarSteps(p, columns, row, CukeStepSection.BEFORE_STEP, embeddingStore);
+			case "after" -> readColumnarSteps(p, columns, row, CukeStepSection.AFTER_STEP, embeddingStore);
+			default -> p.skipChildren();
+			}
+		}
+	}
+
+	private List<CukeStep> readSteps(JsonParser p, CukeStepSection section, EmbeddingStore embeddingStore)
+			throws IOException {
+		List<CukeStep> steps = parser.readArray(p, sp -> readStep(sp, section, embeddingStore));
+		return steps != null ? steps : new ArrayList<>();
+	}
+
+	private CukeStep readStep(JsonParser p, CukeStepSection section, EmbeddingStore embeddingStore)
+			throws IOException {
+		parser.expectObject(p);
+		CukeStep step = new CukeStep();
+		step.setStepSection(section);
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			if (!parser.getProjection().includesStepField(field)) {
+				p.skipChildren();
+				continue;
+			}
+			switch (field) {
+			case "keyword" -> step.setKeyword(stringPool.intern(parser.readString(p)));
+			case "name" -> step.setName(stringPool.intern(parser.readString(p)));
+			case "line" -> step.setLine(parser.readInt(p));
+			case "result" -> {
+				StepResult result = parser.readObject(p, parser::readStepResult);
+				if (result != null) {
+					step.setResult(CukeStepResult.fromText(result.getStatus()));
+					step.setDuration(result.getDuration());
+					step.setErrorMessage(stringPool.intern(result.getErrorMessage()));
+				}
+			}
+			case "match" -> {
+				StepMatch match = parser.readObject(p, parser::readStepMatch);
+				step.setMatch(match != null ? CukeStepMatch.from(match, stringPool) : null);
+			}
+			case "embeddings" -> {
+				List<CukeEmbedding> embeddings = readEmbeddings(p, embeddingStore);
+				if (embeddings != null) {
+					step.setEmbeddings(embeddings);
+				}
+			}
+			case "rows" -> {
+				List<List<String>> tableData = readTableData(p);
+				if (tableData != null) {
+					step.setTableData(tableData);
+				}
+			}
+			case "doc_string" -> step.setDocString(readDocString(p));
+			case "before" -> {
+				List<CukeStep> beforeSteps = parser.readArray(p,
+						sp -> readStep(sp, CukeStepSection.BEFORE_STEP, embeddingStore));
+				if (beforeSteps != null) {
+					step.setBeforeSteps(beforeSteps);
+				}
+			}
+			case "after" -> {
+				List<CukeStep> afterSteps = parser.readArray(p,
+						sp -> readStep(sp, CukeStepSection.AFTER_STEP, embeddingStore));
+				if (afterSteps != null) {
+					step.setAfterSteps(afterSteps);
+				}
+			}
+			default -> p.skipChildren();
+			}
+		}
+		return step;
+	}
+
+	private List<CukeEmbedding> readEmbeddings(JsonParser p, EmbeddingStore embeddingStore) throws IOException {
+		List<CukeEmbedding> embeddings = parser.readArray(p,
+				ep -> CukeEmbedding.from(parser.readEmbedding(ep), embeddingStore));
+		return embeddings != null && !embeddings.isEmpty() ? embeddings : null;
+	}
+
+	private List<List<String>> readTableData(JsonParser p) throws IOException {
+		List<Row> rows = parser.readArray(p, parser::readRow);
+		return rows != null && !rows.isEmpty()
+				? rows.stream().map(row -> (List<String>) new ArrayList<>(row.getCells())).toList()
+				: null;
+	}
+
+	private String readDocString(JsonParser p) throws IOException {
+		DocString docString = parser.readObject(p, parser::readDocString);
+		return docString != null ? docString.getValue() : null;
+	}
+
+	private List<String> readTagNames(JsonParser p) throws IOException {
+		List<Tag> tags = parser.readArray(p, parser::readTag);
+		return tags != null ? tags.stream().map(t -> stringPool.intern(t.getName())).toList() : new ArrayList<>();
+	}
+
+	/**
+	 * The header and the scenarios of a feature, as they have been read by the
+	 * {@link CukeFusedFeatureReader}
+	 */
+	@Getter
+	static class ParsedFeature {
+		private String name;
+		private String description;
+		private String uri;
+		private List<String> tags = new ArrayList<>();
+		private final List<CukeScenario> scenarios = new ArrayList<>();
+	}
+
+	/**
+	 * An element of a feature, that holds the scenario that is being built and
+	 * the element fields that are needed to complete it. With columnar steps,
+	 * it holds the rows of its before, steps and after arrays instead of the
+	 * steps themselves.
+	 */
+	private static class ParsedElement {
+		private final CukeScenario scenario = new CukeScenario();
+		private final CukeStepColumns.Builder columns;
+		private String type;
+		private String keyword;
+		private List<CukeStep> steps = new ArrayList<>();
+		private int[] before;
+		private int[] stepRows;
+		private int[] after;
+
+		private ParsedElement(CukeStepColumns.Builder columns) {
+			this.columns = columns;
+		}
+
+		private boolean isBackground() {
+			return BACKGROUND_TYPE.equalsIgnoreCase(type);
+		}
+
+		private CukeScenario toScenario(ParsedElement background) {
+			scenario.setType("scenario".equalsIgnoreCase(keyword) ? CukeScenarioType.SCENARIO
+					: CukeScenarioType.SCENARIO_OUTLINE);
+			if (columns != null) {
+				if (background != null) {
+					setStepSection(background.stepRows, CukeStepSection.BACKGROUND);
+				}
+				setStepSection(before, CukeStepSection.BEFORE_SCENARIO);
+				setStepSection(stepRows, CukeStepSection.SCENARIO);
+				setStepSection(after, CukeStepSection.AFTER_SCENARIO);
+				columns.build(scenario);
+				return scenario;
+			}
+			if (background != null) {
+				scenario.setBackgroundSteps(attach(background.steps, CukeStepSection.BACKGROUND));
+			}
+			scenario.setScenarioSteps(attach(steps, CukeStepSection.SCENARIO));
+			attach(scenario.getBeforeSteps(), CukeStepSection.BEFORE_SCENARIO);
+			attach(scenario.getAfterSteps(), CukeStepSection.AFTER_SCENARIO);
+			return scenario;
+		}
+
+		private void setStepSection(int[] rows, CukeStepSection section) {
+			if (rows != null) {
+				columns.setStepSection(rows[0], rows[1], section);
+			}
+		}
+
+		private List<CukeStep> attach(List<CukeStep> sectionSteps, CukeStepSection section) {
+			for (CukeStep step : sectionSteps) {
+				step.setStepSection(section);
+				setParent(step);
+			}
+			return sectionSteps;
+		}
+
+		private void setParent(CukeStep step) {
+			step.setParent(scenario);
+			step.getBeforeSteps().forEach(this::setParent);
+			step.getAfterSteps().forEach(this::setParent);
+		}
+	}
+}
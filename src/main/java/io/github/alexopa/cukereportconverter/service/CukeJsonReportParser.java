@@ -0,0 +1,401 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import io.github.alexopa.cukereportconverter.model.jsonreport.DocString;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Element;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Embedding;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Feature;
+import io.github.alexopa.cukereportconverter.model.jsonreport.MatchArgument;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Row;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Step;
+import io.github.alexopa.cukereportconverter.model.jsonreport.StepMatch;
+import io.github.alexopa.cukereportconverter.model.jsonreport.StepResult;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Tag;
+import io.github.alexopa.cukereportconverter.model.jsonreport.TagLocation;
+import io.github.alexopa.cukereportconverter.util.CukeTimestamps;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A hand-written parser for the cucumber json report schema. It reads the json
+ * tokens directly to the classes of the
+ * {@link io.github.alexopa.cukereportconverter.model.jsonreport} package,
+ * without the reflection and bean introspection of jackson-databind. Unknown
+ * fields, and the fields that are not part of the {@link CukeFieldProjection},
+ * are skipped at token level.
+ */
+@RequiredArgsConstructor
+class CukeJsonReportParser {
+
+	@Getter
+	private final CukeFieldProjection projection;
+
+	/**
+	 * Reads the top-level array of features of a report
+	 * 
+	 * @param p The {@link JsonParser} of the report
+	 * @return A {@link List} with the {@link Feature}s of the report
+	 * @throws IOException In case the report cannot be read or it does not match
+	 *                     the cucumber json schema
+	 */
+	List<Feature> readFeatures(JsonParser p) throws IOException {
+		if (p.nextToken() != JsonToken.START_ARRAY) {
+			throw new JsonParseException(p, "Expected a json array of features");
+		}
+		return readArray(p, this::readFeature);
+	}
+
+	/**
+	 * Reads a feature. The current token of the parser should be the start of the
+	 * feature object.
+	 * 
+	 * @param p The {@link JsonParser} of the report
+	 * @return The {@link Feature} that has been read
+	 * @throws IOException In case the feature cannot be read
+	 */
+	Feature readFeature(JsonParser p) throws IOException {
+		expectObject(p);
+		Feature feature = new Feature();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "line" -> feature.setLine(readInt(p));
+			case "name" -> feature.setName(readString(p));
+			case "description" -> feature.setDescription(readString(p));
+			case "id" -> feature.setId(readString(p));
+			case "keyword" -> feature.setKeyword(readString(p));
+			case "uri" -> feature.setUri(readString(p));
+			case "tags" -> feature.setTags(readArray(p, this::readTag));
+			case "elements" -> feature.setElements(readArray(p, this::readElement));
+			default -> p.skipChildren();
+			}
+		}
+		return feature;
+	}
+
+	private Element readElement(JsonParser p) throws IOException {
+		expectObject(p);
+		Element element = new Element();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			if (!projection.includesElementField(field)) {
+				p.skipChildren();
+				continue;
+			}
+			switch (field) {
+			case "start_timestamp" -> element.setStartTimestamp(readTimestamp(p));
+			case "line" -> element.setLine(readInt(p));
+			case "name" -> element.setName(readString(p));
+			case "description" -> element.setDescription(readString(p));
+			case "id" -> element.setId(readString(p));
+			case "type" -> element.setType(readString(p));
+			case "keyword" -> element.setKeyword(readString(p));
+			case "tags" -> element.setTags(readArray(p, this::readTag));
+			case "before" -> element.setBefore(readArray(p, this::readStep));
+			case "steps" -> element.setSteps(readArray(p, this::readStep));
+			case "after" -> element.setAfter(readArray(p, this::readStep));
+			default -> p.skipChildren();
+			}
+		}
+		return element;
+	}
+
+	private Step readStep(JsonParser p) throws IOException {
+		expectObject(p);
+		Step step = new Step();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			if (!projection.includesStepField(field)) {
+				p.skipChildren();
+				continue;
+			}
+			switch (field) {
+			case "embeddings" -> step.setEmbeddings(readArray(p, this::readEmbedding));
+			case "result" -> step.setResult(readObject(p, this::readStepResult));
+			case "line" -> step.setLine(readInt(p));
+			case "name" -> step.setName(readString(p));
+			case "match" -> step.setMatch(readObject(p, this::readStepMatch));
+			case "keyword" -> step.setKeyword(readString(p));
+			case "rows" -> step.setRows(readArray(p, this::readRow));
+			case "doc_string" -> step.setDocString(readObject(p, this::readDocString));
+			case "before" -> step.setBefore(readArray(p, this::readStep));
+			case "after" -> step.setAfter(readArray(p, this::readStep));
+			default -> p.skipChildren();
+			}
+		}
+		return step;
+	}
+
+	StepResult readStepResult(JsonParser p) throws IOException {
+		StepResult result = new StepResult();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "duration" -> result.setDuration(readLong(p));
+			case "status" -> result.setStatus(readString(p));
+			case "error_message" -> {
+				if (projection.includesStepField(CukeFieldProjection.RESULT_ERROR_MESSAGE)) {
+					result.setErrorMessage(readString(p));
+				} else {
+					p.skipChildren();
+				}
+			}
+			default -> p.skipChildren();
+			}
+		}
+		return result;
+	}
+
+	StepMatch readStepMatch(JsonParser p) throws IOException {
+		StepMatch match = new StepMatch();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "location" -> match.setLocation(readString(p));
+			case "arguments" -> {
+				if (projection.includesStepField(CukeFieldProjection.MATCH_ARGUMENTS)) {
+					match.setArguments(readArray(p, this::readMatchArgument));
+				} else {
+					p.skipChildren();
+				}
+			}
+			default -> p.skipChildren();
+			}
+		}
+		return match;
+	}
+
+	private MatchArgument readMatchArgument(JsonParser p) throws IOException {
+		expectObject(p);
+		MatchArgument argument = new MatchArgument();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "val" -> argument.setVal(readString(p));
+			case "offset" -> argument.setOffset(readInt(p));
+			default -> p.skipChildren();
+			}
+		}
+		return argument;
+	}
+
+	Embedding readEmbedding(JsonParser p) throws IOException {
+		expectObject(p);
+		Embedding embedding = new Embedding();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "data" -> embedding.setData(readString(p));
+			case "mime_type" -> embedding.setMimeType(readString(p));
+			case "name" -> embedding.setName(readString(p));
+			default -> p.skipChildren();
+			}
+		}
+		return embedding;
+	}
+
+	Row readRow(JsonParser p) throws IOException {
+		expectObject(p);
+		Row row = new Row();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			if ("cells".equals(field)) {
+				row.setCells(readArray(p, this::readString));
+			} else {
+				p.skipChildren();
+			}
+		}
+		return row;
+	}
+
+	DocString readDocString(JsonParser p) throws IOException {
+		DocString docString = new DocString();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "line" -> docString.setLine(readInt(p));
+			case "value" -> docString.setValue(readString(p));
+			default -> p.skipChildren();
+			}
+		}
+		return docString;
+	}
+
+	Tag readTag(JsonParser p) throws IOException {
+		expectObject(p);
+		Tag tag = new Tag();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "name" -> tag.setName(readString(p));
+			case "type" -> tag.setType(readString(p));
+			case "location" -> tag.setLocation(readObject(p, this::readTagLocation));
+			default -> p.skipChildren();
+			}
+		}
+		return tag;
+	}
+
+	private TagLocation readTagLocation(JsonParser p) throws IOException {
+		TagLocation location = new TagLocation();
+		String field;
+		while ((field = p.nextFieldName()) != null) {
+			p.nextToken();
+			switch (field) {
+			case "line" -> location.setLine(readInt(p));
+			case "column" -> location.setColumn(readInt(p));
+			default -> p.skipChildren();
+			}
+		}
+		return location;
+	}
+
+	<T> T readObject(JsonParser p, ValueReader<T> reader) throws IOException {
+		if (p.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		expectObject(p);
+		return reader.read(p);
+	}
+
+	<T> List<T> readArray(JsonParser p, ValueReader<T> reader) throws IOException {
+		if (p.currentToken() == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (p.currentToken() != JsonToken.START_ARRAY) {
+			throw new JsonParseException(p, "Expected a json array, found " + p.currentToken());
+		}
+		List<T> values = new ArrayList<>();
+		JsonToken token;
+		while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+			if (token == null) {
+				throw new JsonParseException(p, "Unexpected end of input");
+			}
+			values.add(token == JsonToken.VALUE_NULL ? null : reader.read(p));
+		}
+		return values;
+	}
+
+	void readEach(JsonParser p, ValueHandler handler) throws IOException {
+		if (p.currentToken() == JsonToken.VALUE_NULL) {
+			return;
+		}
+		if (p.currentToken() != JsonToken.START_ARRAY) {
+			throw new JsonParseException(p, "Expected a json array, found " + p.currentToken());
+		}
+		JsonToken token;
+		while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+			if (token == null) {
+				throw new JsonParseException(p, "Unexpected end of input");
+			}
+			if (token != JsonToken.VALUE_NULL) {
+				handler.read(p);
+			}
+		}
+	}
+
+	String readString(JsonParser p) throws IOException {
+		JsonToken token = p.currentToken();
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+		if (!token.isScalarValue()) {
+			throw new JsonParseException(p, "Expected a string value, found " + token);
+		}
+		return p.getText();
+	}
+
+	int readInt(JsonParser p) throws IOException {
+		return (int) readLong(p);
+	}
+
+	long readLong(JsonParser p) throws IOException {
+		JsonToken token = p.currentToken();
+		if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+			return p.getValueAsLong();
+		}
+		if (token == JsonToken.VALUE_NULL) {
+			return 0;
+		}
+		if (token == JsonToken.VALUE_STRING) {
+			String text = p.getText().trim();
+			try {
+				return text.isEmpty() ? 0 : Long.parseLong(text);
+			} catch (NumberFormatException e) {
+				throw new JsonParseException(p, "Invalid numeric value: " + text, e);
+			}
+		}
+		throw new JsonParseException(p, "Expected a numeric value, found " + token);
+	}
+
+	LocalDateTime readTimestamp(JsonParser p) throws IOException {
+		String text = readString(p);
+		if (text == null || text.isBlank()) {
+			return null;
+		}
+		try {
+			return CukeTimestamps.parse(text);
+		} catch (DateTimeParseException e) {
+			throw new JsonParseException(p, "Invalid timestamp: " + text, e);
+		}
+	}
+
+	void expectObject(JsonParser p) throws IOException {
+		if (p.currentToken() != JsonToken.START_OBJECT) {
+			throw new JsonParseException(p, "Expected a json object, found " + p.currentToken());
+		}
+	}
+
+	/**
+	 * Reads a single json value to an object
+	 * 
+	 * @param <T> The type of the object that is read
+	 */
+	@FunctionalInterface
+	interface ValueReader<T> {
+		T read(JsonParser p) throws IOException;
+	}
+
+	/**
+	 * Reads a single json value without returning an object
+	 */
+	@FunctionalInterface
+	interface ValueHandler {
+		void read(JsonParser p) throws IOException;
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.service;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import io.github.alexopa.cukereportconverter.config.CukeConverterPropertyHandler;
+import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResultCounter;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
+import io.github.alexopa.cukereportconverter.query.CukeQuery;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class that watches a directory tree for cucumber json files and keeps a live
+ * {@link CukeTestRun} up to date while report files appear. Each new or changed
+ * report is converted once and the live test-run is updated with
+ * {@link CukeConverter#updateTestRun(CukeTestRun, List, List)}, so only the
+ * scenarios of the changed or removed report are replaced. After each update, a
+ * new snapshot of the test-run is published to the registered listeners.
+ * <p>
+ * The features of a snapshot are copies that are not modified after the
+ * snapshot has been published, while the scenarios are shared between
+ * snapshots. Only the features that were modified since the previous snapshot
+ * are copied again, the rest are shared with the previous snapshot. The
+ * snapshots are not indexed by tag, so a {@link CukeQuery} scans their
+ * scenarios.
+ * <p>
+ * A report that cannot be converted yet (ie: because it is still being
+ * written) is converted again when it is modified, even when
+ * {@link CukeConverterPropertyHandler#isFailOnError()} is disabled. In case
+ * events are lost, the whole tree is scanned again and the reports that no
+ * longer exist are removed.
+ */
+@Slf4j
+public class CukeReportWatcher implements Closeable {
+
+	private final CukeConverter converter;
+	private final Path root;
+	private final PathMatcher matcher;
+	private final WatchService watchService;
+	private final Map<WatchKey, Path> watchedDirs = new HashMap<>();
+	private final List<Consumer<CukeTestRun>> listeners = new CopyOnWriteArrayList<>();
+
+	private final Map<Path, FileTime> convertedFiles = new HashMap<>();
+	private final CukeTestRun liveTestRun = CukeTestRun.builder().build();
+	private final Set<CukeFeature> modifiedFeatures = Collections.newSetFromMap(new IdentityHashMap<>());
+	private Map<CukeFeature, CukeFeature> publishedFeatures = new IdentityHashMap<>();
+
+	private volatile CukeTestRun snapshot = CukeTestRun.builder().build();
+	private Thread watchThread;
+
+	/**
+	 * Creates a new {@link CukeReportWatcher}
+	 * 
+	 * @param converter The {@link CukeConverter} used to convert the reports
+	 * @param root      The root directory to watch
+	 * @param glob      The glob pattern that the report files should match,
+	 *                  relative to the root directory, as in
+	 *                  {@link CukeConverter#convertDirectory(Path, String)}
+	 */
+	public CukeReportWatcher(CukeConverter converter, Path root, String glob) {
+		this.converter = converter;
+		this.root = root;
+		this.matcher = root.getFileSystem().getPathMatcher("glob:" + glob);
+		try {
+			this.watchService = FileSystems.getDefault().newWatchService();
+		} catch (IOException e) {
+			throw new CukeConverterException("Failed to create watch service", e);
+		}
+	}
+
+	/**
+	 * Registers a listener that is called with each new snapshot of the
+	 * test-run
+	 * 
+	 * @param listener A {@link Consumer} of {@link CukeTestRun} snapshots
+	 */
+	public void addListener(Consumer<CukeTestRun> listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Returns the latest snapshot of the test-run. A snapshot is not modified
+	 * after it has been published.
+	 * 
+	 * @return The latest {@link CukeTestRun} snapshot
+	 */
+	public CukeTestRun getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Converts the reports that already exist in the directory tree and starts
+	 * watching it for new or changed reports, in a background thread.
+	 */
+	public synchronized void start() {
+		if (watchThread != null) {
+			return;
+		}
+		registerTree(root);
+		publishSnapshot();
+
+		watchThread = new Thread(this::watch, "cuke-report-watcher");
+		watchThread.setDaemon(true);
+		watchThread.start();
+	}
+
+	/**
+	 * Stops watching the directory tree
+	 */
+	@Override
+	public void close() {
+		try {
+			watchService.close();
+		} catch (IOException e) {
+			log.warn("Failed to close watch service", e);
+		}
+	}
+
+	private void watch() {
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				Set<Path> changedFiles = new HashSet<>();
+				boolean rescan = false;
+				do {
+					rescan |= collectChanges(key, changedFiles);
+				} while ((key = watchService.poll()) != null);
+
+				if (rescan) {
+					log.info("Events lost, scanning {} again", root);
+					registerTree(root);
+					removeReports(path -> !Files.isRegularFile(path));
+				}
+				changedFiles.forEach(this::reportChanged);
+				publishSnapshot();
+			}
+		} catch (ClosedWatchServiceException e) {
+			log.debug("Stopped watching {}", root);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private boolean collectChanges(WatchKey key, Set<Path> changedFiles) {
+		Path dir = watchedDirs.get(key);
+		boolean overflow = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind() == OVERFLOW) {
+				overflow = true;
+			} else if (dir != null) {
+				Path path = dir.resolve((Path) event.context());
+				if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+					registerTree(path);
+				} else {
+					changedFiles.add(path);
+				}
+			}
+		}
+		if (!key.reset()) {
+			watchedDirs.remove(key);
+		}
+		return overflow;
+	}
+
+	private void registerTree(Path dir) {
+		try (Stream<Path> paths = Files.walk(dir)) {
+			paths.forEach(path -> {
+				if (Files.isDirectory(path)) {
+					register(path);
+				} else {
+					reportChanged(path);
+				}
+			});
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("Failed to scan directory: {}", dir);
+		}
+	}
+
+	private void register(Path dir) {
+		try {
+			watchedDirs.put(dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), dir);
+		} catch (IOException e) {
+			log.warn("Failed to watch directory: {}", dir);
+		}
+	}
+
+	private synchronized void reportChanged(Path path) {
+		if (Files.notExists(path)) {
+			// the path may be a report or a whole directory of reports
+			removeReports(report -> report.startsWith(path));
+			return;
+		}
+		if (!Files.isRegularFile(path) || !matcher.matches(root.relativize(path))) {
+			return;
+		}
+
+		FileTime lastModified;
+		try {
+			lastModified = Files.getLastModifiedTime(path);
+		} catch (IOException e) {
+			return;
+		}
+		if (lastModified.equals(convertedFiles.get(path))) {
+			return;
+		}
+
+		Optional<Set<CukeFeature>> modified;
+		try {
+			modified = converter.updateTestRun(liveTestRun, List.of(path.toFile()), List.of(), true);
+		} catch (CukeConverterException e) {
+			modified = Optional.empty();
+		}
+		if (modified.isEmpty()) {
+			log.warn("Failed to convert report: {}. Waiting for the next change", path);
+			return;
+		}
+		modifiedFeatures.addAll(modified.get());
+		convertedFiles.put(path, lastModified);
+	}
+
+	private synchronized void removeReports(Predicate<Path> condition) {
+		List<File> removedFiles = new ArrayList<>();
+		convertedFiles.keySet().removeIf(path -> condition.test(path) && removedFiles.add(path.toFile()));
+		if (!removedFiles.isEmpty()) {
+			log.info("Reports removed: {}", removedFiles);
+			converter.updateTestRun(liveTestRun, List.of(), removedFiles, false).ifPresent(modifiedFeatures::addAll);
+		}
+	}
+
+	private synchronized void publishSnapshot() {
+		Map<CukeFeature, CukeFeature> copies = new IdentityHashMap<>();
+		List<CukeFeature> features = new ArrayList<>();
+		for (CukeFeature feature : liveTestRun.getFeatures()) {
+			CukeFeature copy = publishedFeatures.get(feature);
+			if (copy == null || modifiedFeatures.contains(feature)) {
+				copy = copyOf(feature);
+			}
+			copies.put(feature, copy);
+			features.add(copy);
+		}
+		publishedFeatures = copies;
+		modifiedFeatures.clear();
+
+		CukeTestRun testRun = CukeTestRun.builder().features(features).build();
+		testRun.calculateStartTime();
+		testRun.calculateEndTime();
+		testRun.calculateStatistics();
+		snapshot = testRun;
+
+		listeners.forEach(listener -> listener.accept(testRun));
+	}
+
+	private static CukeFeature copyOf(CukeFeature feature) {
+		return CukeFeature.builder()
+				.name(feature.getName())
+				.description(feature.getDescription())
+				.tags(feature.getTags())
+				.totalTags(new HashSet<>(feature.getTotalTags()))
+				.scenarios(new ArrayList<>(feature.getScenarios()))
+				.numOfPassedScenarios(feature.getNumOfPassedScenarios())
+				.numOfFailedScenarios(feature.getNumOfFailedScenarios())
+				.stepResultCounter(new CukeStepResultCounter(feature.getStepResultCounter()))
+				.minScenarioStartTime(feature.getScenarioMinStartTime())
+				.maxScenarioEndTime(feature.getScenarioMaxEndTime())
+				.totalDuration(feature.getTotalDuration())
+				.codeRef(feature.getCodeRef())
+				.build();
+	}
+}
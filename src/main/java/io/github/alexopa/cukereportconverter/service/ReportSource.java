@@ -0,0 +1,72 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.service;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Class that models a single cucumber json report that can be parsed. A report
+ * may be a plain or compressed file, an entry of a zip archive, or data that are
+ * already available in memory.
+ */
+@RequiredArgsConstructor
+@Getter
+class ReportSource {
+
+	private final String name;
+	private final long size;
+	private final JsonParserSupplier parserSupplier;
+
+	/**
+	 * Creates a {@link ReportSource} that fails with the given exception when it
+	 * is parsed
+	 * 
+	 * @param name The name of the report
+	 * @param e    The {@link IOException} to throw
+	 * @return A new {@link ReportSource}
+	 */
+	static ReportSource failed(String name, IOException e) {
+		return new ReportSource(name, 0, factory -> {
+			throw e;
+		});
+	}
+
+	/**
+	 * Creates a new {@link JsonParser} for this report
+	 * 
+	 * @param factory The {@link JsonFactory} to create the parser with
+	 * @return A new {@link JsonParser}
+	 * @throws IOException In case the report cannot be opened
+	 */
+	JsonParser createParser(JsonFactory factory) throws IOException {
+		return parserSupplier.createParser(factory);
+	}
+
+	/**
+	 * A function that creates a {@link JsonParser} for a report
+	 */
+	@FunctionalInterface
+	interface JsonParserSupplier {
+		JsonParser createParser(JsonFactory factory) throws IOException;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import io.github.alexopa.cukereportconverter.util.CompressionFormat;
+import io.github.alexopa.cukereportconverter.util.MappedFileInputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class that resolves report files to the {@link ReportSource}s they contain. A
+ * plain or gzip compressed file contains a single report, while each json entry
+ * of a zip archive is a separate report. The entries are read directly from the
+ * archive, without extracting it. The archives stay open until this object is
+ * closed.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class ReportSources implements Iterable<ReportSource>, Closeable {
+
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	private final boolean memoryMappedRead;
+	private final List<ReportSource> sources = new ArrayList<>();
+	private final List<Closeable> openArchives = new ArrayList<>();
+
+	/**
+	 * Adds the reports of the given file
+	 * 
+	 * @param path The {@link Path} of the report file
+	 * @return This {@link ReportSources}
+	 */
+	ReportSources add(Path path) {
+		String name = path.toString();
+		try {
+			switch (CompressionFormat.detect(path)) {
+			case GZIP -> sources.add(new ReportSource(name, Files.size(path), factory -> factory
+					.createParser(new GZIPInputStream(openFile(path), BUFFER_SIZE))));
+			case ZIP -> addZipEntries(path);
+			case NONE -> sources.add(new ReportSource(name, Files.size(path),
+					factory -> factory.createParser(openFile(path))));
+			}
+		} catch (IOException e) {
+			sources.add(ReportSource.failed(name, e));
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the reports that have been added
+	 * 
+	 * @return An unmodifiable {@link List} of {@link ReportSource}s
+	 */
+	List<ReportSource> getSources() {
+		return Collections.unmodifiableList(sources);
+	}
+
+	@Override
+	public Iterator<ReportSource> iterator() {
+		return getSources().iterator();
+	}
+
+	@Override
+	public void close() {
+		for (Closeable archive : openArchives) {
+			try {
+				archive.close();
+			} catch (IOException e) {
+				log.warn("Failed to close archive", e);
+			}
+		}
+		openArchives.clear();
+	}
+
+	/**
+	 * Returns if the given zip entry is a cucumber json report
+	 * 
+	 * @param entry The {@link ZipEntry} to check
+	 * @return <code>true</code> if the entry is a json file
+	 */
+	static boolean isJsonEntry(ZipEntry entry) {
+		return !entry.isDirectory() && entry.getName().toLowerCase(Locale.ROOT).endsWith(".json");
+	}
+
+	private void addZipEntries(Path path) throws IOException {
+		ZipFile zipFile = new ZipFile(path.toFile());
+		openArchives.add(zipFile);
+		zipFile.stream().filter(ReportSources::isJsonEntry).forEach(entry -> {
+			long size = entry.getSize() >= 0 ? entry.getSize() : entry.getCompressedSize();
+			sources.add(new ReportSource(path + "!/" + entry.getName(), size,
+					factory -> factory.createParser(zipFile.getInputStream(entry))));
+		});
+	}
+
+	private InputStream openFile(Path path) throws IOException {
+		return memoryMappedRead ? new MappedFileInputStream(path) : Files.newInputStream(path);
+	}
+}
@@ -0,0 +1,375 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.snapshot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepColumns;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An on-disk cache of converted report files. Each entry keeps the
+ * {@link CukeTestRun} of a single report file as a snapshot, written by a
+ * {@link CukeSnapshotWriter}, so a report that has already been converted is
+ * loaded from its snapshot without being parsed again.
+ * <p>
+ * An entry is identified by the size and the SHA-256 hash of the content of the
+ * report file, along with a namespace that should change whenever the
+ * conversion settings change, so copies of the same report, ie: the reports of
+ * a retried CI job, share an entry. The size and modification time of each
+ * file are kept in memory with its hash, so a file that has not changed since
+ * it was last looked up is not hashed again.
+ * <p>
+ * The total size of the entries is kept under a maximum size by evicting the
+ * least recently used entries. The cache is safe to use from multiple threads
+ * and its hit, miss and eviction counters can be used to monitor it.
+ */
+@Slf4j
+public class CukeParseCache {
+
+	private static final String ENTRY_SUFFIX = ".snap";
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	@Getter
+	private final Path directory;
+	@Getter
+	private final long maxSize;
+	private final String namespace;
+
+	private final CukeSnapshotWriter writer = new CukeSnapshotWriter();
+	private final CukeSnapshotReader reader;
+
+	private final Map<Path, FileKey> fileKeys = new HashMap<>();
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+	private final LongAdder bytesSaved = new LongAdder();
+
+	/**
+	 * Creates a new {@link CukeParseCache}. The directory is created if it does
+	 * not exist, and its existing entries are reused, in the order of their last
+	 * access.
+	 *
+	 * @param directory The {@link Path} of the directory of the cache
+	 * @param maxSize   The maximum total size of the entries, in bytes
+	 * @param namespace A {@link String} that identifies the conversion settings
+	 *                  of the cached test-runs
+	 * @throws CukeConverterException In case the directory cannot be created or
+	 *                                read
+	 */
+	public CukeParseCache(Path directory, long maxSize, String namespace) {
+		this(directory, maxSize, namespace, false);
+	}
+
+	/**
+	 * Creates a new {@link CukeParseCache}, as described in
+	 * {@link #CukeParseCache(Path, long, String)}, whose cached test-runs have
+	 * the steps of their scenarios in {@link CukeStepColumns}, in case
+	 * <code>columnarSteps</code> is set. The entries are the same either way,
+	 * so it does not need to be part of the namespace.
+	 *
+	 * @param directory     The {@link Path} of the directory of the cache
+	 * @param maxSize       The maximum total size of the entries, in bytes
+	 * @param namespace     A {@link String} that identifies the conversion
+	 *                      settings of the cached test-runs
+	 * @param columnarSteps <code>true</code> to load the steps of the cached
+	 *                      test-runs to {@link CukeStepColumns}
+	 * @throws CukeConverterException In case the directory cannot be created or
+	 *                                read
+	 */
+	public CukeParseCache(Path directory, long maxSize, String namespace, boolean columnarSteps) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Invalid parse cache size: " + maxSize);
+		}
+		this.directory = directory;
+		this.maxSize = maxSize;
+		this.namespace = namespace;
+		this.reader = new CukeSnapshotReader(columnarSteps);
+		loadEntries();
+	}
+
+	private void loadEntries() {
+		try {
+			Files.createDirectories(directory);
+			List<Path> entryFiles;
+			try (Stream<Path> files = Files.list(directory)) {
+				entryFiles = new ArrayList<>(files.filter(f -> f.getFileName().toString().endsWith(ENTRY_SUFFIX)).toList());
+			}
+			Map<Path, BasicFileAttributes> attributes = new HashMap<>();
+			for (Path entryFile : entryFiles) {
+				attributes.put(entryFile, Files.readAttributes(entryFile, BasicFileAttributes.class));
+			}
+			entryFiles.sort(Comparator.comparing(f -> attributes.get(f).lastModifiedTime()));
+			for (Path entryFile : entryFiles) {
+				addEntry(entryFile.getFileName().toString(), attributes.get(entryFile).size());
+			}
+			evict();
+		} catch (IOException e) {
+			String msg = String.format("Failed to initialize parse cache: %s", directory);
+			log.error("{}", msg);
+			throw new CukeConverterException(msg, e);
+		}
+	}
+
+	/**
+	 * Returns the cached {@link CukeTestRun} of a report file, if there is one.
+	 * The scenarios of the returned test-run are loaded lazily from the snapshot
+	 * of the entry, with the given report file as their <code>sourceFile</code>,
+	 * since the entry may have been written for a copy of the report.
+	 *
+	 * @param reportFile The {@link Path} of the report file
+	 * @return An {@link Optional} with the cached {@link CukeTestRun}, or an
+	 *         empty {@link Optional} on a cache miss
+	 */
+	public Optional<CukeTestRun> get(Path reportFile) {
+		FileKey fileKey = fileKey(reportFile);
+		if (fileKey == null) {
+			return Optional.empty();
+		}
+		String entryName = fileKey.entryName(namespace);
+		synchronized (this) {
+			if (entries.get(entryName) == null) {
+				misses.increment();
+				return Optional.empty();
+			}
+		}
+
+		Path entryFile = directory.resolve(entryName);
+		try {
+			CukeTestRun testRun = reader.read(entryFile, reportFile.toString());
+			Files.setLastModifiedTime(entryFile, FileTime.fromMillis(System.currentTimeMillis()));
+			hits.increment();
+			bytesSaved.add(fileKey.size());
+			log.debug("Parse cache hit for: {}", reportFile);
+			return Optional.of(testRun);
+		} catch (CukeConverterException | IOException e) {
+			log.warn("Failed to read parse cache entry: {}. Discarding it", entryFile);
+			removeEntry(entryName);
+			misses.increment();
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Adds the converted {@link CukeTestRun} of a report file to the cache. The
+	 * least recently used entries are evicted, in case the cache grows beyond
+	 * its maximum size. Failures to write the entry are logged and ignored.
+	 *
+	 * @param reportFile The {@link Path} of the report file
+	 * @param testRun    The {@link CukeTestRun} that the report file was
+	 *                   converted to
+	 */
+	public void put(Path reportFile, CukeTestRun testRun) {
+		FileKey fileKey = fileKey(reportFile);
+		if (fileKey == null) {
+			return;
+		}
+		String entryName = fileKey.entryName(namespace);
+		Path entryFile = directory.resolve(entryName);
+		Path tempFile = null;
+		try {
+			tempFile = Files.createTempFile(directory, "entry-", ".tmp");
+			writer.write(testRun, tempFile);
+			Files.move(tempFile, entryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			long entrySize = Files.size(entryFile);
+			synchronized (this) {
+				addEntry(entryName, entrySize);
+				evict();
+			}
+		} catch (CukeConverterException | IOException e) {
+			log.warn("Failed to write parse cache entry for: {}. Ignoring error", reportFile);
+			deleteQuietly(tempFile);
+		}
+	}
+
+	/**
+	 * Returns the number of lookups that found a cached test-run
+	 *
+	 * @return A <code>long</code> with the number of cache hits
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of lookups that did not find a cached test-run
+	 *
+	 * @return A <code>long</code> with the number of cache misses
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries that have been evicted to keep the cache
+	 * under its maximum size
+	 *
+	 * @return A <code>long</code> with the number of evicted entries
+	 */
+	public long getEvictionCount() {
+		return evictions.sum();
+	}
+
+	/**
+	 * Returns the total size of the report files that were loaded from the cache
+	 * instead of being parsed
+	 *
+	 * @return A <code>long</code> with the number of report bytes that were not
+	 *         parsed
+	 */
+	public long getBytesSaved() {
+		return bytesSaved.sum();
+	}
+
+	/**
+	 * Returns the total size of the entries of the cache
+	 *
+	 * @return A <code>long</code> with the size of the cache, in bytes
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of entries of the cache
+	 *
+	 * @return An <code>int</code> with the number of entries
+	 */
+	public synchronized int getEntryCount() {
+		return entries.size();
+	}
+
+	private FileKey fileKey(Path reportFile) {
+		Path path = reportFile.toAbsolutePath().normalize();
+		try {
+			BasicFileAttributes attrs = Files.readAttributes(path, BasicFileAttributes.class);
+			long modified = attrs.lastModifiedTime().toMillis();
+			synchronized (this) {
+				FileKey fileKey = fileKeys.get(path);
+				if (fileKey != null && fileKey.size() == attrs.size() && fileKey.modified() == modified) {
+					return fileKey;
+				}
+			}
+			FileKey fileKey = new FileKey(attrs.size(), modified, hash(path));
+			synchronized (this) {
+				fileKeys.put(path, fileKey);
+			}
+			return fileKey;
+		} catch (IOException e) {
+			log.debug("Failed to read report file: {}. It is not cached", reportFile);
+			return null;
+		}
+	}
+
+	private static byte[] hash(Path path) throws IOException {
+		MessageDigest digest = sha256();
+		byte[] buffer = new byte[BUFFER_SIZE];
+		try (InputStream in = Files.newInputStream(path)) {
+			int n;
+			while ((n = in.read(buffer)) > 0) {
+				digest.update(buffer, 0, n);
+			}
+		}
+		return digest.digest();
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void addEntry(String entryName, long entrySize) {
+		Long previous = entries.put(entryName, entrySize);
+		size += entrySize - (previous == null ? 0 : previous);
+	}
+
+	private synchronized void removeEntry(String entryName) {
+		Long entrySize = entries.remove(entryName);
+		if (entrySize != null) {
+			size -= entrySize;
+			deleteQuietly(directory.resolve(entryName));
+		}
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<String, Long>> it = entries.entrySet().iterator();
+		while (size > maxSize && it.hasNext()) {
+			Map.Entry<String, Long> eldest = it.next();
+			it.remove();
+			size -= eldest.getValue();
+			evictions.increment();
+			deleteQuietly(directory.resolve(eldest.getKey()));
+			log.debug("Evicted parse cache entry: {}", eldest.getKey());
+		}
+	}
+
+	private static void deleteQuietly(Path file) {
+		if (file == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.debug("Failed to delete parse cache file: {}", file);
+		}
+	}
+
+	/**
+	 * The size, modification time and content hash of a report file
+	 */
+	private record FileKey(long size, long modified, byte[] contentHash) {
+
+		private String entryName(String namespace) {
+			MessageDigest digest = sha256();
+			digest.update(namespace.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(Long.toString(size).getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(contentHash);
+			return HexFormat.of().formatHex(digest.digest()) + ENTRY_SUFFIX;
+		}
+	}
+}
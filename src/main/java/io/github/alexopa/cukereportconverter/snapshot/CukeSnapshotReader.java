@@ -0,0 +1,211 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.snapshot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeMetadata;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStep;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepColumns;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads a {@link CukeTestRun} from a snapshot file written by a
+ * {@link CukeSnapshotWriter}. The file is memory-mapped and only the test-run,
+ * the features and their aggregates are decoded when it is loaded. The
+ * scenarios of each feature, with their steps, are decoded the first time they
+ * are requested, and the data of the embeddings are read from the mapped file
+ * when they are requested. The steps are decoded to {@link CukeStep} objects,
+ * or to {@link CukeStepColumns} in case the reader is created for columnar
+ * steps.
+ */
+@Slf4j
+public class CukeSnapshotReader {
+
+	private final boolean columnarSteps;
+
+	/**
+	 * Creates a new {@link CukeSnapshotReader} that decodes the steps to
+	 * {@link CukeStep} objects
+	 */
+	public CukeSnapshotReader() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@link CukeSnapshotReader}
+	 * 
+	 * @param columnarSteps <code>true</code> to decode the steps of each scenario
+	 *                      to {@link CukeStepColumns}, the same way
+	 *                      {@link io.github.alexopa.cukereportconverter.config.CukeConverterPropertyHandler#isColumnarSteps()}
+	 *                      does for converted scenarios
+	 */
+	public CukeSnapshotReader(boolean columnarSteps) {
+		this.columnarSteps = columnarSteps;
+	}
+
+	/**
+	 * Loads a {@link CukeTestRun} from a snapshot file
+	 * 
+	 * @param file The {@link Path} of the snapshot file
+	 * @return The loaded {@link CukeTestRun}
+	 * @throws CukeConverterException In case the file cannot be read, or it is not
+	 *                                a snapshot file of a supported version
+	 */
+	public CukeTestRun read(Path file) {
+		return read(file, null);
+	}
+
+	/**
+	 * Loads a {@link CukeTestRun} from a snapshot file, replacing the source
+	 * file of its scenarios. The source file is set on each scenario as it is
+	 * decoded, so the scenarios are still decoded the first time they are
+	 * requested.
+	 * 
+	 * @param file       The {@link Path} of the snapshot file
+	 * @param sourceFile The path of the report file that the scenarios should
+	 *                   have as their <code>sourceFile</code>, or
+	 *                   <code>null</code> to keep the stored one
+	 * @return The loaded {@link CukeTestRun}
+	 * @throws CukeConverterException In case the file cannot be read, or it is not
+	 *                                a snapshot file of a supported version
+	 */
+	public CukeTestRun read(Path file, String sourceFile) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return readTestRun(channel, sourceFile);
+		} catch (IOException | BufferUnderflowException | IndexOutOfBoundsException e) {
+			String msg = String.format("Failed to read snapshot file: %s", file);
+			log.error("{}", msg, e);
+			throw new CukeConverterException(msg, e);
+		}
+	}
+
+	private CukeTestRun readTestRun(FileChannel channel, String sourceFile) throws IOException {
+		long size = channel.size();
+		if (size < SnapshotFormat.HEADER_SIZE + SnapshotFormat.FOOTER_SIZE) {
+			throw new CukeConverterException("Not a snapshot file");
+		}
+		ByteBuffer header = map(channel, 0, SnapshotFormat.HEADER_SIZE);
+		checkMagic(header);
+		int version = header.getInt();
+		if (version != SnapshotFormat.VERSION) {
+			throw new CukeConverterException(String.format("Unsupported snapshot version: %d", version));
+		}
+		header.getInt();
+
+		ByteBuffer footer = map(channel, size - SnapshotFormat.FOOTER_SIZE, SnapshotFormat.FOOTER_SIZE);
+		long runOffset = footer.getLong();
+		long stringTableOffset = footer.getLong();
+		checkMagic(footer);
+
+		SnapshotDecoder decoder = new SnapshotDecoder(
+				readStringTable(map(channel, stringTableOffset, size - SnapshotFormat.FOOTER_SIZE - stringTableOffset)),
+				sourceFile, columnarSteps);
+		SnapshotInput in = new SnapshotInput(map(channel, runOffset, stringTableOffset - runOffset));
+
+		CukeMetadata metadata = new CukeMetadata();
+		metadata.setName(decoder.readString(in));
+		metadata.setId(decoder.readString(in));
+		metadata.setStatus(decoder.readString(in));
+		CukeTestRun testRun = CukeTestRun.builder()
+				.metadata(metadata)
+				.startTime(in.readTimestamp())
+				.endTime(in.readTimestamp())
+				.numOfPassedScenarios(in.readVarInt())
+				.numOfFailedScenarios(in.readVarInt())
+				.stepResultCounter(decoder.readCounter(in))
+				.totalDuration(in.readSignedVarLong())
+				.totalTags(decoder.readStringSet(in))
+				.build();
+
+		int features = in.readVarInt();
+		List<CukeFeature> testRunFeatures = new ArrayList<>(features);
+		for (int i = 0; i < features; i++) {
+			testRunFeatures.add(readFeature(channel, in, decoder));
+		}
+		testRun.setFeatures(testRunFeatures);
+		return testRun;
+	}
+
+	private CukeFeature readFeature(FileChannel channel, SnapshotInput in, SnapshotDecoder decoder)
+			throws IOException {
+		CukeFeature feature = CukeFeature.builder()
+				.name(decoder.readString(in))
+				.description(decoder.readString(in))
+				.codeRef(decoder.readString(in))
+				.tags(decoder.readStrings(in))
+				.totalTags(decoder.readStringSet(in))
+				.numOfPassedScenarios(in.readVarInt())
+				.numOfFailedScenarios(in.readVarInt())
+				.stepResultCounter(decoder.readCounter(in))
+				.minScenarioStartTime(in.readTimestamp())
+				.maxScenarioEndTime(in.readTimestamp())
+				.totalDuration(in.readSignedVarLong())
+				.build();
+
+		long blockOffset = in.readVarLong();
+		long blockLength = in.readVarLong();
+		int[] offsets = new int[in.readVarInt()];
+		long offset = 0;
+		for (int i = 0; i < offsets.length; i++) {
+			offset += in.readVarLong();
+			offsets[i] = (int) offset;
+		}
+		feature.setScenarios(new LazyScenarioList(feature, map(channel, blockOffset, blockLength), offsets, decoder));
+		return feature;
+	}
+
+	private String[] readStringTable(ByteBuffer buffer) {
+		SnapshotInput in = new SnapshotInput(buffer);
+		String[] strings = new String[in.readVarInt()];
+		for (int i = 0; i < strings.length; i++) {
+			int length = in.readVarInt();
+			byte[] bytes = new byte[length];
+			buffer.get(bytes);
+			strings[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		return strings;
+	}
+
+	private static ByteBuffer map(FileChannel channel, long offset, long length) throws IOException {
+		if (offset < 0 || length < 0 || offset + length > channel.size() || length > Integer.MAX_VALUE) {
+			throw new CukeConverterException("Invalid snapshot section");
+		}
+		return channel.map(MapMode.READ_ONLY, offset, length);
+	}
+
+	private static void checkMagic(ByteBuffer buffer) {
+		byte[] magic = new byte[SnapshotFormat.MAGIC.length];
+		buffer.get(magic);
+		if (!Arrays.equals(magic, SnapshotFormat.MAGIC)) {
+			throw new CukeConverterException("Not a snapshot file");
+		}
+	}
+}
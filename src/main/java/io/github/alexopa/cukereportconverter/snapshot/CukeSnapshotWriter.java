@@ -0,0 +1,302 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeEmbedding;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeMatchArgument;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeMetadata;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenario;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStep;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepMatch;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResultCounter;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a converted {@link CukeTestRun} to a binary snapshot file, that can be
+ * loaded again with a {@link CukeSnapshotReader} without parsing the cucumber
+ * json reports. The snapshot keeps the features, scenarios and steps of the
+ * test-run along with their aggregates. Each distinct string is written once,
+ * in a string table, and numbers are written as variable-length integers. The
+ * data of the embeddings are written only if <code>isIncludeEmbeddings()</code> is
+ * enabled, otherwise only their name and mime type are kept.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CukeSnapshotWriter {
+
+	private static final CukeStepResult[] RESULTS = CukeStepResult.values();
+
+	@Getter
+	private final boolean includeEmbeddings;
+
+	/**
+	 * Creates a new {@link CukeSnapshotWriter} that includes the data of the
+	 * embeddings in the snapshots
+	 */
+	public CukeSnapshotWriter() {
+		this(true);
+	}
+
+	/**
+	 * Writes a {@link CukeTestRun} to a snapshot file. An existing file is
+	 * replaced.
+	 * 
+	 * @param testRun The {@link CukeTestRun} to write
+	 * @param file    The {@link Path} of the snapshot file
+	 */
+	public void write(CukeTestRun testRun, Path file) {
+		try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+			new SnapshotWriter(new SnapshotOutput(out)).writeTestRun(testRun);
+		} catch (IOException e) {
+			String msg = String.format("Failed to write snapshot file: %s", file);
+			log.error("{}", msg, e);
+			throw new CukeConverterException(msg, e);
+		}
+	}
+
+	/**
+	 * The state of a single snapshot that is being written
+	 */
+	@RequiredArgsConstructor
+	private class SnapshotWriter {
+
+		private final SnapshotOutput out;
+		private final Map<String, Integer> stringIndexes = new HashMap<>();
+		private final List<String> strings = new ArrayList<>();
+
+		private void writeTestRun(CukeTestRun testRun) throws IOException {
+			out.writeBytes(SnapshotFormat.MAGIC);
+			out.writeFixedInt(SnapshotFormat.VERSION);
+			out.writeFixedInt(includeEmbeddings ? SnapshotFormat.FLAG_EMBEDDINGS : 0);
+
+			List<FeatureBlock> blocks = new ArrayList<>();
+			for (CukeFeature feature : testRun.getFeatures()) {
+				blocks.add(writeScenarios(feature));
+			}
+
+			long runOffset = out.getPosition();
+			CukeMetadata metadata = testRun.getMetadata() != null ? testRun.getMetadata() : new CukeMetadata();
+			writeString(metadata.getName());
+			writeString(metadata.getId());
+			writeString(metadata.getStatus());
+			out.writeTimestamp(testRun.getStartTime());
+			out.writeTimestamp(testRun.getEndTime());
+			out.writeVarInt(testRun.getNumOfPassedScenarios());
+			out.writeVarInt(testRun.getNumOfFailedScenarios());
+			writeCounter(testRun.getStepResultCounter());
+			out.writeSignedVarLong(testRun.getTotalDuration());
+			writeStrings(testRun.getTotalTags());
+			out.writeVarInt(testRun.getFeatures().size());
+			for (int i = 0; i < blocks.size(); i++) {
+				writeFeature(testRun.getFeatures().get(i), blocks.get(i));
+			}
+
+			long stringTableOffset = out.getPosition();
+			out.writeVarInt(strings.size());
+			for (String s : strings) {
+				byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+				out.writeVarInt(bytes.length);
+				out.writeBytes(bytes);
+			}
+
+			out.writeFixedLong(runOffset);
+			out.writeFixedLong(stringTableOffset);
+			out.writeBytes(SnapshotFormat.MAGIC);
+		}
+
+		private FeatureBlock writeScenarios(CukeFeature feature) throws IOException {
+			long blockOffset = out.getPosition();
+			long[] scenarioOffsets = new long[feature.getScenarios().size()];
+			int i = 0;
+			for (CukeScenario scenario : feature.getScenarios()) {
+				scenarioOffsets[i++] = out.getPosition() - blockOffset;
+				writeScenario(scenario);
+			}
+			return new FeatureBlock(blockOffset, out.getPosition() - blockOffset, scenarioOffsets);
+		}
+
+		private void writeFeature(CukeFeature feature, FeatureBlock block) throws IOException {
+			writeString(feature.getName());
+			writeString(feature.getDescription());
+			writeString(feature.getCodeRef());
+			writeStrings(feature.getTags());
+			writeStrings(feature.getTotalTags());
+			out.writeVarInt(feature.getNumOfPassedScenarios());
+			out.writeVarInt(feature.getNumOfFailedScenarios());
+			writeCounter(feature.getStepResultCounter());
+			out.writeTimestamp(feature.getScenarioMinStartTime());
+			out.writeTimestamp(feature.getScenarioMaxEndTime());
+			out.writeSignedVarLong(feature.getTotalDuration());
+			out.writeVarLong(block.offset());
+			out.writeVarLong(block.length());
+			out.writeVarInt(block.scenarioOffsets().length);
+			long previous = 0;
+			for (long offset : block.scenarioOffsets()) {
+				out.writeVarLong(offset - previous);
+				previous = offset;
+			}
+		}
+
+		private void writeScenario(CukeScenario scenario) throws IOException {
+			writeString(scenario.getName());
+			writeString(scenario.getDescription());
+			writeString(scenario.getSourceFile());
+			out.writeEnum(scenario.getType());
+			out.writeEnum(scenario.getResult());
+			out.writeVarInt(scenario.getLine());
+			out.writeTimestamp(scenario.getStartTimestamp());
+			out.writeTimestamp(scenario.getEndTimestamp());
+			writeStrings(scenario.getTags());
+			out.writeSignedVarLong(scenario.getBeforeStepsDuration());
+			out.writeSignedVarLong(scenario.getAfterStepsDuration());
+			out.writeSignedVarLong(scenario.getBackgroundStepsDuration());
+			out.writeSignedVarLong(scenario.getScenarioStepsDuration());
+			out.writeSignedVarLong(scenario.getTotalDuration());
+			writeCounter(scenario.getStepResultCounter());
+			writeSteps(scenario.getBeforeSteps());
+			writeSteps(scenario.getAfterSteps());
+			writeSteps(scenario.getBackgroundSteps());
+			writeSteps(scenario.getScenarioSteps());
+		}
+
+		private void writeSteps(List<CukeStep> steps) throws IOException {
+			if (steps == null) {
+				out.writeVarInt(0);
+				return;
+			}
+			out.writeVarInt(steps.size());
+			for (CukeStep step : steps) {
+				writeStep(step);
+			}
+		}
+
+		private void writeStep(CukeStep step) throws IOException {
+			out.writeEnum(step.getStepSection());
+			writeString(step.getKeyword());
+			writeString(step.getName());
+			out.writeVarInt(step.getLine());
+			out.writeEnum(step.getResult());
+			out.writeSignedVarLong(step.getDuration());
+			writeString(step.getErrorMessage());
+			CukeStepMatch match = step.getMatch();
+			out.writeBoolean(match != null);
+			if (match != null) {
+				writeString(match.getLocation());
+				List<CukeMatchArgument> arguments = match.getArguments();
+				out.writeVarInt(arguments == null ? 0 : arguments.size() + 1);
+				if (arguments != null) {
+					for (CukeMatchArgument argument : arguments) {
+						writeString(argument.getVal());
+						out.writeVarInt(argument.getOffset());
+					}
+				}
+			}
+			List<CukeEmbedding> embeddings = step.getEmbeddings();
+			out.writeVarInt(embeddings == null ? 0 : embeddings.size() + 1);
+			if (embeddings != null) {
+				for (CukeEmbedding embedding : embeddings) {
+					writeEmbedding(embedding);
+				}
+			}
+			List<List<String>> tableData = step.getTableData();
+			out.writeVarInt(tableData == null ? 0 : tableData.size() + 1);
+			if (tableData != null) {
+				for (List<String> row : tableData) {
+					writeStrings(row);
+				}
+			}
+			writeString(step.getDocString());
+			writeSteps(step.getBeforeSteps());
+			writeSteps(step.getAfterSteps());
+		}
+
+		private void writeEmbedding(CukeEmbedding embedding) throws IOException {
+			writeString(embedding.getMimeType());
+			writeString(embedding.getName());
+			String data = includeEmbeddings ? embedding.getData() : null;
+			if (data == null) {
+				out.writeVarInt(0);
+				return;
+			}
+			byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+			out.writeVarInt(bytes.length + 1);
+			out.writeBytes(bytes);
+		}
+
+		private void writeCounter(CukeStepResultCounter counter) throws IOException {
+			out.writeVarInt(RESULTS.length);
+			for (CukeStepResult result : RESULTS) {
+				out.writeVarInt(counter.getCount(result));
+			}
+			out.writeVarInt(counter.getCount(null));
+		}
+
+		private void writeStrings(Collection<String> values) throws IOException {
+			if (values == null) {
+				out.writeVarInt(0);
+				return;
+			}
+			out.writeVarInt(values.size());
+			for (String value : values) {
+				writeString(value);
+			}
+		}
+
+		private void writeString(String value) throws IOException {
+			if (value == null) {
+				out.writeVarInt(0);
+				return;
+			}
+			Integer index = stringIndexes.get(value);
+			if (index == null) {
+				strings.add(value);
+				index = strings.size();
+				stringIndexes.put(value, index);
+			}
+			out.writeVarInt(index);
+		}
+	}
+
+	/**
+	 * The position of the scenario records of a feature in the snapshot
+	 * 
+	 * @param offset          The offset of the first scenario record
+	 * @param length          The total length of the scenario records
+	 * @param scenarioOffsets The offset of each scenario record, relative to the
+	 *                        first one
+	 */
+	private record FeatureBlock(long offset, long length, long[] scenarioOffsets) {
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.snapshot;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenario;
+
+/**
+ * The list of the scenarios of a feature that is loaded from a snapshot. Each
+ * scenario is decoded from the mapped snapshot file the first time it is
+ * requested, and it is kept afterwards. The list can be modified, in which case
+ * all of its scenarios are decoded first.
+ */
+class LazyScenarioList extends AbstractList<CukeScenario> implements RandomAccess {
+
+	private final CukeFeature parent;
+	private final ByteBuffer block;
+	private final int[] offsets;
+	private final SnapshotDecoder decoder;
+	private final CukeScenario[] decoded;
+	private List<CukeScenario> materialized;
+
+	LazyScenarioList(CukeFeature parent, ByteBuffer block, int[] offsets, SnapshotDecoder decoder) {
+		this.parent = parent;
+		this.block = block;
+		this.offsets = offsets;
+		this.decoder = decoder;
+		this.decoded = new CukeScenario[offsets.length];
+	}
+
+	@Override
+	public synchronized CukeScenario get(int index) {
+		if (materialized != null) {
+			return materialized.get(index);
+		}
+		CukeScenario scenario = decoded[index];
+		if (scenario == null) {
+			SnapshotInput in = new SnapshotInput(block.duplicate().position(offsets[index]));
+			scenario = decoder.readScenario(in, parent);
+			decoded[index] = scenario;
+		}
+		return scenario;
+	}
+
+	@Override
+	public synchronized int size() {
+		return materialized != null ? materialized.size() : offsets.length;
+	}
+
+	@Override
+	public synchronized CukeScenario set(int index, CukeScenario element) {
+		return materialize().set(index, element);
+	}
+
+	@Override
+	public synchronized void add(int index, CukeScenario element) {
+		materialize().add(index, element);
+		modCount++;
+	}
+
+	@Override
+	public synchronized CukeScenario remove(int index) {
+		CukeScenario removed = materialize().remove(index);
+		modCount++;
+		return removed;
+	}
+
+	private List<CukeScenario> materialize() {
+		if (materialized == null) {
+			List<CukeScenario> scenarios = new ArrayList<>(offsets.length);
+			for (int i = 0; i < offsets.length; i++) {
+				scenarios.add(get(i));
+			}
+			materialized = scenarios;
+		}
+		return materialized;
+	}
+}
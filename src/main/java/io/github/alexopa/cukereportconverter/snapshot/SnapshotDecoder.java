@@ -0,0 +1,260 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.snapshot;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import io.github.alexopa.cukereportconverter.model.cuke.CukeEmbedding;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeMatchArgument;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenario;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenarioResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenarioType;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStep;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepColumns;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepMatch;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResultCounter;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepSection;
+import io.github.alexopa.cukereportconverter.storage.EmbeddingHandle;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Decodes the records of a snapshot to the cuke model, resolving the string
+ * indexes through the string table of the snapshot. In case a source file is
+ * given, it replaces the stored source file of each decoded scenario. With
+ * columnar steps, the steps of each scenario are decoded to
+ * {@link CukeStepColumns}.
+ */
+@RequiredArgsConstructor
+class SnapshotDecoder {
+
+	private static final CukeStepResult[] RESULTS = CukeStepResult.values();
+	private static final CukeStepSection[] SECTIONS = CukeStepSection.values();
+	private static final CukeScenarioType[] SCENARIO_TYPES = CukeScenarioType.values();
+	private static final CukeScenarioResult[] SCENARIO_RESULTS = CukeScenarioResult.values();
+
+	private final String[] strings;
+	private final String sourceFile;
+	private final boolean columnarSteps;
+
+	String readString(SnapshotInput in) {
+		int index = in.readVarInt();
+		return index == 0 ? null : strings[index - 1];
+	}
+
+	List<String> readStrings(SnapshotInput in) {
+		int size = in.readVarInt();
+		List<String> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(readString(in));
+		}
+		return values;
+	}
+
+	Set<String> readStringSet(SnapshotInput in) {
+		return new HashSet<>(readStrings(in));
+	}
+
+	CukeStepResultCounter readCounter(SnapshotInput in) {
+		CukeStepResultCounter counter = new CukeStepResultCounter();
+		int results = in.readVarInt();
+		for (int i = 0; i < results; i++) {
+			int count = in.readVarInt();
+			if (i < RESULTS.length) {
+				counter.add(RESULTS[i], count);
+			}
+		}
+		counter.add(null, in.readVarInt());
+		return counter;
+	}
+
+	CukeScenario readScenario(SnapshotInput in, CukeFeature parent) {
+		CukeScenario scenario = new CukeScenario();
+		scenario.setParent(parent);
+		scenario.setName(readString(in));
+		scenario.setDescription(readString(in));
+		String storedSourceFile = readString(in);
+		scenario.setSourceFile(sourceFile != null ? sourceFile : storedSourceFile);
+		scenario.setType(in.readEnum(SCENARIO_TYPES));
+		scenario.setResult(in.readEnum(SCENARIO_RESULTS));
+		scenario.setLine(in.readVarInt());
+		scenario.setStartTimestamp(in.readTimestamp());
+		scenario.setEndTimestamp(in.readTimestamp());
+		scenario.setTags(readStrings(in));
+		scenario.setBeforeStepsDuration(in.readSignedVarLong());
+		scenario.setAfterStepsDuration(in.readSignedVarLong());
+		scenario.setBackgroundStepsDuration(in.readSignedVarLong());
+		scenario.setScenarioStepsDuration(in.readSignedVarLong());
+		scenario.setTotalDuration(in.readSignedVarLong());
+		scenario.setStepResultCounter(readCounter(in));
+		if (columnarSteps) {
+			CukeStepColumns.Builder columns = CukeStepColumns.builder();
+			for (int section = 0; section < 4; section++) {
+				readColumnarSteps(in, columns, -1);
+			}
+			columns.build(scenario);
+		} else {
+			scenario.setBeforeSteps(readSteps(in, scenario));
+			scenario.setAfterSteps(readSteps(in, scenario));
+			scenario.setBackgroundSteps(readSteps(in, scenario));
+			scenario.setScenarioSteps(readSteps(in, scenario));
+		}
+		return scenario;
+	}
+
+	private void readColumnarSteps(SnapshotInput in, CukeStepColumns.Builder columns, int owner) {
+		int size = in.readVarInt();
+		for (int i = 0; i < size; i++) {
+			int row = columns.addStep(owner, in.readEnum(SECTIONS));
+			columns.setKeyword(row, readString(in));
+			columns.setName(row, readString(in));
+			columns.setLine(row, in.readVarInt());
+			columns.setResult(row, in.readEnum(RESULTS));
+			columns.setDuration(row, in.readSignedVarLong());
+			columns.setErrorMessage(row, readString(in));
+			columns.setMatch(row, readMatch(in));
+			columns.setEmbeddings(row, readEmbeddings(in));
+			columns.setTableData(row, readTableData(in));
+			columns.setDocString(row, readString(in));
+			readColumnarSteps(in, columns, row);
+			readColumnarSteps(in, columns, row);
+		}
+	}
+
+	private List<CukeStep> readSteps(SnapshotInput in, CukeScenario parent) {
+		int size = in.readVarInt();
+		List<CukeStep> steps = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			steps.add(readStep(in, parent));
+		}
+		return steps;
+	}
+
+	private CukeStep readStep(SnapshotInput in, CukeScenario parent) {
+		CukeStep step = new CukeStep();
+		step.setParent(parent);
+		step.setStepSection(in.readEnum(SECTIONS));
+		step.setKeyword(readString(in));
+		step.setName(readString(in));
+		step.setLine(in.readVarInt());
+		step.setResult(in.readEnum(RESULTS));
+		step.setDuration(in.readSignedVarLong());
+		step.setErrorMessage(readString(in));
+		CukeStepMatch match = readMatch(in);
+		if (match != null) {
+			step.setMatch(match);
+		}
+		List<CukeEmbedding> embeddings = readEmbeddings(in);
+		if (embeddings != null) {
+			step.setEmbeddings(embeddings);
+		}
+		List<List<String>> tableData = readTableData(in);
+		if (tableData != null) {
+			step.setTableData(tableData);
+		}
+		step.setDocString(readString(in));
+		step.setBeforeSteps(readSteps(in, parent));
+		step.setAfterSteps(readSteps(in, parent));
+		return step;
+	}
+
+	private CukeStepMatch readMatch(SnapshotInput in) {
+		if (!in.readBoolean()) {
+			return null;
+		}
+		CukeStepMatch match = new CukeStepMatch();
+		match.setLocation(readString(in));
+		int arguments = in.readVarInt() - 1;
+		if (arguments >= 0) {
+			List<CukeMatchArgument> matchArguments = new ArrayList<>(arguments);
+			for (int i = 0; i < arguments; i++) {
+				CukeMatchArgument argument = new CukeMatchArgument();
+				argument.setVal(readString(in));
+				argument.setOffset(in.readVarInt());
+				matchArguments.add(argument);
+			}
+			match.setArguments(matchArguments);
+		}
+		return match;
+	}
+
+	private List<CukeEmbedding> readEmbeddings(SnapshotInput in) {
+		int embeddings = in.readVarInt() - 1;
+		if (embeddings < 0) {
+			return null;
+		}
+		List<CukeEmbedding> stepEmbeddings = new ArrayList<>(embeddings);
+		for (int i = 0; i < embeddings; i++) {
+			stepEmbeddings.add(readEmbedding(in));
+		}
+		return stepEmbeddings;
+	}
+
+	private List<List<String>> readTableData(SnapshotInput in) {
+		int rows = in.readVarInt() - 1;
+		if (rows < 0) {
+			return null;
+		}
+		List<List<String>> tableData = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			tableData.add(readStrings(in));
+		}
+		return tableData;
+	}
+
+	/**
+	 * Reads an embedding, whose data stay in the mapped snapshot file until they
+	 * are requested
+	 */
+	private CukeEmbedding readEmbedding(SnapshotInput in) {
+		CukeEmbedding embedding = new CukeEmbedding();
+		embedding.setMimeType(readString(in));
+		embedding.setName(readString(in));
+		int length = in.readVarInt() - 1;
+		if (length >= 0) {
+			embedding.setDataHandle(new SnapshotEmbeddingHandle(in.readSlice(length)));
+		}
+		return embedding;
+	}
+
+	/**
+	 * An {@link EmbeddingHandle} to the data of an embedding in a mapped snapshot
+	 * file
+	 */
+	@RequiredArgsConstructor
+	private static class SnapshotEmbeddingHandle implements EmbeddingHandle {
+
+		private final ByteBuffer data;
+
+		@Override
+		public byte[] getBytes() {
+			byte[] bytes = new byte[data.remaining()];
+			data.duplicate().get(bytes);
+			return bytes;
+		}
+
+		@Override
+		public int getSize() {
+			return data.remaining();
+		}
+	}
+}
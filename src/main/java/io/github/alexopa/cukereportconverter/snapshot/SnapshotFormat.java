@@ -0,0 +1,53 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.snapshot;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The constants of the binary snapshot format of a
+ * {@link io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun}. A
+ * snapshot file has the following sections:
+ * <ul>
+ * <li>A header with the {@link #MAGIC} bytes, the format {@link #VERSION} and
+ * the {@link #FLAG_EMBEDDINGS flags} of the snapshot, as fixed-size values</li>
+ * <li>A block of scenario records for each feature</li>
+ * <li>The run section, with the metadata and the aggregates of the test-run
+ * and of each feature, along with the position of its scenario records</li>
+ * <li>The string table, with every distinct string of the snapshot</li>
+ * <li>A footer with the offsets of the run section and of the string table,
+ * followed by the {@link #MAGIC} bytes</li>
+ * </ul>
+ * Numbers are written as variable-length integers, and strings as indexes to
+ * the string table, where <code>0</code> stands for <code>null</code>.
+ */
+final class SnapshotFormat {
+
+	static final byte[] MAGIC = "CUKESNAP".getBytes(StandardCharsets.US_ASCII);
+	static final int VERSION = 2;
+	static final int HEADER_SIZE = MAGIC.length + 2 * Integer.BYTES;
+	static final int FOOTER_SIZE = 2 * Long.BYTES + MAGIC.length;
+
+	/**
+	 * Flag that indicates that the data of the embeddings are included in the
+	 * snapshot
+	 */
+	static final int FLAG_EMBEDDINGS = 1;
+
+	private SnapshotFormat() {
+	}
+}
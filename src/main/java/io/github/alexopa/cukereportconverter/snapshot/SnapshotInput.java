@@ -0,0 +1,84 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.snapshot;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Reads the values of a snapshot, that are written by a {@link SnapshotOutput},
+ * from a {@link ByteBuffer}
+ */
+class SnapshotInput {
+
+	private final ByteBuffer buffer;
+
+	SnapshotInput(ByteBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	long readVarLong() {
+		long value = 0;
+		for (int shift = 0;; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+	}
+
+	int readVarInt() {
+		return (int) readVarLong();
+	}
+
+	long readSignedVarLong() {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	boolean readBoolean() {
+		return buffer.get() != 0;
+	}
+
+	<E extends Enum<E>> E readEnum(E[] values) {
+		int ordinal = readVarInt();
+		return ordinal == 0 ? null : values[ordinal - 1];
+	}
+
+	LocalDateTime readTimestamp() {
+		if (!readBoolean()) {
+			return null;
+		}
+		long epochSecond = readSignedVarLong();
+		return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+	}
+
+	/**
+	 * Returns a read-only view of the next bytes of the buffer and skips them
+	 */
+	ByteBuffer readSlice(int length) {
+		ByteBuffer slice = buffer.slice(buffer.position(), length).asReadOnlyBuffer();
+		buffer.position(buffer.position() + length);
+		return slice;
+	}
+}
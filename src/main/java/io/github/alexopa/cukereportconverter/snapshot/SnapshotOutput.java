@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.snapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Writes the values of a snapshot to an {@link OutputStream}, keeping track of
+ * the number of written bytes
+ */
+class SnapshotOutput {
+
+	private final OutputStream out;
+	private long position = 0;
+
+	SnapshotOutput(OutputStream out) {
+		this.out = out;
+	}
+
+	long getPosition() {
+		return position;
+	}
+
+	void writeBytes(byte[] bytes) throws IOException {
+		out.write(bytes);
+		position += bytes.length;
+	}
+
+	void writeFixedInt(int value) throws IOException {
+		for (int shift = 24; shift >= 0; shift -= 8) {
+			out.write(value >>> shift);
+		}
+		position += Integer.BYTES;
+	}
+
+	void writeFixedLong(long value) throws IOException {
+		for (int shift = 56; shift >= 0; shift -= 8) {
+			out.write((int) (value >>> shift));
+		}
+		position += Long.BYTES;
+	}
+
+	/**
+	 * Writes a non-negative number as a variable-length integer, 7 bits per byte
+	 */
+	void writeVarLong(long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+			position++;
+		}
+		out.write((int) value);
+		position++;
+	}
+
+	void writeVarInt(int value) throws IOException {
+		writeVarLong(value & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Writes a number that may be negative as a zigzag-encoded variable-length
+	 * integer
+	 */
+	void writeSignedVarLong(long value) throws IOException {
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	void writeBoolean(boolean value) throws IOException {
+		out.write(value ? 1 : 0);
+		position++;
+	}
+
+	/**
+	 * Writes the ordinal of an enum constant plus one, or <code>0</code> for
+	 * <code>null</code>
+	 */
+	void writeEnum(Enum<?> value) throws IOException {
+		writeVarInt(value == null ? 0 : value.ordinal() + 1);
+	}
+
+	/**
+	 * Writes a timestamp as its epoch second and nano of second, or a single
+	 * <code>0</code> for <code>null</code>
+	 */
+	void writeTimestamp(LocalDateTime value) throws IOException {
+		if (value == null) {
+			writeBoolean(false);
+			return;
+		}
+		writeBoolean(true);
+		writeSignedVarLong(value.toEpochSecond(ZoneOffset.UTC));
+		writeVarInt(value.getNano());
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.storage;
+
+import java.nio.ByteBuffer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An {@link EmbeddingStore} that keeps each payload in a direct
+ * {@link ByteBuffer}. The memory of a payload is released once its handle is
+ * garbage collected.
+ */
+public class DirectBufferEmbeddingStore implements EmbeddingStore {
+
+	@Override
+	public EmbeddingHandle store(byte[] data) {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+		buffer.put(data).flip();
+		return new DirectBufferHandle(buffer.asReadOnlyBuffer());
+	}
+
+	@RequiredArgsConstructor
+	private static class DirectBufferHandle implements EmbeddingHandle {
+
+		private final ByteBuffer buffer;
+
+		@Override
+		public byte[] getBytes() {
+			byte[] data = new byte[buffer.remaining()];
+			buffer.duplicate().get(data);
+			return data;
+		}
+
+		@Override
+		public int getSize() {
+			return buffer.remaining();
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.storage;
+
+/**
+ * A handle to the payload of an embedding that is kept outside of the java
+ * heap by an {@link EmbeddingStore}. The payload is only loaded when it is
+ * requested.
+ */
+public interface EmbeddingHandle {
+
+	/**
+	 * Loads and returns the stored payload
+	 * 
+	 * @return A <code>byte[]</code> with the stored payload
+	 */
+	byte[] getBytes();
+
+	/**
+	 * Returns the size of the stored payload
+	 * 
+	 * @return An <code>int</code> with the size of the stored payload, in bytes
+	 */
+	int getSize();
+}
@@ -0,0 +1,51 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.storage;
+
+import io.github.alexopa.cukereportconverter.config.EmbeddingStorageType;
+
+/**
+ * A store that keeps the payload of embeddings outside of the java heap
+ */
+public interface EmbeddingStore {
+
+	/**
+	 * Stores the given payload and returns a handle that can be used to load it
+	 * again
+	 * 
+	 * @param data A <code>byte[]</code> with the payload to store
+	 * @return An {@link EmbeddingHandle} to the stored payload
+	 */
+	EmbeddingHandle store(byte[] data);
+
+	/**
+	 * Creates a new {@link EmbeddingStore} for the given storage type
+	 * 
+	 * @param type     The {@link EmbeddingStorageType} of the store
+	 * @param spillDir The directory where spill files are created, or
+	 *                 <code>null</code> to use the default temporary directory
+	 * @return A new {@link EmbeddingStore}, or <code>null</code> in case the
+	 *         embeddings should be kept in the java heap
+	 */
+	static EmbeddingStore create(EmbeddingStorageType type, String spillDir) {
+		return switch (type) {
+		case HEAP -> null;
+		case DIRECT -> new DirectBufferEmbeddingStore();
+		case SPILL_FILE -> new SpillFileEmbeddingStore(spillDir);
+		};
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.storage;
+
+import java.io.IOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.commons.lang3.StringUtils;
+
+import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An {@link EmbeddingStore} that appends each payload to a temporary spill file.
+ * A payload is read back with a positional read of the file, only when it is
+ * requested. The spill file is deleted once the store and all of its
+ * handles are garbage collected.
+ */
+@Slf4j
+public class SpillFileEmbeddingStore implements EmbeddingStore {
+
+	private static final Cleaner CLEANER = Cleaner.create();
+
+	private final SpillFile spillFile;
+	private long position = 0;
+
+	/**
+	 * Creates a new {@link SpillFileEmbeddingStore}
+	 * 
+	 * @param spillDir The directory where the spill file is created, or
+	 *                 <code>null</code> to use the default temporary directory
+	 */
+	public SpillFileEmbeddingStore(String spillDir) {
+		try {
+			Path path = StringUtils.isBlank(spillDir) ? Files.createTempFile("cuke-embeddings-", ".bin")
+					: Files.createTempFile(Path.of(spillDir), "cuke-embeddings-", ".bin");
+			FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+					StandardOpenOption.DELETE_ON_CLOSE);
+			spillFile = new SpillFile(path, channel);
+		} catch (IOException e) {
+			throw new CukeConverterException("Failed to create embeddings spill file", e);
+		}
+		CLEANER.register(this, spillFile);
+	}
+
+	@Override
+	public synchronized EmbeddingHandle store(byte[] data) {
+		long offset = position;
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(data);
+			while (buffer.hasRemaining()) {
+				position += spillFile.channel.write(buffer, position);
+			}
+		} catch (IOException e) {
+			throw new CukeConverterException("Failed to write embedding to spill file", e);
+		}
+		return new SpillFileHandle(this, offset, data.length);
+	}
+
+	private byte[] load(long offset, int length) {
+		byte[] data = new byte[length];
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(data);
+			while (buffer.hasRemaining()) {
+				if (spillFile.channel.read(buffer, offset + buffer.position()) < 0) {
+					throw new CukeConverterException("Embedding is beyond the end of the spill file");
+				}
+			}
+		} catch (IOException e) {
+			throw new CukeConverterException("Failed to read embedding from spill file", e);
+		}
+		return data;
+	}
+
+	@RequiredArgsConstructor
+	private static class SpillFileHandle implements EmbeddingHandle {
+
+		private final SpillFileEmbeddingStore store;
+		private final long offset;
+		private final int length;
+
+		@Override
+		public byte[] getBytes() {
+			return store.load(offset, length);
+		}
+
+		@Override
+		public int getSize() {
+			return length;
+		}
+	}
+
+	@RequiredArgsConstructor
+	private static class SpillFile implements Runnable {
+
+		private final Path path;
+		private final FileChannel channel;
+
+		@Override
+		public void run() {
+			try {
+				channel.close();
+				Files.deleteIfExists(path);
+			} catch (IOException e) {
+				log.warn("Failed to delete embeddings spill file: {}", path);
+			}
+		}
+	}
+}
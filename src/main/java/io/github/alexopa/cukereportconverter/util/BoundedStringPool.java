@@ -0,0 +1,90 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link StringPool} with a fixed number of slots. Each string is mapped to a
+ * single slot by its hash code and replaces the string that was kept there in
+ * case of a collision, so the pool never grows and the strings that are no
+ * longer used are eventually evicted.
+ */
+public class BoundedStringPool implements StringPool {
+
+	private static final int MAX_SIZE = 1 << 30;
+
+	private final AtomicReferenceArray<String> slots;
+	private final int mask;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Creates a new {@link BoundedStringPool}
+	 * 
+	 * @param size The number of slots of the pool. It is rounded up to the next
+	 *             power of two
+	 */
+	public BoundedStringPool(int size) {
+		if (size <= 0 || size > MAX_SIZE) {
+			throw new IllegalArgumentException("Invalid string pool size: " + size);
+		}
+		int capacity = Integer.highestOneBit(size);
+		if (capacity < size) {
+			capacity <<= 1;
+		}
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+	}
+
+	@Override
+	public String intern(String value) {
+		if (value == null) {
+			return null;
+		}
+		int h = value.hashCode();
+		int slot = (h ^ (h >>> 16)) & mask;
+		String pooled = slots.get(slot);
+		if (value.equals(pooled)) {
+			hits.increment();
+			return pooled;
+		}
+		slots.set(slot, value);
+		misses.increment();
+		return value;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of slots of the pool
+	 * 
+	 * @return The number of slots
+	 */
+	public int getSize() {
+		return slots.length();
+	}
+}
@@ -0,0 +1,103 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * An enum with the compression formats of cucumber json reports that are
+ * supported. The format is detected from the first bytes of a report.
+ */
+public enum CompressionFormat {
+	/**
+	 * Indicates a plain (not compressed) report
+	 */
+	NONE,
+	/**
+	 * Indicates a gzip compressed report
+	 */
+	GZIP,
+	/**
+	 * Indicates a zip archive, that may contain multiple reports
+	 */
+	ZIP;
+
+	private static final int HEADER_LENGTH = 4;
+
+	/**
+	 * Detects the compression format of a file
+	 * 
+	 * @param path The {@link Path} of the file
+	 * @return The {@link CompressionFormat} of the file
+	 * @throws IOException In case the file cannot be read
+	 */
+	public static CompressionFormat detect(Path path) throws IOException {
+		try (InputStream in = Files.newInputStream(path)) {
+			return detect(in.readNBytes(HEADER_LENGTH));
+		}
+	}
+
+	/**
+	 * Detects the compression format of the data of an {@link InputStream}. The
+	 * stream must support {@link InputStream#mark(int)}, since it is reset after
+	 * its first bytes have been read.
+	 * 
+	 * @param in The {@link InputStream} to check
+	 * @return The {@link CompressionFormat} of the data
+	 * @throws IOException In case the stream cannot be read
+	 */
+	public static CompressionFormat detect(InputStream in) throws IOException {
+		in.mark(HEADER_LENGTH);
+		byte[] header = in.readNBytes(HEADER_LENGTH);
+		in.reset();
+		return detect(header);
+	}
+
+	/**
+	 * Detects the compression format of the remaining bytes of a
+	 * {@link ByteBuffer}, without modifying its position
+	 * 
+	 * @param buffer The {@link ByteBuffer} to check
+	 * @return The {@link CompressionFormat} of the data
+	 */
+	public static CompressionFormat detect(ByteBuffer buffer) {
+		byte[] header = new byte[Math.min(HEADER_LENGTH, buffer.remaining())];
+		buffer.duplicate().get(header);
+		return detect(header);
+	}
+
+	/**
+	 * Detects the compression format from the first bytes of a report
+	 * 
+	 * @param header A <code>byte[]</code> with the first bytes of the report
+	 * @return The {@link CompressionFormat} of the report
+	 */
+	public static CompressionFormat detect(byte[] header) {
+		if (header.length >= 2 && (header[0] & 0xff) == 0x1f && (header[1] & 0xff) == 0x8b) {
+			return GZIP;
+		}
+		if (header.length >= 4 && header[0] == 'P' && header[1] == 'K'
+				&& ((header[2] == 3 && header[3] == 4) || (header[2] == 5 && header[3] == 6))) {
+			return ZIP;
+		}
+		return NONE;
+	}
+}
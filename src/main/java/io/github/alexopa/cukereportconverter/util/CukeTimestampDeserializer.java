@@ -0,0 +1,59 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.util;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+
+/**
+ * A deserializer for the timestamps of the cucumber json reports. The
+ * timestamps are parsed with {@link CukeTimestamps#parseFixedLayout(String)}
+ * and the ones that do not follow the fixed layout are handed to the
+ * {@link LocalDateTimeDeserializer} of the jsr310 module, so the result is the
+ * same as the one of a <code>@JsonFormat</code> with
+ * {@link CukeTimestamps#PATTERN}.
+ */
+public class CukeTimestampDeserializer extends StdScalarDeserializer<LocalDateTime> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final LocalDateTimeDeserializer FALLBACK = new LocalDateTimeDeserializer(CukeTimestamps.FORMATTER);
+
+	/**
+	 * Creates a new {@link CukeTimestampDeserializer}
+	 */
+	public CukeTimestampDeserializer() {
+		super(LocalDateTime.class);
+	}
+
+	@Override
+	public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		if (p.hasToken(JsonToken.VALUE_STRING)) {
+			LocalDateTime timestamp = CukeTimestamps.parseFixedLayout(p.getText());
+			if (timestamp != null) {
+				return timestamp;
+			}
+		}
+		return FALLBACK.deserialize(p, ctxt);
+	}
+}
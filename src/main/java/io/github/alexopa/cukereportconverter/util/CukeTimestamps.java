@@ -0,0 +1,102 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * A utility class for the timestamps of the cucumber json reports
+ */
+@UtilityClass
+public class CukeTimestamps {
+
+	/**
+	 * The pattern of the timestamps of the cucumber json reports
+	 */
+	public static final String PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
+
+	/**
+	 * A {@link DateTimeFormatter} for {@link #PATTERN}
+	 */
+	public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+
+	private static final int LENGTH = 24;
+
+	/**
+	 * Parses a timestamp with the fixed layout of {@link #PATTERN}, ie:
+	 * <code>2024-08-23T16:23:23.577Z</code>, by reading its digits at their known
+	 * positions. It does not go through a {@link DateTimeFormatter}, so it should
+	 * be used as a fast path, with {@link #FORMATTER} as the fallback for the
+	 * timestamps that it cannot parse.
+	 * 
+	 * @param text The text to parse
+	 * @return The parsed {@link LocalDateTime}, or <code>null</code> if the text
+	 *         does not follow the layout or is not a valid date-time
+	 */
+	public static LocalDateTime parseFixedLayout(String text) {
+		if (text == null || text.length() != LENGTH || text.charAt(4) != '-' || text.charAt(7) != '-'
+				|| text.charAt(10) != 'T' || text.charAt(13) != ':' || text.charAt(16) != ':'
+				|| text.charAt(19) != '.' || text.charAt(23) != 'Z') {
+			return null;
+		}
+		int year = digits(text, 0, 4);
+		int month = digits(text, 5, 2);
+		int day = digits(text, 8, 2);
+		int hour = digits(text, 11, 2);
+		int minute = digits(text, 14, 2);
+		int second = digits(text, 17, 2);
+		int millis = digits(text, 20, 3);
+		if ((year | month | day | hour | minute | second | millis) < 0) {
+			return null;
+		}
+		try {
+			return LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000);
+		} catch (DateTimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Parses a timestamp of {@link #PATTERN}, using
+	 * {@link #parseFixedLayout(String)} and falling back to {@link #FORMATTER}
+	 * 
+	 * @param text The text to parse
+	 * @return The parsed {@link LocalDateTime}
+	 * @throws java.time.format.DateTimeParseException In case the text cannot be
+	 *                                                 parsed
+	 */
+	public static LocalDateTime parse(String text) {
+		LocalDateTime timestamp = parseFixedLayout(text);
+		return timestamp != null ? timestamp : LocalDateTime.parse(text, FORMATTER);
+	}
+
+	private static int digits(String text, int start, int count) {
+		int value = 0;
+		for (int i = start; i < start + count; i++) {
+			int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An {@link InputStream} that reads a file through memory-mapped regions of its
+ * {@link FileChannel}. The file is mapped in consecutive windows, so files
+ * larger than the maximum size of a single mapping can be read as well.
+ */
+public class MappedFileInputStream extends InputStream {
+
+	/**
+	 * The default size of each mapped window, in bytes
+	 */
+	public static final long DEFAULT_WINDOW_SIZE = 256L * 1024 * 1024;
+
+	private final FileChannel channel;
+	private final long size;
+	private final long windowSize;
+
+	private long windowStart = 0;
+	private MappedByteBuffer window;
+
+	/**
+	 * Creates a new {@link MappedFileInputStream} that uses the
+	 * {@link #DEFAULT_WINDOW_SIZE}
+	 *
+	 * @param path The {@link Path} of the file to read
+	 * @throws IOException In case the file cannot be opened
+	 */
+	public MappedFileInputStream(Path path) throws IOException {
+		this(path, DEFAULT_WINDOW_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link MappedFileInputStream}
+	 *
+	 * @param path       The {@link Path} of the file to read
+	 * @param windowSize The size of each mapped window, in bytes
+	 * @throws IOException In case the file cannot be opened
+	 */
+	public MappedFileInputStream(Path path, long windowSize) throws IOException {
+		if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Invalid window size: " + windowSize);
+		}
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.size = channel.size();
+		this.windowSize = windowSize;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!nextWindowIfNeeded()) {
+			return -1;
+		}
+		return window.get() & 0xff;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (!nextWindowIfNeeded()) {
+			return -1;
+		}
+		int n = Math.min(len, window.remaining());
+		window.get(b, off, n);
+		return n;
+	}
+
+	@Override
+	public int available() {
+		return window == null ? 0 : window.remaining();
+	}
+
+	@Override
+	public void close() throws IOException {
+		window = null;
+		channel.close();
+	}
+
+	private boolean nextWindowIfNeeded() throws IOException {
+		if (window != null && window.hasRemaining()) {
+			return true;
+		}
+		long nextStart = window == null ? 0 : windowStart + window.capacity();
+		if (nextStart >= size) {
+			return false;
+		}
+		window = channel.map(MapMode.READ_ONLY, nextStart, Math.min(windowSize, size - nextStart));
+		windowStart = nextStart;
+		return true;
+	}
+}
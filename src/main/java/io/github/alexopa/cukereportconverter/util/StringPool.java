@@ -0,0 +1,78 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter.util;
+
+/**
+ * A pool that canonicalizes strings, so that equal strings that are repeated
+ * across a test-run share a single instance
+ */
+public interface StringPool {
+
+	/**
+	 * A {@link StringPool} that does not pool any string
+	 */
+	StringPool NONE = new StringPool() {
+
+		@Override
+		public String intern(String value) {
+			return value;
+		}
+
+		@Override
+		public long getHitCount() {
+			return 0;
+		}
+
+		@Override
+		public long getMissCount() {
+			return 0;
+		}
+	};
+
+	/**
+	 * Returns the canonical instance of the given string
+	 * 
+	 * @param value The string to canonicalize, may be <code>null</code>
+	 * @return A string equal to the given one, or <code>null</code> if the given
+	 *         string is <code>null</code>
+	 */
+	String intern(String value);
+
+	/**
+	 * Returns the number of lookups that returned an already pooled instance
+	 * 
+	 * @return The number of hits
+	 */
+	long getHitCount();
+
+	/**
+	 * Returns the number of lookups that did not find a pooled instance
+	 * 
+	 * @return The number of misses
+	 */
+	long getMissCount();
+
+	/**
+	 * Returns the ratio of the lookups that returned an already pooled instance
+	 * 
+	 * @return The hit rate, between 0 and 1
+	 */
+	default double getHitRate() {
+		long lookups = getHitCount() + getMissCount();
+		return lookups == 0 ? 0 : (double) getHitCount() / lookups;
+	}
+}
@@ -19,21 +19,69 @@ package io.github.alexopa.cukereportconverter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import io.github.alexopa.cukereportconverter.config.CukeConverterProperties;
+import io.github.alexopa.cukereportconverter.config.CukeConverterPropertyHandler;
+import io.github.alexopa.cukereportconverter.config.EmbeddingStorageType;
+import io.github.alexopa.cukereportconverter.config.FeatureMergeKey;
 import io.github.alexopa.cukereportconverter.exception.CukeConverterException;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeEmbedding;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeScenarioResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeScenarioType;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStep;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepColumns;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResult;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepResultCounter;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeTestRun;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeFeature;
 import io.github.alexopa.cukereportconverter.model.cuke.CukeScenario;
+import io.github.alexopa.cukereportconverter.model.cuke.CukeStepSection;
 import io.github.alexopa.cukereportconverter.model.jsonreport.Feature;
+import io.github.alexopa.cukereportconverter.query.CukeQuery;
+import io.github.alexopa.cukereportconverter.query.CukeTagIndex;
+import io.github.alexopa.cukereportconverter.query.TagExpression;
 import io.github.alexopa.cukereportconverter.service.CukeConverter;
+import io.github.alexopa.cukereportconverter.service.CukeReportWatcher;
+import io.github.alexopa.cukereportconverter.snapshot.CukeParseCache;
+import io.github.alexopa.cukereportconverter.snapshot.CukeSnapshotReader;
+import io.github.alexopa.cukereportconverter.snapshot.CukeSnapshotWriter;
+import io.github.alexopa.cukereportconverter.util.BoundedStringPool;
+import io.github.alexopa.cukereportconverter.util.CukeTimestamps;
+import io.github.alexopa.cukereportconverter.util.StringPool;
+import io.github.alexopa.cukereportconverter.util.MappedFileInputStream;
 
 class CukeConverterTest {
 
@@ -154,6 +202,89 @@ class CukeConverterTest {
 		
 	}
 	
+	@Test
+	@SuppressWarnings("deprecation")
+	void test_merged_feature_aggregates() {
+		cukeConverter = new CukeConverter();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_api.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_ui.json").getFile()));
+
+		CukeFeature feature = cukeConverter.convertToTestRun(files).getFeatures().get(0);
+		List<CukeScenario> scenarios = feature.getScenarios();
+		assertThat(scenarios).hasSize(3);
+
+		int totalSteps = scenarios.stream().mapToInt(s -> s.getBeforeSteps().size() + s.getBackgroundSteps().size()
+				+ s.getScenarioSteps().size() + s.getAfterSteps().size()).sum();
+		assertThat(feature.getStepResultCounter().getTotal()).isEqualTo(totalSteps);
+		assertThat(feature.getTotalPassedSteps()).isEqualTo(totalSteps);
+		assertThat(feature.getTotalDuration()).isEqualTo(scenarios.stream().mapToLong(CukeScenario::getTotalDuration).sum());
+		assertThat(feature.getScenarioMinStartTime())
+				.isEqualTo(scenarios.stream().map(CukeScenario::getStartTimestamp).min(LocalDateTime::compareTo).get());
+		assertThat(feature.getScenarioMaxEndTime())
+				.isEqualTo(scenarios.stream().map(CukeScenario::getEndTimestamp).max(LocalDateTime::compareTo).get());
+		assertThat(feature.getTotalTags()).contains("@api-test", "@ui-test");
+
+		feature.increaseStepResultCounter();
+		feature.increaseStepResultCounter();
+		assertThat(feature.getStepResultCounter().getTotal()).isEqualTo(totalSteps);
+	}
+
+	@Test
+	void test_test_run_statistics() {
+		cukeConverter = new CukeConverter();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final File apiFile = new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_api.json").getFile());
+		final File uiFile = new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_ui.json").getFile());
+
+		CukeTestRun testRun = cukeConverter.convertToTestRun(Arrays.asList(apiFile, uiFile));
+		CukeFeature feature = testRun.getFeatures().get(0);
+		assertThat(testRun.getNumOfScenarios()).isEqualTo(3);
+		assertThat(testRun.getNumOfPassedScenarios()).isEqualTo(3);
+		assertThat(testRun.getNumOfFailedScenarios()).isZero();
+		assertThat(testRun.getTotalPassedSteps()).isEqualTo(feature.getTotalPassedSteps());
+		assertThat(testRun.getTotalDuration()).isEqualTo(feature.getTotalDuration());
+		assertThat(testRun.getTotalTags()).isEqualTo(feature.getTotalTags());
+		assertThat(testRun.getWallClockDuration())
+				.isEqualTo(Duration.between(testRun.getStartTime(), testRun.getEndTime()));
+
+		CukeTestRun mergedRun = cukeConverter.convertToTestRun(Arrays.asList(apiFile));
+		cukeConverter.mergeCukeFeatures(mergedRun,
+				cukeConverter.convertToCukeFeature(cukeConverter.convertCucumberJsonFiles(Arrays.asList(uiFile))));
+		assertThat(mergedRun.getFeatures()).hasSize(1);
+		assertThat(mergedRun.getNumOfScenarios()).isEqualTo(testRun.getNumOfScenarios());
+		assertThat(mergedRun.getStepResultCounter()).isEqualTo(testRun.getStepResultCounter());
+		assertThat(mergedRun.getTotalDuration()).isEqualTo(testRun.getTotalDuration());
+		assertThat(mergedRun.getTotalTags()).isEqualTo(testRun.getTotalTags());
+		assertThat(mergedRun.getStartTime()).isEqualTo(testRun.getStartTime());
+		assertThat(mergedRun.getEndTime()).isEqualTo(testRun.getEndTime());
+	}
+
+	@Test
+	void test_convert_common_features_merge_key() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_api.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_ui.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_ui.json").getFile()));
+
+		System.setProperty(CukeConverterProperties.CONVERTER_MERGE_KEY.getPropertyName(), FeatureMergeKey.URI.name());
+		List<CukeFeature> features = new CukeConverter().convertToTestRun(files).getFeatures();
+		assertThat(features).hasSize(2);
+		assertThat(features).extracting(CukeFeature::getName).containsOnly("Product Search");
+		assertThat(features.get(0).getScenarios()).hasSize(1);
+		assertThat(features.get(1).getScenarios()).hasSize(4);
+
+		System.setProperty(CukeConverterProperties.CONVERTER_MERGE_KEY.getPropertyName(), FeatureMergeKey.NAME_AND_URI.name());
+		cukeConverter = new CukeConverter();
+		features = new ArrayList<>(cukeConverter.convertToTestRun(files.subList(0, 1)).getFeatures());
+		cukeConverter.mergeCukeFeatures(features, cukeConverter.convertToTestRun(files.subList(1, 3)).getFeatures());
+		assertThat(features).hasSize(2);
+		assertThat(features.get(1).getScenarios()).hasSize(4);
+		assertThat(features.get(1).getNumOfPassedScenarios()).isEqualTo(4);
+	}
+
 	@Test
 	void test_convert_report_with_wrong_format_fail_on_error_false() {	
 		System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "false");
@@ -214,4 +345,987 @@ class CukeConverterTest {
 		}).isInstanceOf(CukeConverterException.class).hasMessage("Failed to convert feature. Name is not present");		
 
 	}
+
+	@Test
+	void test_stream_cucumber_json_files() {
+		cukeConverter = new CukeConverter();
+
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String resourceName = "reportconvertservice/report_all_pass.json";
+		final File file = new File(classLoader.getResource(resourceName).getFile());
+
+		List<Feature> streamedFeatures = new ArrayList<>();
+		cukeConverter.streamCucumberJsonFiles(Arrays.asList(file), streamedFeatures::add);
+		assertThat(streamedFeatures).isEqualTo(cukeConverter.convertCucumberJsonFiles(Arrays.asList(file)));
+	}
+
+	@Test
+	void test_convert_to_test_run_streaming_parse() {
+		System.setProperty(CukeConverterProperties.CONVERTER_STREAMING_PARSE.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String resourceName1 = "reportconvertservice/merge-common-feature/report_feature_product_api.json";
+		final File file1 = new File(classLoader.getResource(resourceName1).getFile());
+
+		final String resourceName2 = "reportconvertservice/merge-common-feature/report_feature_product_ui.json";
+		final File file2 = new File(classLoader.getResource(resourceName2).getFile());
+
+		CukeTestRun testRun = cukeConverter.convertToTestRun(Arrays.asList(file1, file2));
+		List<CukeFeature> features = testRun.getFeatures();
+		assertThat(features).hasSize(1);
+		assertThat(features.get(0).getScenarios()).hasSize(3);
+		assertThat(features.get(0).getNumOfPassedScenarios()).isEqualTo(3);
+	}
+
+	@Test
+	void test_convert_report_with_wrong_format_streaming_parse_fail_on_error_true() {
+		System.setProperty(CukeConverterProperties.CONVERTER_STREAMING_PARSE.getPropertyName(), "true");
+		System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String resourceName1 = "reportconvertservice/report_with_wrong_format.json";
+		final File file1 = new File(classLoader.getResource(resourceName1).getFile());
+
+		assertThatThrownBy(() -> {
+			cukeConverter.convertToTestRun(Arrays.asList(file1));
+		}).isInstanceOf(CukeConverterException.class);
+	}
+
+	@Test
+	void test_convert_to_test_run_fused_conversion() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_api.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_ui.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/report_with_background_and_embeddings.json").getFile()));
+
+		CukeTestRun expectedTestRun = new CukeConverter().convertToTestRun(files);
+
+		System.setProperty(CukeConverterProperties.CONVERTER_FUSED_CONVERSION.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+		CukeTestRun testRun = cukeConverter.convertToTestRun(files);
+
+		assertThat(testRun.getFeatures()).hasSize(2);
+		assertThat(testRun.getFeatures().get(1).getScenarios().get(0).getBackgroundSteps()).isNotEmpty();
+		assertThat(testRun).usingRecursiveComparison().isEqualTo(expectedTestRun);
+	}
+
+	@Test
+	void test_convert_report_with_wrong_feature_element_fused_conversion_fail_on_error_true() {
+		System.setProperty(CukeConverterProperties.CONVERTER_FUSED_CONVERSION.getPropertyName(), "true");
+		System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String resourceName1 = "reportconvertservice/report_with_wrong_feature_element.json";
+		final File file1 = new File(classLoader.getResource(resourceName1).getFile());
+
+		assertThatThrownBy(() -> {
+			cukeConverter.convertToTestRun(Arrays.asList(file1));
+		}).isInstanceOf(CukeConverterException.class);
+	}
+
+	@Test
+	void test_step_result_from_text() {
+		assertThat(CukeStepResult.fromText("passed")).isEqualTo(CukeStepResult.PASSED);
+		assertThat(CukeStepResult.fromText(" Failed ")).isEqualTo(CukeStepResult.FAILED);
+		assertThat(CukeStepResult.fromText("UNDEFINED")).isEqualTo(CukeStepResult.UNDEFINED);
+		assertThat(CukeStepResult.fromText("ambiguous")).isEqualTo(CukeStepResult.UNKNOWN_RESULT);
+		assertThat(CukeStepResult.fromText(null)).isEqualTo(CukeStepResult.UNKNOWN_RESULT);
+	}
+
+	@Test
+	void test_step_result_counter() {
+		CukeStepResultCounter counter = new CukeStepResultCounter();
+		counter.increment(CukeStepResult.PASSED);
+		counter.increment(CukeStepResult.PASSED);
+		counter.increment(null);
+		counter.add(CukeStepResult.FAILED, 3);
+
+		Map<CukeStepResult, Integer> expected = new HashMap<>();
+		expected.put(CukeStepResult.PASSED, 2);
+		expected.put(null, 1);
+		expected.put(CukeStepResult.FAILED, 3);
+		assertThat(counter).isEqualTo(expected);
+		assertThat(counter.getTotal()).isEqualTo(6);
+		assertThat(counter.getCount(CukeStepResult.SKIPPED)).isZero();
+		assertThat(counter.get(CukeStepResult.SKIPPED)).isNull();
+
+		cukeConverter = new CukeConverter();
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final File file = new File(classLoader.getResource("reportconvertservice/report_with_background_and_embeddings.json").getFile());
+		CukeFeature feature = cukeConverter.convertToTestRun(Arrays.asList(file)).getFeatures().get(0);
+		for (CukeScenario scenario : feature.getScenarios()) {
+			Map<CukeStepResult, Integer> stepResults = new HashMap<>();
+			Stream.of(scenario.getBeforeSteps(), scenario.getBackgroundSteps(), scenario.getScenarioSteps(),
+					scenario.getAfterSteps()).flatMap(List::stream)
+					.forEach(step -> stepResults.merge(step.getResult(), 1, Integer::sum));
+			assertThat(scenario.getStepResultCounter()).isEqualTo(stepResults);
+		}
+		assertThat(feature.getTotalFailedSteps()).isEqualTo(1);
+		assertThat(feature.getTotalSkippedSteps()).isEqualTo(1);
+
+		CukeScenario scenario = CukeScenario.builder().stepResultCounter(expected).build();
+		assertThat(scenario.getStepResultCounter()).isEqualTo(expected).isNotSameAs(expected);
+		scenario.setStepResultCounter(Map.of(CukeStepResult.SKIPPED, 4));
+		assertThat(scenario.getStepResultCounter().getCount(CukeStepResult.SKIPPED)).isEqualTo(4);
+		CukeFeature builtFeature = CukeFeature.builder().stepResultCounter(expected).build();
+		assertThat(builtFeature.getTotalFailedSteps()).isEqualTo(3);
+		builtFeature.setStepResultCounter(counter);
+		assertThat(builtFeature.getStepResultCounter()).isSameAs(counter);
+	}
+
+	@Test
+	void test_parse_timestamps() {
+		for (String text : List.of("2024-08-23T16:23:23.577Z", "1999-12-31T23:59:59.999Z", "2024-02-29T00:00:00.000Z")) {
+			assertThat(CukeTimestamps.parseFixedLayout(text)).isEqualTo(LocalDateTime.parse(text, CukeTimestamps.FORMATTER));
+		}
+		assertThat(CukeTimestamps.parseFixedLayout("2024-08-23 16:23:23.577Z")).isNull();
+		assertThat(CukeTimestamps.parseFixedLayout("2024-02-30T10:11:12.123Z")).isNull();
+		assertThat(CukeTimestamps.parse("2024-02-30T10:11:12.123Z"))
+				.isEqualTo(LocalDateTime.parse("2024-02-30T10:11:12.123Z", CukeTimestamps.FORMATTER));
+		assertThatThrownBy(() -> CukeTimestamps.parse("2024-13-01T10:11:12.123Z"))
+				.isInstanceOf(DateTimeParseException.class);
+	}
+
+	@Test
+	void test_parallel_parse_keeps_input_order() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/report_all_pass.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-no-common-feature/report_feature_product.json").getFile()));
+
+		List<Feature> sequentialFeatures = new CukeConverter().convertCucumberJsonFiles(files);
+
+		System.setProperty(CukeConverterProperties.CONVERTER_PARALLEL_PARSE.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+		assertThat(cukeConverter.convertCucumberJsonFiles(files)).isEqualTo(sequentialFeatures);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			assertThat(cukeConverter.convertCucumberJsonFiles(files, executor)).isEqualTo(sequentialFeatures);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void test_parallel_parse_report_with_wrong_format_fail_on_error_true() {
+		System.setProperty(CukeConverterProperties.CONVERTER_PARALLEL_PARSE.getPropertyName(), "true");
+		System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/report_all_pass.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/report_with_wrong_format.json").getFile()));
+
+		assertThatThrownBy(() -> {
+			cukeConverter.convertToTestRun(files);
+		}).isInstanceOf(CukeConverterException.class).hasMessageStartingWith("Failed to process json file");
+	}
+
+	@Test
+	void test_parallel_conversion() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		List<File> files = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			files.add(new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_api.json").getFile()));
+			files.add(new File(classLoader.getResource("reportconvertservice/report_with_background_and_embeddings.json").getFile()));
+			files.add(new File(classLoader.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile()));
+		}
+		List<Feature> jsonFeatures = new CukeConverter().convertCucumberJsonFiles(files);
+		List<CukeFeature> expectedFeatures = new CukeConverter().convertToCukeFeature(jsonFeatures);
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			List<CukeFeature> features = new CukeConverter().convertToCukeFeature(jsonFeatures, pool);
+			assertThat(features).usingRecursiveComparison().isEqualTo(expectedFeatures);
+		} finally {
+			pool.shutdown();
+		}
+
+		System.setProperty(CukeConverterProperties.CONVERTER_PARALLEL_CONVERSION.getPropertyName(), "true");
+		System.setProperty(CukeConverterProperties.CONVERTER_MERGE_FEATURES.getPropertyName(), "false");
+		cukeConverter = new CukeConverter();
+		List<CukeFeature> features = cukeConverter.convertToCukeFeature(jsonFeatures);
+		assertThat(features).hasSize(30);
+		assertThat(features).extracting(CukeFeature::getName).containsExactlyElementsOf(
+				jsonFeatures.stream().map(Feature::getName).toList());
+	}
+
+	@Test
+	void test_convert_cucumber_json_nio_inputs() throws IOException {
+		cukeConverter = new CukeConverter();
+
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String resourceName = "reportconvertservice/report_all_pass.json";
+		final File file = new File(classLoader.getResource(resourceName).getFile());
+		final byte[] json = Files.readAllBytes(file.toPath());
+
+		List<Feature> expectedFeatures = cukeConverter.convertCucumberJsonFiles(Arrays.asList(file));
+		assertThat(cukeConverter.convertCucumberJson(file.toPath())).isEqualTo(expectedFeatures);
+		assertThat(cukeConverter.convertCucumberJson(json)).isEqualTo(expectedFeatures);
+		assertThat(cukeConverter.convertCucumberJson(new ByteArrayInputStream(json))).isEqualTo(expectedFeatures);
+		assertThat(cukeConverter.convertCucumberJson(ByteBuffer.wrap(json))).isEqualTo(expectedFeatures);
+
+		ByteBuffer directBuffer = ByteBuffer.allocateDirect(json.length).put(json).flip();
+		assertThat(cukeConverter.convertCucumberJson(directBuffer)).isEqualTo(expectedFeatures);
+		assertThat(directBuffer.remaining()).isEqualTo(json.length);
+
+		System.setProperty(CukeConverterProperties.CONVERTER_MEMORY_MAPPED_READ.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+		assertThat(cukeConverter.convertCucumberJsonFiles(Arrays.asList(file))).isEqualTo(expectedFeatures);
+		assertThat(cukeConverter.convertCucumberJson(file.toPath())).isEqualTo(expectedFeatures);
+
+		try (InputStream in = new MappedFileInputStream(file.toPath(), 1000)) {
+			assertThat(in.readAllBytes()).isEqualTo(json);
+		}
+	}
+
+	@Test
+	void test_convert_embeddings_storage() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String resourceName = "reportconvertservice/report_with_background_and_embeddings.json";
+		final File file = new File(classLoader.getResource(resourceName).getFile());
+
+		for (EmbeddingStorageType storageType : EmbeddingStorageType.values()) {
+			System.setProperty(CukeConverterProperties.CONVERTER_EMBEDDING_STORAGE.getPropertyName(),
+					storageType.name());
+			cukeConverter = new CukeConverter();
+
+			CukeTestRun testRun = cukeConverter.convertToTestRun(Arrays.asList(file));
+			CukeScenario s = testRun.getFeatures().get(0).getScenarios().get(0);
+			assertThat(s.getBackgroundSteps()).hasSize(1);
+
+			CukeEmbedding screenshot = s.getAfterSteps().get(0).getEmbeddings().get(0);
+			assertThat(screenshot.getMimeType()).isEqualTo("image/png");
+			assertThat(screenshot.getDataAsString()).isEqualTo("PNG-screenshot-of-the-checkout-page");
+			assertThat(screenshot.getDataAsBytes()).isEqualTo("PNG-screenshot-of-the-checkout-page".getBytes());
+			assertThat(screenshot.getDataHandle() != null).isEqualTo(storageType != EmbeddingStorageType.HEAP);
+
+			CukeEmbedding log = s.getScenarioSteps().get(2).getEmbeddings().get(0);
+			assertThat(log.getDataAsString()).isEqualTo("order-confirmation.log");
+		}
+	}
+
+	@Test
+	void test_convert_with_field_projection() {
+		System.setProperty(CukeConverterProperties.CONVERTER_STEP_FIELDS.getPropertyName(), "keyword, name, result");
+		System.setProperty(CukeConverterProperties.CONVERTER_ELEMENT_FIELDS.getPropertyName(), "name,steps");
+		cukeConverter = new CukeConverter();
+
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final String resourceName = "reportconvertservice/report_with_background_and_embeddings.json";
+		final File file = new File(classLoader.getResource(resourceName).getFile());
+
+		CukeTestRun testRun = cukeConverter.convertToTestRun(Arrays.asList(file));
+		CukeFeature feature = testRun.getFeatures().get(0);
+		assertThat(feature.getNumOfPassedScenarios()).isEqualTo(1);
+		assertThat(feature.getNumOfFailedScenarios()).isEqualTo(1);
+
+		CukeScenario s = feature.getScenarios().get(1);
+		assertThat(s.getName()).isEqualTo("Checkout with an invalid coupon");
+		assertThat(s.getType()).isEqualTo(CukeScenarioType.SCENARIO_OUTLINE);
+		assertThat(s.getTags()).isEmpty();
+		assertThat(s.getBeforeSteps()).isEmpty();
+		assertThat(s.getBackgroundSteps()).hasSize(1);
+
+		CukeStep failedStep = s.getScenarioSteps().get(1);
+		assertThat(failedStep.getResult()).isEqualTo(CukeStepResult.FAILED);
+		assertThat(failedStep.getDuration()).isEqualTo(800000);
+		assertThat(failedStep.getErrorMessage()).isNull();
+		assertThat(failedStep.getMatch()).isNull();
+		assertThat(failedStep.getLine()).isZero();
+		assertThat(feature.getScenarios().get(0).getScenarioSteps().get(0).getTableData()).isNull();
+	}
+
+	@Test
+	void test_convert_with_unknown_projection_field() {
+		System.setProperty(CukeConverterProperties.CONVERTER_STEP_FIELDS.getPropertyName(), "name,status");
+
+		assertThatThrownBy(() -> {
+			new CukeConverter();
+		}).isInstanceOf(CukeConverterException.class).hasMessageStartingWith("Unknown field status");
+	}
+
+	@Test
+	void test_convert_with_string_pool() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_api.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-common-feature/report_feature_product_ui.json").getFile()));
+
+		StringPool stringPool = new BoundedStringPool(1024);
+		cukeConverter = new CukeConverter(new CukeConverterPropertyHandler(), stringPool);
+		CukeTestRun testRun = cukeConverter.convertToTestRun(files);
+
+		List<CukeStep> steps = testRun.getFeatures().stream().flatMap(f -> f.getScenarios().stream())
+				.flatMap(s -> s.getScenarioSteps().stream()).toList();
+		List<CukeStep> givenSteps = steps.stream().filter(s -> s.getKeyword().equals("Given ")).toList();
+		assertThat(givenSteps).hasSizeGreaterThan(1);
+		assertThat(givenSteps.get(1).getKeyword()).isSameAs(givenSteps.get(0).getKeyword());
+		assertThat(cukeConverter.getStringPool()).isSameAs(stringPool);
+		assertThat(stringPool.getHitCount()).isPositive();
+		assertThat(stringPool.getHitRate()).isBetween(0.0, 1.0);
+
+		assertThat(new CukeConverter().getStringPool()).isSameAs(StringPool.NONE);
+		System.setProperty(CukeConverterProperties.CONVERTER_STRING_POOL_SIZE.getPropertyName(), "4096");
+		assertThat(new CukeConverter().getStringPool()).isInstanceOf(BoundedStringPool.class);
+	}
+
+	@Test
+	void test_convert_report_failing_after_its_features_fail_on_error_false(@TempDir Path tempDir) throws IOException {
+		System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "false");
+		final ClassLoader classLoader = getClass().getClassLoader();
+		Path valid = copyResource(classLoader, "reportconvertservice/merge-no-common-feature/report_feature_cart.json", tempDir.resolve("valid.json"));
+		String report = new String(Files.readAllBytes(copyResource(classLoader, "reportconvertservice/report_all_pass.json",
+				tempDir.resolve("source.json"))));
+		Path truncated = Files.writeString(tempDir.resolve("truncated.json"),
+				report.substring(0, report.lastIndexOf(']')) + ", {\"name\": ");
+		final List<File> files = List.of(truncated.toFile(), valid.toFile());
+		int expectedScenarios = new CukeConverter().convertToTestRun(List.of(valid.toFile())).getNumOfScenarios();
+
+		for (CukeConverterProperties mode : List.of(CukeConverterProperties.CONVERTER_STREAMING_PARSE,
+				CukeConverterProperties.CONVERTER_FUSED_CONVERSION, CukeConverterProperties.CONVERTER_PARALLEL_PARSE)) {
+			resetPropertiesToDefault();
+			System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "false");
+			System.setProperty(mode.getPropertyName(), "true");
+			assertThat(new CukeConverter().convertToTestRun(files).getNumOfScenarios()).as(mode.getPropertyName())
+					.isEqualTo(expectedScenarios);
+		}
+		System.setProperty(CukeConverterProperties.CONVERTER_PARALLEL_PARSE.getPropertyName(), "false");
+		System.setProperty(CukeConverterProperties.CONVERTER_JSON_PARSER.getPropertyName(), "SCHEMA");
+		assertThat(new CukeConverter().convertToTestRun(files).getNumOfScenarios()).isEqualTo(expectedScenarios);
+
+		List<Feature> streamed = new ArrayList<>();
+		new CukeConverter().streamCucumberJsonFiles(List.of(truncated.toFile()), streamed::add);
+		assertThat(streamed).hasSize(3);
+	}
+
+	@Test
+	void test_convert_with_columnar_steps() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/report_all_pass.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/report_with_background_and_embeddings.json").getFile()));
+
+		CukeTestRun objectRun = new CukeConverter().convertToTestRun(files);
+		System.setProperty(CukeConverterProperties.CONVERTER_COLUMNAR_STEPS.getPropertyName(), "true");
+		assertSameSteps(new CukeConverter().convertToTestRun(files), objectRun);
+		System.setProperty(CukeConverterProperties.CONVERTER_FUSED_CONVERSION.getPropertyName(), "true");
+		assertSameSteps(new CukeConverter().convertToTestRun(files), objectRun);
+	}
+
+	private static void assertSameSteps(CukeTestRun columnarRun, CukeTestRun objectRun) {
+		List<CukeScenario> objectScenarios = objectRun.getFeatures().stream().flatMap(f -> f.getScenarios().stream()).toList();
+		List<CukeScenario> columnarScenarios = columnarRun.getFeatures().stream().flatMap(f -> f.getScenarios().stream()).toList();
+		assertThat(columnarScenarios).hasSameSizeAs(objectScenarios);
+		for (int i = 0; i < objectScenarios.size(); i++) {
+			CukeScenario expected = objectScenarios.get(i);
+			CukeScenario actual = columnarScenarios.get(i);
+			assertThat(actual.getScenarioSteps()).isInstanceOf(CukeStepColumns.class);
+			assertThat(describeSteps(actual.getBeforeSteps())).isEqualTo(describeSteps(expected.getBeforeSteps()));
+			assertThat(describeSteps(actual.getBackgroundSteps())).isEqualTo(describeSteps(expected.getBackgroundSteps()));
+			assertThat(describeSteps(actual.getScenarioSteps())).isEqualTo(describeSteps(expected.getScenarioSteps()));
+			assertThat(describeSteps(actual.getAfterSteps())).isEqualTo(describeSteps(expected.getAfterSteps()));
+			assertThat(actual.getTotalDuration()).isEqualTo(expected.getTotalDuration());
+			assertThat(actual.getStepResultCounter()).isEqualTo(expected.getStepResultCounter());
+			assertThat(actual.getResult()).isEqualTo(expected.getResult());
+		}
+		assertThat(columnarRun.getNumOfFailedScenarios()).isEqualTo(objectRun.getNumOfFailedScenarios()).isPositive();
+
+		CukeStep step = columnarScenarios.get(0).getScenarioSteps().get(0);
+		assertThat(step.getParent()).isSameAs(columnarScenarios.get(0));
+		assertThatThrownBy(() -> step.setName("renamed")).isInstanceOf(UnsupportedOperationException.class);
+		assertThat(columnarScenarios.stream().filter(s -> !s.hasBackground()).map(CukeScenario::getBackgroundSteps))
+				.allMatch(steps -> steps == CukeStepColumns.EMPTY);
+	}
+
+	@Test
+	void test_columnar_steps_use_less_memory() throws InterruptedException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			files.add(new File(classLoader.getResource("reportconvertservice/report_all_pass.json").getFile()));
+		}
+
+		long before = usedHeap();
+		CukeTestRun objectRun = new CukeConverter().convertToTestRun(files);
+		long objectBytes = usedHeap() - before;
+		System.setProperty(CukeConverterProperties.CONVERTER_COLUMNAR_STEPS.getPropertyName(), "true");
+		before = usedHeap();
+		CukeTestRun columnarRun = new CukeConverter().convertToTestRun(files);
+		long columnarBytes = usedHeap() - before;
+
+		assertThat(columnarRun.getStepResultCounter()).isEqualTo(objectRun.getStepResultCounter());
+		assertThat(columnarBytes).isLessThan(objectBytes * 3 / 4);
+	}
+
+	private static long usedHeap() throws InterruptedException {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 5; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private static List<String> describeSteps(List<CukeStep> steps) {
+		return steps.stream()
+				.map(s -> String.join("|", String.valueOf(s.getStepSection()), s.getKeyword(), s.getName(),
+						String.valueOf(s.getLine()), String.valueOf(s.getResult()), String.valueOf(s.getDuration()),
+						s.getErrorMessage(), String.valueOf(s.getMatch()), String.valueOf(s.getEmbeddings()),
+						String.valueOf(s.getTableData()), s.getDocString(),
+						describeSteps(s.getBeforeSteps()).toString(), describeSteps(s.getAfterSteps()).toString()))
+				.toList();
+	}
+
+	@Test
+	void test_snapshot_round_trip(@TempDir Path tempDir) {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/report_all_pass.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/report_with_background_and_embeddings.json").getFile()));
+
+		CukeTestRun testRun = new CukeConverter().convertToTestRun(files);
+		Path snapshot = tempDir.resolve("run.snapshot");
+		new CukeSnapshotWriter().write(testRun, snapshot);
+		CukeTestRun loaded = new CukeSnapshotReader().read(snapshot);
+
+		assertThat(loaded.getStartTime()).isEqualTo(testRun.getStartTime());
+		assertThat(loaded.getEndTime()).isEqualTo(testRun.getEndTime());
+		assertThat(loaded.getNumOfFailedScenarios()).isEqualTo(testRun.getNumOfFailedScenarios()).isPositive();
+		assertThat(loaded.getStepResultCounter()).isEqualTo(testRun.getStepResultCounter());
+		assertThat(loaded.getTotalTags()).isEqualTo(testRun.getTotalTags());
+		assertThat(loaded.getFeatures()).extracting(CukeFeature::getName)
+				.containsExactlyElementsOf(testRun.getFeatures().stream().map(CukeFeature::getName).toList());
+		for (int f = 0; f < testRun.getFeatures().size(); f++) {
+			CukeFeature expected = testRun.getFeatures().get(f);
+			CukeFeature actual = loaded.getFeatures().get(f);
+			assertThat(actual.getStepResultCounter()).isEqualTo(expected.getStepResultCounter());
+			assertThat(actual.getScenarioMaxEndTime()).isEqualTo(expected.getScenarioMaxEndTime());
+			assertThat(actual.getScenarios()).hasSameSizeAs(expected.getScenarios());
+			for (int i = 0; i < expected.getScenarios().size(); i++) {
+				CukeScenario expectedScenario = expected.getScenarios().get(i);
+				CukeScenario actualScenario = actual.getScenarios().get(i);
+				assertThat(actualScenario.getParent()).isSameAs(actual);
+				assertThat(actualScenario.getName()).isEqualTo(expectedScenario.getName());
+				assertThat(actualScenario.getTags()).isEqualTo(expectedScenario.getTags());
+				assertThat(actualScenario.getTotalDuration()).isEqualTo(expectedScenario.getTotalDuration());
+				assertThat(describeSteps(actualScenario.getBeforeSteps())).isEqualTo(describeSteps(expectedScenario.getBeforeSteps()));
+				assertThat(describeSteps(actualScenario.getBackgroundSteps())).isEqualTo(describeSteps(expectedScenario.getBackgroundSteps()));
+				assertThat(describeSteps(actualScenario.getScenarioSteps())).isEqualTo(describeSteps(expectedScenario.getScenarioSteps()));
+				assertThat(describeSteps(actualScenario.getAfterSteps())).isEqualTo(describeSteps(expectedScenario.getAfterSteps()));
+			}
+		}
+
+		CukeEmbedding screenshot = loaded.getFeatures().get(3).getScenarios().get(0).getAfterSteps().get(0).getEmbeddings().get(0);
+		assertThat(screenshot.getDataAsString()).isEqualTo("PNG-screenshot-of-the-checkout-page");
+		assertThat(loaded.getFeatures().get(3).getScenarios().get(0)).isSameAs(loaded.getFeatures().get(3).getScenarios().get(0));
+	}
+
+	@Test
+	void test_snapshot_without_embeddings(@TempDir Path tempDir) throws IOException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final File file = new File(classLoader.getResource("reportconvertservice/report_with_background_and_embeddings.json").getFile());
+
+		Path snapshot = tempDir.resolve("run.snapshot");
+		new CukeSnapshotWriter(false).write(new CukeConverter().convertToTestRun(Arrays.asList(file)), snapshot);
+		CukeTestRun loaded = new CukeSnapshotReader().read(snapshot);
+		CukeEmbedding screenshot = loaded.getFeatures().get(0).getScenarios().get(0).getAfterSteps().get(0).getEmbeddings().get(0);
+		assertThat(screenshot.getMimeType()).isEqualTo("image/png");
+		assertThat(screenshot.getData()).isNull();
+
+		CukeFeature feature = loaded.getFeatures().get(0);
+		feature.addScenario(CukeScenario.builder().name("added").result(CukeScenarioResult.PASSED).build());
+		assertThat(feature.getScenarios()).extracting(CukeScenario::getName).endsWith("added");
+
+		Path notSnapshot = tempDir.resolve("report.json");
+		Files.copy(file.toPath(), notSnapshot);
+		assertThatThrownBy(() -> new CukeSnapshotReader().read(notSnapshot)).isInstanceOf(CukeConverterException.class);
+	}
+
+	@Test
+	void test_convert_with_parse_cache(@TempDir Path tempDir) throws IOException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/report_all_pass.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/report_with_background_and_embeddings.json").getFile()));
+		CukeTestRun expected = new CukeConverter().convertToTestRun(files);
+
+		System.setProperty(CukeConverterProperties.CONVERTER_PARSE_CACHE_DIR.getPropertyName(), tempDir.toString());
+		CukeConverter firstConverter = new CukeConverter();
+		CukeTestRun firstRun = firstConverter.convertToTestRun(files);
+		CukeParseCache firstCache = firstConverter.getParseCache().orElseThrow();
+		assertThat(firstCache.getMissCount()).isEqualTo(3);
+		assertThat(firstCache.getHitCount()).isZero();
+		assertThat(firstCache.getEntryCount()).isEqualTo(3);
+
+		CukeConverter secondConverter = new CukeConverter();
+		CukeTestRun secondRun = secondConverter.convertToTestRun(files);
+		CukeParseCache secondCache = secondConverter.getParseCache().orElseThrow();
+		assertThat(secondCache.getHitCount()).isEqualTo(3);
+		assertThat(secondCache.getMissCount()).isZero();
+		assertThat(secondCache.getBytesSaved()).isEqualTo(files.stream().mapToLong(File::length).sum());
+
+		for (CukeTestRun testRun : List.of(firstRun, secondRun)) {
+			assertThat(testRun.getFeatures()).extracting(CukeFeature::getName)
+					.containsExactlyElementsOf(expected.getFeatures().stream().map(CukeFeature::getName).toList());
+			assertThat(testRun.getNumOfScenarios()).isEqualTo(expected.getNumOfScenarios());
+			assertThat(testRun.getNumOfFailedScenarios()).isEqualTo(expected.getNumOfFailedScenarios());
+			assertThat(testRun.getStepResultCounter()).isEqualTo(expected.getStepResultCounter());
+			assertThat(testRun.getTotalDuration()).isEqualTo(expected.getTotalDuration());
+			assertThat(testRun.getStartTime()).isEqualTo(expected.getStartTime());
+			assertThat(testRun.getEndTime()).isEqualTo(expected.getEndTime());
+		}
+		CukeScenario cachedScenario = secondRun.getFeatures().get(0).getScenarios().get(0);
+		assertThat(describeSteps(cachedScenario.getScenarioSteps()))
+				.isEqualTo(describeSteps(expected.getFeatures().get(0).getScenarios().get(0).getScenarioSteps()));
+
+		Path copy = copyResource(classLoader, "reportconvertservice/merge-no-common-feature/report_feature_cart.json",
+				tempDir.resolve("copy.json"));
+		CukeTestRun copyRun = secondConverter.convertToTestRun(List.of(copy.toFile()));
+		assertThat(secondCache.getHitCount()).isEqualTo(4);
+		assertThat(copyRun.getFeatures()).flatExtracting(CukeFeature::getScenarios)
+				.extracting(CukeScenario::getSourceFile).containsOnly(copy.toString());
+	}
+
+	@Test
+	void test_parse_cache_with_columnar_steps(@TempDir Path tempDir) {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/report_all_pass.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/report_with_background_and_embeddings.json").getFile()));
+		CukeTestRun objectRun = new CukeConverter().convertToTestRun(files);
+
+		System.setProperty(CukeConverterProperties.CONVERTER_COLUMNAR_STEPS.getPropertyName(), "true");
+		System.setProperty(CukeConverterProperties.CONVERTER_PARSE_CACHE_DIR.getPropertyName(), tempDir.toString());
+		new CukeConverter().convertToTestRun(files);
+		CukeConverter converter = new CukeConverter();
+		CukeTestRun cachedRun = converter.convertToTestRun(files);
+
+		assertThat(converter.getParseCache().orElseThrow().getHitCount()).isEqualTo(2);
+		assertSameSteps(cachedRun, objectRun);
+	}
+
+	@Test
+	void test_parse_cache_skips_files_with_read_errors(@TempDir Path tempDir) {
+		System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "false");
+		System.setProperty(CukeConverterProperties.CONVERTER_PARSE_CACHE_DIR.getPropertyName(), tempDir.toString());
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/report_with_wrong_format.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/report_all_pass.json").getFile()));
+
+		CukeConverter converter = new CukeConverter();
+		converter.convertToTestRun(files);
+		CukeParseCache cache = converter.getParseCache().orElseThrow();
+		assertThat(cache.getEntryCount()).isEqualTo(1);
+
+		converter.convertToTestRun(files);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.get(files.get(0).toPath())).isEmpty();
+	}
+
+	@Test
+	void test_parse_cache_evicts_least_recently_used(@TempDir Path tempDir) throws IOException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<Path> files = Stream.of("reportconvertservice/report_all_pass.json",
+				"reportconvertservice/merge-no-common-feature/report_feature_cart.json",
+				"reportconvertservice/report_with_background_and_embeddings.json")
+				.map(f -> new File(classLoader.getResource(f).getFile()).toPath()).toList();
+		CukeConverter converter = new CukeConverter();
+		List<CukeTestRun> testRuns = files.stream().map(f -> converter.convertToTestRun(List.of(f.toFile()))).toList();
+
+		CukeParseCache unbounded = new CukeParseCache(tempDir.resolve("unbounded"), Long.MAX_VALUE, "");
+		long[] entrySizes = new long[files.size()];
+		for (int i = 0; i < files.size(); i++) {
+			long size = unbounded.getSize();
+			unbounded.put(files.get(i), testRuns.get(i));
+			entrySizes[i] = unbounded.getSize() - size;
+		}
+
+		CukeParseCache cache = new CukeParseCache(tempDir.resolve("bounded"), Arrays.stream(entrySizes).sum() - 1, "");
+		cache.put(files.get(0), testRuns.get(0));
+		cache.put(files.get(1), testRuns.get(1));
+		assertThat(cache.get(files.get(0))).isPresent();
+		cache.put(files.get(2), testRuns.get(2));
+
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+		assertThat(cache.getSize()).isEqualTo(entrySizes[0] + entrySizes[2]);
+		assertThat(cache.get(files.get(1))).isEmpty();
+		assertThat(cache.get(files.get(0))).isPresent();
+		assertThat(cache.get(files.get(2))).isPresent();
+
+		CukeParseCache otherNamespace = new CukeParseCache(tempDir.resolve("bounded"), Long.MAX_VALUE, "other");
+		assertThat(otherNamespace.getEntryCount()).isEqualTo(2);
+		assertThat(otherNamespace.get(files.get(0))).isEmpty();
+	}
+
+	@Test
+	void test_update_test_run(@TempDir Path tempDir) throws IOException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		Path productApi = copyResource(classLoader, "reportconvertservice/merge-common-feature/report_feature_product_api.json", tempDir.resolve("a.json"));
+		Path productUi = copyResource(classLoader, "reportconvertservice/merge-common-feature/report_feature_product_ui.json", tempDir.resolve("b.json"));
+		Path cart = copyResource(classLoader, "reportconvertservice/merge-no-common-feature/report_feature_cart.json", tempDir.resolve("c.json"));
+
+		CukeConverter converter = new CukeConverter();
+		CukeTestRun testRun = converter.convertToTestRun(List.of(productApi.toFile(), productUi.toFile(), cart.toFile()));
+		assertThat(testRun.getFeatures()).flatExtracting(CukeFeature::getScenarios).extracting(CukeScenario::getSourceFile)
+				.containsOnly(productApi.toString(), productUi.toString(), cart.toString());
+
+		copyResource(classLoader, "reportconvertservice/report_all_pass.json", productUi);
+		Path background = copyResource(classLoader, "reportconvertservice/report_with_background_and_embeddings.json", tempDir.resolve("d.json"));
+		converter.updateTestRun(testRun, List.of(productUi.toFile(), background.toFile()), List.of(cart.toFile()));
+
+		CukeTestRun expected = converter.convertToTestRun(List.of(productApi.toFile(), productUi.toFile(), background.toFile()));
+		assertThat(testRun.getNumOfScenarios()).isEqualTo(expected.getNumOfScenarios());
+		assertThat(testRun.getNumOfPassedScenarios()).isEqualTo(expected.getNumOfPassedScenarios());
+		assertThat(testRun.getNumOfFailedScenarios()).isEqualTo(expected.getNumOfFailedScenarios());
+		assertThat(testRun.getStepResultCounter()).isEqualTo(expected.getStepResultCounter());
+		assertThat(testRun.getTotalDuration()).isEqualTo(expected.getTotalDuration());
+		assertThat(testRun.getTotalTags()).isEqualTo(expected.getTotalTags());
+		assertThat(testRun.getStartTime()).isEqualTo(expected.getStartTime());
+		assertThat(testRun.getEndTime()).isEqualTo(expected.getEndTime());
+		assertThat(testRun.getFeatures()).extracting(CukeFeature::getName)
+				.containsExactlyInAnyOrderElementsOf(expected.getFeatures().stream().map(CukeFeature::getName).toList());
+		for (CukeFeature expectedFeature : expected.getFeatures()) {
+			CukeFeature feature = testRun.getFeatures().stream().filter(f -> f.getName().equals(expectedFeature.getName()))
+					.findFirst().orElseThrow();
+			assertThat(feature.getScenarios()).extracting(CukeScenario::getName)
+					.containsExactlyInAnyOrderElementsOf(expectedFeature.getScenarios().stream().map(CukeScenario::getName).toList());
+			assertThat(feature.getNumOfFailedScenarios()).isEqualTo(expectedFeature.getNumOfFailedScenarios());
+			assertThat(feature.getStepResultCounter()).isEqualTo(expectedFeature.getStepResultCounter());
+			assertThat(feature.getTotalDuration()).isEqualTo(expectedFeature.getTotalDuration());
+			assertThat(feature.getTotalTags()).isEqualTo(expectedFeature.getTotalTags());
+			assertThat(feature.getScenarioMinStartTime()).isEqualTo(expectedFeature.getScenarioMinStartTime());
+			assertThat(feature.getScenarioMaxEndTime()).isEqualTo(expectedFeature.getScenarioMaxEndTime());
+		}
+	}
+
+	@Test
+	void test_feature_remove_scenarios_of_other_feature() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Arrays.asList(
+				new File(classLoader.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile()),
+				new File(classLoader.getResource("reportconvertservice/merge-no-common-feature/report_feature_product.json").getFile()));
+		CukeTestRun testRun = new CukeConverter().convertToTestRun(files);
+		CukeFeature feature = testRun.getFeatures().get(0);
+		CukeFeature otherFeature = testRun.getFeatures().get(1);
+		CukeScenario removed = feature.getScenarios().get(0);
+		int numOfScenarios = feature.getNumOfScenarios();
+		int numOfPassedScenarios = feature.getNumOfPassedScenarios() - (removed.isSuccess() ? 1 : 0);
+		int numOfFailedScenarios = feature.getNumOfFailedScenarios() - (removed.isSuccess() ? 0 : 1);
+		long totalDuration = feature.getTotalDuration() - removed.getTotalDuration();
+		CukeStepResultCounter stepResultCounter = new CukeStepResultCounter(feature.getStepResultCounter());
+		stepResultCounter.subtractAll(removed.getStepResultCounter());
+
+		feature.removeScenarios(List.of(removed, otherFeature.getScenarios().get(0)));
+
+		assertThat(feature.getNumOfScenarios()).isEqualTo(numOfScenarios - 1);
+		assertThat(feature.getNumOfPassedScenarios()).isEqualTo(numOfPassedScenarios);
+		assertThat(feature.getNumOfFailedScenarios()).isEqualTo(numOfFailedScenarios);
+		assertThat(feature.getTotalDuration()).isEqualTo(totalDuration);
+		assertThat(feature.getStepResultCounter()).isEqualTo(stepResultCounter);
+		assertThat(otherFeature.getScenarios()).isNotEmpty();
+	}
+
+	@Test
+	void test_update_test_run_parallel_parse(@TempDir Path tempDir) throws IOException {
+		System.setProperty(CukeConverterProperties.CONVERTER_PARALLEL_PARSE.getPropertyName(), "true");
+		final ClassLoader classLoader = getClass().getClassLoader();
+		Path productApi = copyResource(classLoader, "reportconvertservice/merge-common-feature/report_feature_product_api.json", tempDir.resolve("a.json"));
+		Path cart = copyResource(classLoader, "reportconvertservice/merge-no-common-feature/report_feature_cart.json", tempDir.resolve("b.json"));
+
+		CukeConverter converter = new CukeConverter();
+		CukeTestRun testRun = converter.convertToTestRun(List.of(productApi.toFile(), cart.toFile()));
+		assertThat(testRun.getFeatures()).flatExtracting(CukeFeature::getScenarios).extracting(CukeScenario::getSourceFile)
+				.containsOnly(productApi.toString(), cart.toString());
+		int numOfScenarios = testRun.getNumOfScenarios();
+
+		converter.updateTestRun(testRun, List.of(cart.toFile()), List.of());
+		assertThat(testRun.getNumOfScenarios()).isEqualTo(numOfScenarios);
+		assertThat(testRun.getStepResultCounter())
+				.isEqualTo(converter.convertToTestRun(List.of(productApi.toFile(), cart.toFile())).getStepResultCounter());
+	}
+
+	@Test
+	void test_tag_expressions() {
+		assertThat(TagExpression.parse("")).isEqualTo(new TagExpression.True());
+		assertThat(TagExpression.parse("@a or @b and not @c")).hasToString("( @a or ( @b and not ( @c ) ) )");
+		assertThat(TagExpression.parse("not (@a or @b) and @c")).hasToString("( not ( @a or @b ) and @c )");
+		assertThat(TagExpression.parse("@a and @b or @c")).hasToString("( ( @a and @b ) or @c )");
+		assertThat(TagExpression.parse("@x\\(1\\) and @with\\ space")).isEqualTo(
+				new TagExpression.And(new TagExpression.Tag("@x(1)"), new TagExpression.Tag("@with space")));
+
+		TagExpression expression = TagExpression.parse("@smoke and not (@wip or @flaky)");
+		assertThat(expression.evaluate(List.of("@smoke"))).isTrue();
+		assertThat(expression.evaluate(List.of("@smoke", "@flaky"))).isFalse();
+		assertThat(expression.evaluate(List.of("@wip"))).isFalse();
+		assertThat(new TagExpression.True().evaluate(List.of())).isTrue();
+
+		for (String invalid : List.of("@a @b", "@a and", "or @a", "(@a", "@a)", "not", "@a\\b", "@a\\")) {
+			assertThatThrownBy(() -> TagExpression.parse(invalid)).isInstanceOf(CukeConverterException.class)
+					.hasMessageStartingWith("Tag expression \"" + invalid + "\" could not be parsed");
+		}
+	}
+
+	@Test
+	void test_query_test_run() {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final List<File> files = Stream.of("reportconvertservice/report_all_pass.json",
+				"reportconvertservice/report_with_background_and_embeddings.json",
+				"reportconvertservice/merge-common-feature/report_feature_product_api.json",
+				"reportconvertservice/merge-common-feature/report_feature_product_ui.json")
+				.map(f -> new File(classLoader.getResource(f).getFile())).toList();
+		CukeTestRun testRun = new CukeConverter().convertToTestRun(files);
+		List<CukeScenario> allScenarios = testRun.getFeatures().stream().flatMap(f -> f.getScenarios().stream()).toList();
+		Predicate<CukeScenario> hasTag = s -> s.getTags().contains("@feature-product")
+				|| s.getParent().getTags().contains("@feature-product");
+
+		CukeQuery productNotUi = CukeQuery.builder().tags("@feature-product and not @ui-test").build();
+		assertThat(productNotUi.findScenarios(testRun)).isNotEmpty().containsExactlyElementsOf(allScenarios.stream()
+				.filter(hasTag).filter(s -> !s.getTags().contains("@ui-test")).toList());
+
+		CukeQuery failedCheckout = CukeQuery.builder().tags("@checkout and not @wip")
+				.result(CukeScenarioResult.FAILED).featureNameMatching("(?i)checkout").build();
+		assertThat(failedCheckout.findScenarios(testRun)).isNotEmpty().containsExactlyElementsOf(allScenarios.stream()
+				.filter(s -> s.getTags().contains("@checkout") && !s.isSuccess())
+				.filter(s -> s.getParent().getName().toLowerCase().contains("checkout")).toList());
+
+		CukeQuery slow = CukeQuery.builder().minDuration(Duration.ofMillis(20)).parallel(true).build();
+		assertThat(slow.findScenarios(testRun)).isNotEmpty().containsExactlyElementsOf(
+				allScenarios.stream().filter(s -> s.getTotalDuration() >= Duration.ofMillis(20).toNanos()).toList());
+		assertThat(slow.countScenarios(testRun)).isLessThan(allScenarios.size());
+
+		CukeQuery failedSteps = CukeQuery.builder().stepResult(CukeStepResult.FAILED, CukeStepResult.SKIPPED)
+				.stepSection(CukeStepSection.SCENARIO).build();
+		List<CukeStep> expectedSteps = allScenarios.stream().flatMap(s -> s.getScenarioSteps().stream())
+				.filter(st -> st.getResult() == CukeStepResult.FAILED || st.getResult() == CukeStepResult.SKIPPED)
+				.toList();
+		assertThat(failedSteps.findSteps(testRun)).isNotEmpty().containsExactlyElementsOf(expectedSteps);
+		assertThat(failedSteps.findScenarios(testRun))
+				.containsExactlyElementsOf(allScenarios.stream().filter(s -> s.getScenarioSteps().stream()
+						.anyMatch(st -> expectedSteps.contains(st))).toList());
+		assertThat(CukeQuery.builder().parallel(true).build().findSteps(testRun))
+				.containsExactlyElementsOf(CukeQuery.builder().build().findSteps(testRun));
+	}
+
+	@Test
+	void test_tag_index(@TempDir Path tempDir) throws IOException {
+		System.setProperty(CukeConverterProperties.CONVERTER_TAG_INDEX.getPropertyName(), "true");
+		final ClassLoader classLoader = getClass().getClassLoader();
+		Path allPass = copyResource(classLoader, "reportconvertservice/report_all_pass.json", tempDir.resolve("a.json"));
+		Path productApi = copyResource(classLoader, "reportconvertservice/merge-common-feature/report_feature_product_api.json", tempDir.resolve("b.json"));
+		Path productUi = copyResource(classLoader, "reportconvertservice/merge-common-feature/report_feature_product_ui.json", tempDir.resolve("c.json"));
+
+		CukeConverter converter = new CukeConverter();
+		CukeTestRun testRun = converter.convertToTestRun(List.of(allPass.toFile(), productApi.toFile(), productUi.toFile()));
+		CukeTagIndex tagIndex = testRun.getTagIndex();
+		assertThat(tagIndex).isNotNull();
+		assertThat(tagIndex.size()).isEqualTo(testRun.getNumOfScenarios());
+
+		CukeTestRun unindexed = CukeTestRun.builder().features(testRun.getFeatures()).build();
+		CukeQuery productNotUi = CukeQuery.builder().tags("@feature-product and not @ui-test").build();
+		CukeQuery passedCartOrApi = CukeQuery.builder().tags("@feature-cart or @api-test")
+				.result(CukeScenarioResult.PASSED).parallel(true).build();
+		assertThat(productNotUi.findScenarios(testRun)).isNotEmpty()
+				.containsExactlyElementsOf(productNotUi.findScenarios(unindexed));
+		assertThat(passedCartOrApi.findScenarios(testRun)).isNotEmpty()
+				.containsExactlyElementsOf(passedCartOrApi.findScenarios(unindexed));
+		assertThat(tagIndex.count("@feature-product"))
+				.isEqualTo(CukeQuery.builder().tags("@feature-product").build().countScenarios(unindexed));
+		assertThat(tagIndex.getTagCounts().keySet()).containsExactlyElementsOf(testRun.getTotalTags().stream().sorted().toList());
+
+		converter.updateTestRun(testRun, List.of(), List.of(productUi.toFile()));
+		assertThat(tagIndex.size()).isEqualTo(testRun.getNumOfScenarios());
+		assertThat(tagIndex.getTags()).doesNotContain("@ui-test");
+		assertThat(productNotUi.findScenarios(testRun)).isNotEmpty()
+				.containsExactlyElementsOf(productNotUi.findScenarios(unindexed));
+
+		converter.updateTestRun(testRun, List.of(productUi.toFile()), List.of());
+		assertThat(tagIndex.size()).isEqualTo(testRun.getNumOfScenarios());
+		assertThat(productNotUi.findScenarios(testRun)).containsExactlyInAnyOrderElementsOf(productNotUi.findScenarios(unindexed));
+		assertThat(CukeQuery.builder().tags("@ui-test").build().findScenarios(testRun))
+				.containsExactlyInAnyOrderElementsOf(CukeQuery.builder().tags("@ui-test").build().findScenarios(unindexed))
+				.isNotEmpty();
+	}
+
+	private static Path copyResource(ClassLoader classLoader, String resource, Path target) throws IOException {
+		try (InputStream in = classLoader.getResourceAsStream(resource)) {
+			Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+		return target;
+	}
+
+	@Test
+	void test_convert_compressed_reports(@TempDir Path tempDir) throws IOException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final File file1 = new File(classLoader
+				.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile());
+		final File file2 = new File(classLoader
+				.getResource("reportconvertservice/merge-no-common-feature/report_feature_product.json").getFile());
+
+		List<Feature> expectedFeatures = new CukeConverter().convertCucumberJsonFiles(Arrays.asList(file1, file2));
+
+		Path gzipFile = tempDir.resolve("report_feature_cart.json.gz");
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(gzipFile))) {
+			Files.copy(file1.toPath(), out);
+		}
+		Path zipFile = tempDir.resolve("reports.zip");
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(zipFile))) {
+			for (File f : Arrays.asList(file1, file2)) {
+				out.putNextEntry(new ZipEntry("shard/" + f.getName()));
+				Files.copy(f.toPath(), out);
+			}
+			out.putNextEntry(new ZipEntry("shard/console.log"));
+			out.write("not a report".getBytes());
+		}
+
+		cukeConverter = new CukeConverter();
+		assertThat(cukeConverter.convertCucumberJsonFiles(Arrays.asList(gzipFile.toFile(), file2)))
+				.isEqualTo(expectedFeatures);
+		assertThat(cukeConverter.convertCucumberJson(zipFile)).isEqualTo(expectedFeatures);
+		assertThat(cukeConverter.convertCucumberJson(Files.newInputStream(zipFile))).isEqualTo(expectedFeatures);
+		assertThat(cukeConverter.convertCucumberJson(Files.readAllBytes(gzipFile)))
+				.isEqualTo(expectedFeatures.subList(0, 1));
+
+		System.setProperty(CukeConverterProperties.CONVERTER_PARALLEL_PARSE.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+		assertThat(cukeConverter.convertCucumberJsonFiles(Arrays.asList(zipFile.toFile(), gzipFile.toFile())))
+				.hasSize(3).startsWith(expectedFeatures.toArray(new Feature[0]));
+
+		System.setProperty(CukeConverterProperties.CONVERTER_STREAMING_PARSE.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+		CukeTestRun testRun = cukeConverter.convertToTestRun(Arrays.asList(zipFile.toFile()));
+		assertThat(testRun.getFeatures()).extracting(CukeFeature::getName)
+				.containsExactly("Adding Items to Cart", "Product Search");
+	}
+
+	@Test
+	void test_convert_directory(@TempDir Path tempDir) throws IOException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final Path file1 = Path.of(classLoader
+				.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile());
+		final Path file2 = Path.of(classLoader
+				.getResource("reportconvertservice/merge-no-common-feature/report_feature_product.json").getFile());
+
+		Files.createDirectories(tempDir.resolve("shard-2/nested"));
+		Files.createDirectories(tempDir.resolve("shard-1"));
+		Files.copy(file2, tempDir.resolve("shard-2/nested/report.json"));
+		Files.copy(file1, tempDir.resolve("shard-1/report.json"));
+		Files.writeString(tempDir.resolve("shard-1/console.log"), "not a report");
+
+		cukeConverter = new CukeConverter();
+		CukeTestRun testRun = cukeConverter.convertDirectory(tempDir, "**.json");
+		assertThat(testRun.getFeatures()).extracting(CukeFeature::getName)
+				.containsExactly("Adding Items to Cart", "Product Search");
+		assertThat(cukeConverter.convertDirectory(tempDir, "*.json").getFeatures()).isEmpty();
+
+		System.setProperty(CukeConverterProperties.CONVERTER_PARALLEL_PARSE.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+		testRun = cukeConverter.convertDirectory(tempDir, "shard-*/**/*.json");
+		assertThat(testRun.getFeatures()).extracting(CukeFeature::getName).containsExactly("Product Search");
+		testRun = cukeConverter.convertDirectory(tempDir, "**.json");
+		assertThat(testRun.getFeatures()).extracting(CukeFeature::getName)
+				.containsExactly("Adding Items to Cart", "Product Search");
+
+		System.setProperty(CukeConverterProperties.CONVERTER_FUSED_CONVERSION.getPropertyName(), "true");
+		cukeConverter = new CukeConverter();
+		CukeTestRun fusedTestRun = cukeConverter.convertDirectory(tempDir, "**.json");
+		assertThat(fusedTestRun.getFeatures()).extracting(CukeFeature::getName)
+				.containsExactly("Adding Items to Cart", "Product Search");
+		assertThat(fusedTestRun.getNumOfPassedScenarios()).isEqualTo(testRun.getNumOfPassedScenarios());
+		assertThat(fusedTestRun.getNumOfFailedScenarios()).isEqualTo(testRun.getNumOfFailedScenarios());
+	}
+
+	@Test
+	void test_watch_directory(@TempDir Path tempDir) throws IOException, InterruptedException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final Path file1 = Path.of(classLoader
+				.getResource("reportconvertservice/merge-common-feature/report_feature_product_api.json").getFile());
+		final Path file2 = Path.of(classLoader
+				.getResource("reportconvertservice/merge-common-feature/report_feature_product_ui.json").getFile());
+
+		Files.copy(file1, tempDir.resolve("report_api.json"));
+
+		BlockingQueue<CukeTestRun> snapshots = new LinkedBlockingQueue<>();
+		try (CukeReportWatcher watcher = new CukeReportWatcher(new CukeConverter(), tempDir, "**.json")) {
+			watcher.addListener(snapshots::add);
+			watcher.start();
+			assertThat(watcher.getSnapshot().getFeatures()).hasSize(1);
+			assertThat(watcher.getSnapshot().getFeatures().get(0).getScenarios()).hasSize(1);
+
+			Files.createDirectories(tempDir.resolve("shard-2"));
+			Files.copy(file2, tempDir.resolve("shard-2/report_ui.json"));
+			CukeTestRun testRun = awaitSnapshot(snapshots, r -> r.getFeatures().get(0).getNumOfScenarios() == 3);
+			assertThat(testRun.getFeatures()).hasSize(1);
+			assertThat(testRun.getFeatures().get(0).getNumOfPassedScenarios()).isEqualTo(3);
+			assertThat(testRun.getStartTime()).isNotNull();
+
+			Files.delete(tempDir.resolve("report_api.json"));
+			testRun = awaitSnapshot(snapshots, r -> r.getFeatures().get(0).getNumOfScenarios() == 2);
+			assertThat(testRun.getFeatures().get(0).getNumOfPassedScenarios()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void test_watch_directory_incremental(@TempDir Path tempDir) throws IOException, InterruptedException {
+		final ClassLoader classLoader = getClass().getClassLoader();
+		final Path cartFile = Path.of(classLoader
+				.getResource("reportconvertservice/merge-no-common-feature/report_feature_cart.json").getFile());
+		final Path productFile = Path.of(classLoader
+				.getResource("reportconvertservice/merge-common-feature/report_feature_product_ui.json").getFile());
+
+		Files.copy(cartFile, tempDir.resolve("report_cart.json"));
+
+		System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "false");
+		BlockingQueue<CukeTestRun> snapshots = new LinkedBlockingQueue<>();
+		try (CukeReportWatcher watcher = new CukeReportWatcher(new CukeConverter(), tempDir, "**.json")) {
+			watcher.addListener(snapshots::add);
+			watcher.start();
+			CukeFeature cartFeature = watcher.getSnapshot().getFeatures().get(0);
+
+			// a half-written report is converted again on its next change, even if its
+			// modification time is unchanged
+			Path productReport = tempDir.resolve("shard-2/report_product.json");
+			Files.createDirectories(productReport.getParent());
+			awaitSnapshot(snapshots, r -> true);
+			byte[] productJson = Files.readAllBytes(productFile);
+			Files.write(productReport, Arrays.copyOf(productJson, productJson.length / 2));
+			FileTime lastModified = Files.getLastModifiedTime(productReport);
+			awaitSnapshot(snapshots, r -> true);
+			Files.write(productReport, productJson);
+			Files.setLastModifiedTime(productReport, lastModified);
+			CukeTestRun testRun = awaitSnapshot(snapshots, r -> r.getFeatures().size() == 2);
+
+			// the features that were not modified are shared with the previous snapshot
+			assertThat(testRun.getFeatures().get(0)).isSameAs(cartFeature);
+			assertThat(testRun.getNumOfPassedScenarios() + testRun.getNumOfFailedScenarios())
+					.isEqualTo(cartFeature.getNumOfScenarios() + testRun.getFeatures().get(1).getNumOfScenarios());
+
+			// the reports of a deleted directory are removed
+			Files.delete(productReport);
+			Files.delete(productReport.getParent());
+			testRun = awaitSnapshot(snapshots, r -> r.getFeatures().size() == 1);
+			assertThat(testRun.getFeatures().get(0)).isSameAs(cartFeature);
+		}
+	}
+
+	private CukeTestRun awaitSnapshot(BlockingQueue<CukeTestRun> snapshots, Predicate<CukeTestRun> condition)
+			throws InterruptedException {
+		CukeTestRun testRun;
+		do {
+			testRun = snapshots.poll(30, TimeUnit.SECONDS);
+			assertThat(testRun).isNotNull();
+		} while (!condition.test(testRun));
+		return testRun;
+	}
 }
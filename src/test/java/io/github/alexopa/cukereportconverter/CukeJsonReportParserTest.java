@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright 2024 Andreas Alexopoulos (https://alexop-a.github.io/)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package io.github.alexopa.cukereportconverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.github.alexopa.cukereportconverter.config.CukeConverterProperties;
+import io.github.alexopa.cukereportconverter.config.JsonParserType;
+import io.github.alexopa.cukereportconverter.model.jsonreport.Feature;
+import io.github.alexopa.cukereportconverter.service.CukeConverter;
+
+/**
+ * Differential tests that compare the hand-written schema parser with the
+ * jackson-databind parser
+ */
+class CukeJsonReportParserTest {
+
+	private void resetPropertiesToDefault() {
+		for (CukeConverterProperties prop: CukeConverterProperties.values()) {
+			System.setProperty(prop.getPropertyName(), prop.getDefaultValue());
+		}
+	}
+
+	@BeforeEach
+	public void test_setup() {
+		resetPropertiesToDefault();
+		System.setProperty(CukeConverterProperties.CONVERTER_FAIL_ON_ERROR.getPropertyName(), "true");
+	}
+
+	static Stream<Path> reportFiles() throws IOException, URISyntaxException {
+		Path root = Path.of(CukeJsonReportParserTest.class.getClassLoader().getResource("reportconvertservice").toURI());
+		try (Stream<Path> paths = Files.walk(root)) {
+			return paths.filter(p -> p.toString().endsWith(".json")).sorted().toList().stream();
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("reportFiles")
+	void test_schema_parser_matches_databind(Path reportFile) {
+		assertSameResult(converter -> converter.convertCucumberJsonFiles(List.of(reportFile.toFile())));
+	}
+
+	@ParameterizedTest
+	@MethodSource("reportFiles")
+	void test_schema_parser_matches_databind_streaming(Path reportFile) {
+		assertSameResult(converter -> {
+			List<Feature> features = new ArrayList<>();
+			converter.streamCucumberJsonFiles(List.of(reportFile.toFile()), features::add);
+			return features;
+		});
+	}
+
+	@ParameterizedTest
+	@MethodSource("reportFiles")
+	void test_schema_parser_matches_databind_with_projection(Path reportFile) {
+		System.setProperty(CukeConverterProperties.CONVERTER_STEP_FIELDS.getPropertyName(), "keyword,name,result,match");
+		System.setProperty(CukeConverterProperties.CONVERTER_ELEMENT_FIELDS.getPropertyName(), "name,steps,after");
+
+		assertSameResult(converter -> converter.convertCucumberJsonFiles(List.of(reportFile.toFile())));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+			"[]",
+			"[{\"name\":\"f\",\"line\":\"3\",\"tags\":null,\"unknown\":{\"a\":[1,{\"b\":2}]},\"elements\":[{"
+					+ "\"type\":\"scenario\",\"start_timestamp\":\"2024-03-04T10:11:12.123Z\",\"steps\":[{"
+					+ "\"name\":\"s\",\"line\":4.0,\"rows\":[{\"cells\":[\"a\",null,1]}],\"doc_string\":null,"
+					+ "\"result\":{\"status\":\"passed\",\"duration\":\"15\"}}]}]}]",
+			"[{\"elements\":[{\"start_timestamp\":\"04/03/2024\"}]}]",
+			"[{\"elements\":[{\"start_timestamp\":\"2024-02-30T10:11:12.123Z\"}]}]",
+			"[{\"elements\":[{\"start_timestamp\":\"2024-13-01T10:11:12.123Z\"}]}]",
+			"[{\"elements\":[{\"start_timestamp\":\"\"}]}]",
+			"[{\"name\":[\"not\",\"a\",\"string\"]}]",
+			"{\"name\":\"not an array\"}",
+			"[{\"name\":\"truncated\""
+	})
+	void test_schema_parser_matches_databind_on_edge_cases(String json) {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		assertSameResult(converter -> converter.convertCucumberJson(bytes));
+	}
+
+	private void assertSameResult(Function<CukeConverter, List<Feature>> conversion) {
+		Object expected = convert(JsonParserType.DATABIND, conversion);
+		Object actual = convert(JsonParserType.SCHEMA, conversion);
+
+		if (expected instanceof Throwable) {
+			assertThat(actual).isInstanceOf(((Throwable) expected).getClass());
+		} else {
+			assertThat(actual).isEqualTo(expected);
+		}
+	}
+
+	private Object convert(JsonParserType parserType, Function<CukeConverter, List<Feature>> conversion) {
+		System.setProperty(CukeConverterProperties.CONVERTER_JSON_PARSER.getPropertyName(), parserType.name());
+		CukeConverter converter = new CukeConverter();
+		List<Feature> result = new ArrayList<>();
+		Throwable error = catchThrowable(() -> result.addAll(conversion.apply(converter)));
+		return error != null ? error : result;
+	}
+
+}